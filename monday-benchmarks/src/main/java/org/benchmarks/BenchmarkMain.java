@@ -0,0 +1,51 @@
+package org.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Runs JMH with the given arguments and, unless they choose a
+ * result format or file, writes the results as JSON to {@code results/monday-<version>.json}, one file
+ * per version of the client under test:
+ * <pre>
+ * {@code
+ * mvn -Dmonday.version=1.0-SNAPSHOT package && java -jar target/benchmarks.jar
+ * java -cp target/benchmarks.jar org.benchmarks.CompareResults results/monday-1.0.json results/monday-1.1.json
+ * }
+ * </pre>
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(List.of(args));
+        if (!arguments.contains("-rf") && !arguments.contains("-rff")) {
+            Path results = Path.of("results", "monday-" + clientVersion() + ".json");
+            Files.createDirectories(results.getParent());
+            arguments.addAll(List.of("-rf", "json", "-rff", results.toString()));
+        }
+        Main.main(arguments.toArray(String[]::new));
+    }
+
+    /**
+     * @return The version of the client the benchmarks were built against
+     */
+    static String clientVersion() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = BenchmarkMain.class.getResourceAsStream("/benchmarks.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        }
+        return properties.getProperty("monday.version", "unknown");
+    }
+}
@@ -0,0 +1,101 @@
+package org.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files, e.g. of two releases written by {@link BenchmarkMain}, and prints
+ * the change of every benchmark present in both. A benchmark is a regression when it got worse by more
+ * than the threshold (5% by default) and more than the error margins of both runs; the exit status is 1
+ * when there is any.
+ * <pre>
+ * {@code
+ * java -cp target/benchmarks.jar org.benchmarks.CompareResults baseline.json candidate.json [thresholdPercent]
+ * }
+ * </pre>
+ */
+public final class CompareResults {
+
+    private CompareResults() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: CompareResults <baseline.json> <candidate.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.05;
+        Map<String, Score> baseline = read(Path.of(args[0]));
+        Map<String, Score> candidate = read(Path.of(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : baseline.entrySet()) {
+            Score before = entry.getValue();
+            Score after = candidate.get(entry.getKey());
+            if (after == null) {
+                continue;
+            }
+            double change = (after.score() - before.score()) / before.score();
+            double worse = before.higherIsBetter() ? -change : change;
+            boolean significant = Math.abs(after.score() - before.score()) > before.error() + after.error();
+            boolean regression = worse > threshold && significant;
+            if (regression) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f -> %14.3f %-10s %+7.1f%%%s%n", entry.getKey(), before.score(),
+                    after.score(), after.unit(), change * 100, regression ? "  REGRESSION" : "");
+        }
+        System.out.printf("%d regression(s) over %.0f%%%n", regressions, threshold * 100);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return The primary score of every benchmark in the file, keyed by its name, mode and parameters
+     */
+    static Map<String, Score> read(final Path file) throws IOException {
+        JsonArray runs;
+        try (Reader reader = Files.newBufferedReader(file)) {
+            runs = JsonParser.parseReader(reader).getAsJsonArray();
+        }
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonElement element : runs) {
+            JsonObject run = element.getAsJsonObject();
+            String mode = run.get("mode").getAsString();
+            StringBuilder key = new StringBuilder(run.get("benchmark").getAsString()).append(' ').append(mode);
+            if (run.has("params")) {
+                Map<String, String> params = new TreeMap<>();
+                run.getAsJsonObject("params").entrySet()
+                        .forEach(param -> params.put(param.getKey(), param.getValue().getAsString()));
+                key.append(' ').append(params);
+            }
+            JsonObject metric = run.getAsJsonObject("primaryMetric");
+            JsonElement error = metric.get("scoreError");
+            scores.put(key.toString(), new Score(
+                    metric.get("score").getAsDouble(),
+                    error == null || !error.isJsonPrimitive() || !error.getAsJsonPrimitive().isNumber()
+                            ? 0
+                            : error.getAsDouble(),
+                    metric.get("scoreUnit").getAsString(),
+                    "thrpt".equals(mode)));
+        }
+        return scores;
+    }
+
+    /**
+     * @param higherIsBetter Whether the score is a throughput rather than a time
+     */
+    record Score(double score, double error, String unit, boolean higherIsBetter) {
+    }
+}
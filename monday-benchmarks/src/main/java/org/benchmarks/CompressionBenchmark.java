@@ -0,0 +1,103 @@
+package org.benchmarks;
+
+import org.http.ApiClient;
+import org.http.CompressionStats;
+import org.http.Priority;
+import org.models.ItemsPage;
+import org.models.Responses;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.query.QueryJoins;
+import org.query.QueryRequest;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares fetching and decoding a page of 500 items sent as is against the same page negotiated
+ * gzip-encoded and inflated while it is decoded. The stub server compresses the page once, so the time
+ * difference is the client's cost of inflating; each iteration prints the response bytes per request
+ * on the wire and once decoded. Run with {@code -prof gc} to check the stream is not buffered twice.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+
+    private static final String TOKEN = "benchmark-token";
+    private static final int ITEMS = 500;
+
+    @Param({"identity", "gzip"})
+    public String encoding;
+
+    private StubServer stub;
+    private ApiClient client;
+    private QueryRequest request;
+
+    @Setup(Level.Trial)
+    public void startServer() throws IOException {
+        StringBuilder body = new StringBuilder(ITEMS * 400);
+        body.append("{\"data\":{\"boards\":[{\"items_page\":{\"cursor\":null,\"items\":[");
+        for (int i = 0; i < ITEMS; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"id\":\"").append(1_000_000 + i).append("\",\"name\":\"Item ").append(i)
+                    .append("\",\"group\":{\"id\":\"topics\",\"title\":\"Topics\"},\"column_values\":[")
+                    .append("{\"id\":\"status\",\"text\":\"Working on it\",\"type\":\"status\",\"value\":\"{\\\"index\\\":0}\"},")
+                    .append("{\"id\":\"person\",\"text\":\"Ada Lovelace\",\"type\":\"people\",\"value\":null},")
+                    .append("{\"id\":\"text\",\"text\":\"Some free text for item ").append(i)
+                    .append("\",\"type\":\"text\",\"value\":\"\\\"Some free text for item ").append(i).append("\\\"\"}]}");
+        }
+        body.append("]}}]},\"account_id\":1}");
+        stub = new StubServer(body.toString());
+        ApiClient.Builder builder = ApiClient.newBuilder().endpoint(stub.endpoint());
+        if ("gzip".equals(encoding)) {
+            stub.gzipResponses(true);
+            builder.compressResponses();
+        }
+        client = builder.build();
+        request = QueryJoins.fetchBoardItemsPageRequest("1", ITEMS);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        stub.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportBytes() {
+        long requests = Math.max(1, stub.requests());
+        System.out.printf("%n[%s] response bytes per request on the wire: %d%n", encoding, stub.bytesSent() / requests);
+        CompressionStats stats = client.compressionStats();
+        if (stats.responseWireBytes() > 0) {
+            System.out.printf("[%s] decoded bytes per wire byte so far: %.1f%n",
+                    encoding, (double) stats.responseBytes() / stats.responseWireBytes());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        client.close();
+        stub.close();
+    }
+
+    @Benchmark
+    public ItemsPage fetchPage() throws IOException, InterruptedException {
+        return client.send(TOKEN, request, Priority.NORMAL, Responses.boardItemsPage());
+    }
+}
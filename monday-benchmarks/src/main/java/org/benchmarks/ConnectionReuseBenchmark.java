@@ -0,0 +1,77 @@
+package org.benchmarks;
+
+import org.http.ApiClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.resources.ItemResource;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a resource per call backed by its own HttpClient (the behaviour before resources
+ * shared a transport) against resources sharing one {@link ApiClient}.
+ * Each measurement iteration issues 10,000 {@code fetchItemById} calls and prints how many
+ * connections, and therefore handshakes, the stub server had to accept for them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, batchSize = 1_000)
+@Measurement(iterations = 3, batchSize = 10_000)
+@Fork(1)
+public class ConnectionReuseBenchmark {
+
+    private static final String TOKEN = "benchmark-token";
+
+    @Param({"shared", "perResource"})
+    public String mode;
+
+    private StubServer stub;
+    private ApiClient sharedClient;
+
+    @Setup(Level.Trial)
+    public void startServer() throws IOException {
+        stub = new StubServer(StubServer.ITEM_RESPONSE);
+        sharedClient = ApiClient.newBuilder().endpoint(stub.endpoint()).build();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        stub.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportHandshakes() {
+        long requests = Math.max(1, stub.requests());
+        System.out.printf("%n[%s] handshakes per 10k calls: %d (%d connections / %d requests)%n",
+                mode, stub.connections() * 10_000L / requests, stub.connections(), requests);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        sharedClient.close();
+        stub.close();
+    }
+
+    @Benchmark
+    public String fetchItemById() throws IOException, InterruptedException {
+        if ("shared".equals(mode)) {
+            return new ItemResource(TOKEN, sharedClient).fetchItemById("1");
+        }
+        try (ApiClient perResource = ApiClient.newBuilder().endpoint(stub.endpoint()).build()) {
+            return new ItemResource(TOKEN, perResource).fetchItemById("1");
+        }
+    }
+}
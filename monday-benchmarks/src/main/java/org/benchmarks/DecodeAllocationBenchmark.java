@@ -0,0 +1,85 @@
+package org.benchmarks;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.models.Item;
+import org.models.ItemsPage;
+import org.models.Responses;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding a large board payload the way the String methods leave it to callers
+ * (the body as a String, then a Gson tree) against streaming it into the typed models.
+ * The payload is about 10 MB of items with column values, as sent for a large board.
+ * Run with {@code -prof gc} to compare {@code gc.alloc.rate.norm}, reported per item.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecodeAllocationBenchmark {
+
+    private static final int ITEMS = 20_000;
+
+    private byte[] payload;
+
+    @Setup
+    public void buildPayload() {
+        StringBuilder body = new StringBuilder(ITEMS * 520);
+        body.append("{\"data\":{\"boards\":[{\"items_page\":{\"cursor\":\"MSw5NzI4MDA5MDAsaV9YcmxJb0p1VEdYc1VWeGlxeF9kLDg4MiwzNXw0MTQ1NzU1MTE5\",\"items\":[");
+        for (int i = 0; i < ITEMS; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"id\":\"").append(1_000_000 + i).append("\",\"name\":\"Item ").append(i)
+                    .append("\",\"group\":{\"id\":\"topics\",\"title\":\"Topics\"},\"column_values\":[")
+                    .append("{\"id\":\"status\",\"text\":\"Working on it\",\"type\":\"status\",\"value\":\"{\\\"index\\\":0,\\\"post_id\\\":null,\\\"changed_at\\\":\\\"2024-01-01T00:00:00.000Z\\\"}\"},")
+                    .append("{\"id\":\"person\",\"text\":\"Ada Lovelace\",\"type\":\"people\",\"value\":\"{\\\"personsAndTeams\\\":[{\\\"id\\\":4012,\\\"kind\\\":\\\"person\\\"}]}\"},")
+                    .append("{\"id\":\"date4\",\"text\":\"2024-01-01\",\"type\":\"date\",\"value\":\"{\\\"date\\\":\\\"2024-01-01\\\",\\\"icon\\\":null}\"},")
+                    .append("{\"id\":\"text\",\"text\":\"Some free text for item ").append(i)
+                    .append("\",\"type\":\"text\",\"value\":\"\\\"Some free text for item ").append(i).append("\\\"\"}]}");
+        }
+        body.append("]}}]},\"account_id\":1}");
+        payload = body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void stringThenTree(Blackhole blackhole) {
+        String body = new String(payload, StandardCharsets.UTF_8);
+        JsonObject page = JsonParser.parseString(body).getAsJsonObject()
+                .getAsJsonObject("data").getAsJsonArray("boards").get(0).getAsJsonObject()
+                .getAsJsonObject("items_page");
+        for (JsonElement item : page.getAsJsonArray("items")) {
+            blackhole.consume(item.getAsJsonObject().get("name").getAsString());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void streamingModels(Blackhole blackhole) throws IOException {
+        ItemsPage page = Responses.boardItemsPage().decode(new ByteArrayInputStream(payload));
+        for (Item item : page.items()) {
+            blackhole.consume(item.name());
+        }
+    }
+}
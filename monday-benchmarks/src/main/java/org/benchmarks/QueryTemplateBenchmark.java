@@ -0,0 +1,139 @@
+package org.benchmarks;
+
+import org.http.RequestBodies;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.query.QueryJoins;
+import org.query.QueryTemplate;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Renders every {@link QueryJoins} query, before and after templates were compiled.
+ * The {@code formatted*} benchmarks format the same template text with {@link String#formatted}
+ * and wrap it in a {@link JSONObject}, as every call did before; the {@code compiled*} benchmarks
+ * go through {@link QueryJoins} and {@link RequestBodies}.
+ * Run with {@code -prof gc} to compare allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryTemplateBenchmark {
+
+    private static final String BOARD = "1234567890";
+    private static final String ITEM = "9876543210";
+    private static final String GROUP = "topics";
+    private static final String NAME = "Quarterly \"planning\" review";
+    private static final String COLUMN_VALUES =
+            "\"{\\\"status\\\":{\\\"label\\\":\\\"Done\\\"},\\\"date4\\\":{\\\"date\\\":\\\"2024-01-01\\\"}}\"";
+    private static final String FILTER =
+            "limit: 50, board_id: 1234567890, columns: [{column_id: \"status\", column_values: [\"Done\"]}]";
+    private static final String TEXT = "Deployment finished, see the release notes";
+
+    @Param({
+            "mutateItemQuery", "mutateSubitemQuery", "fetchItemByIdQuery", "fetchBoardByIdQuery",
+            "getItemQuery", "updateItemQuery", "updateMultiplesColumnValuesQuery", "moveItemToGroupQuery",
+            "archiveItemQuery", "deleteItemQuery", "fetchBoardItemsQuery", "createNotificationQuery",
+            "getCurrentUserDetails", "createUpdateQuery", "deleteUpdate", "fetchItemUpdatesQuery",
+            "deleteItemUpdateQuery", "createColumnQuery"
+    })
+    public String query;
+
+    private Supplier<String> compiled;
+    private Supplier<String> formatted;
+
+    @Setup
+    public void selectQuery() throws ReflectiveOperationException {
+        switch (query) {
+            case "mutateItemQuery" -> use("ITEM_MUTATION_TEMPLATE",
+                    () -> QueryJoins.mutateItemQuery(BOARD, GROUP, NAME, COLUMN_VALUES, true),
+                    BOARD, GROUP, NAME, COLUMN_VALUES, true);
+            case "mutateSubitemQuery" -> use("SUBITEM_MUTATION_TEMPLATE",
+                    () -> QueryJoins.mutateSubitemQuery(ITEM, NAME, COLUMN_VALUES, true),
+                    ITEM, NAME, COLUMN_VALUES, true);
+            case "fetchItemByIdQuery" -> use("FETCH_ITEM_BY_ID_TEMPLATE",
+                    () -> QueryJoins.fetchItemByIdQuery(ITEM), ITEM);
+            case "fetchBoardByIdQuery" -> use("FETCH_BOARD_BY_ID_TEMPLATE",
+                    () -> QueryJoins.fetchBoardByIdQuery(BOARD), BOARD);
+            case "getItemQuery" -> use("GET_ITEM_TEMPLATE",
+                    () -> QueryJoins.getItemQuery(FILTER), FILTER);
+            case "updateItemQuery" -> use("UPDATE_ITEM_TEMPLATE",
+                    () -> QueryJoins.updateItemQuery(BOARD, ITEM, "status", "Done"),
+                    BOARD, ITEM, "status", "Done");
+            case "updateMultiplesColumnValuesQuery" -> use("UPDATE_MULTIPLES_COLUMNS_VALUES_TEMPLATE",
+                    () -> QueryJoins.updateMultiplesColumnValuesQuery(BOARD, ITEM, COLUMN_VALUES),
+                    BOARD, ITEM, COLUMN_VALUES);
+            case "moveItemToGroupQuery" -> use("MOVE_ITEM_TEMPLATE",
+                    () -> QueryJoins.moveItemToGroupQuery(ITEM, GROUP), ITEM, GROUP);
+            case "archiveItemQuery" -> use("ARCHIVE_ITEM_TEMPLATE",
+                    () -> QueryJoins.archiveItemQuery(ITEM), ITEM);
+            case "deleteItemQuery" -> use("DELETE_ITEM_TEMPLATE",
+                    () -> QueryJoins.deleteItemQuery(ITEM), ITEM);
+            case "fetchBoardItemsQuery" -> use("FETCH_BOARD_ITEMS_TEMPLATE",
+                    () -> QueryJoins.fetchBoardItemsQuery(BOARD), BOARD);
+            case "createNotificationQuery" -> use("CREATE_NOTIFICATION_TEMPLATE",
+                    () -> QueryJoins.createNotificationQuery("4012", ITEM, TEXT), "4012", ITEM, TEXT);
+            case "getCurrentUserDetails" -> use("GET_CURRENT_USER_DETAILS_TEMPLATE",
+                    QueryJoins::getCurrentUserDetails);
+            case "createUpdateQuery" -> use("CREATE_UPDATE_TEMPLATE",
+                    () -> QueryJoins.createUpdateQuery(ITEM, TEXT), ITEM, TEXT);
+            case "deleteUpdate" -> use("DELETE_UPDATE_TEMPLATE",
+                    () -> QueryJoins.deleteUpdate(ITEM), ITEM);
+            case "fetchItemUpdatesQuery" -> use("FETCH_ITEM_UPDATES_TEMPLATE",
+                    () -> QueryJoins.fetchItemUpdatesQuery(ITEM, 25), ITEM, 25);
+            case "deleteItemUpdateQuery" -> use("DELETE_ITEM_UPDATE_TEMPLATE",
+                    () -> QueryJoins.deleteItemUpdateQuery(ITEM), ITEM);
+            case "createColumnQuery" -> use("CREATE_COLUMN_TEMPLATE",
+                    () -> QueryJoins.createColumnQuery(BOARD, "Status", "status"), BOARD, "Status", "status");
+            default -> throw new IllegalArgumentException("Unknown query " + query);
+        }
+        if (!compiled.get().equals(formatted.get())) {
+            throw new IllegalStateException(query + " renders differently from its formatted template");
+        }
+    }
+
+    @Benchmark
+    public String formattedQuery() {
+        return formatted.get();
+    }
+
+    @Benchmark
+    public String compiledQuery() {
+        return compiled.get();
+    }
+
+    @Benchmark
+    public byte[] formattedBody() {
+        return new JSONObject().put("query", formatted.get()).toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] compiledBody() {
+        return RequestBodies.query(compiled.get());
+    }
+
+    private void use(final String templateField, final Supplier<String> call, final Object... args)
+            throws ReflectiveOperationException {
+        Field field = QueryJoins.class.getDeclaredField(templateField);
+        field.setAccessible(true);
+        String source = ((QueryTemplate) field.get(null)).source();
+        compiled = call;
+        formatted = () -> source.formatted(args);
+    }
+}
@@ -0,0 +1,116 @@
+package org.benchmarks;
+
+import org.http.ApiClient;
+import org.http.FakeTransport;
+import org.http.RequestBodies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.query.QueryJoins;
+import org.query.QueryRequest;
+import org.resources.BaseResource;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization done by resources before anything reaches the network: the {@link BaseResource} column
+ * value helpers, encoding a {@code ChangeMultipleColumnValues} request body, and {@code get} of that
+ * request over a {@link FakeTransport} answering at once, i.e. the client's whole overhead per call.
+ * Run with {@code -prof gc} to compare allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final String TOKEN = "benchmark-token";
+    private static final String TEXT = "Release notes: see https://example.com/notes for \"what's new\"";
+
+    private final HashMap<String, String> columnValues = new HashMap<>();
+    private ApiClient client;
+    private Serializer resource;
+    private QueryRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        columnValues.put("status", "Done");
+        columnValues.put("date4", "2024-01-01");
+        columnValues.put("person", "Ada Lovelace");
+        columnValues.put("text", TEXT);
+        columnValues.put("link", "https://example.com/items/1");
+        client = ApiClient.newBuilder().transport(FakeTransport.newBuilder().build()).build();
+        resource = new Serializer(client);
+        request = QueryJoins.updateMultiplesColumnValuesRequest("1234567890", "9876543210",
+                resource.mapToJson(columnValues));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public String hashMapToJson() {
+        return resource.hashMapToJson(columnValues);
+    }
+
+    @Benchmark
+    public String mapToJson() {
+        return resource.mapToJson(columnValues);
+    }
+
+    @Benchmark
+    public String stringToJson() {
+        return resource.stringTOJson(TEXT);
+    }
+
+    @Benchmark
+    public byte[] requestBody() {
+        return RequestBodies.of(request);
+    }
+
+    @Benchmark
+    public String get() throws IOException, InterruptedException {
+        return resource.get(request);
+    }
+
+    /**
+     * Exposes the serialization helpers resources use.
+     */
+    private static final class Serializer extends BaseResource {
+
+        private Serializer(final ApiClient client) {
+            super(TOKEN, client);
+        }
+
+        @Override
+        public String hashMapToJson(final HashMap<String, String> map) {
+            return super.hashMapToJson(map);
+        }
+
+        @Override
+        public String mapToJson(final Map<String, String> map) {
+            return super.mapToJson(map);
+        }
+
+        @Override
+        public String stringTOJson(final String stringInput) {
+            return super.stringTOJson(stringInput);
+        }
+    }
+}
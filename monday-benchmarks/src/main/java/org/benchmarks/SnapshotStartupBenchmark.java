@@ -0,0 +1,133 @@
+package org.benchmarks;
+
+import org.http.ApiClient;
+import org.mirror.BoardSnapshot;
+import org.models.Item;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.resources.BoardResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares bringing a 500,000-item board into a starting service by re-fetching it page by page
+ * (from a local stub, so without real network latency or rate limits) against mapping a
+ * {@link BoardSnapshot} captured earlier. Both variants touch the id and status text of every item.
+ * The snapshot is captured once per trial through the same stub and its size is printed.
+ * The OS page cache stays warm between iterations; drop it by hand to measure a cold disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class SnapshotStartupBenchmark {
+
+    private static final String TOKEN = "benchmark-token";
+    private static final String BOARD_ID = "10";
+    private static final int ITEMS = 500_000;
+    private static final int PAGES = ITEMS / BoardResource.MAX_PAGE_SIZE;
+
+    private StubServer stub;
+    private ApiClient client;
+    private BoardResource boards;
+    private Path snapshot;
+
+    @Setup(Level.Trial)
+    public void captureSnapshot() throws IOException {
+        String cursor = "MSw5NzI4MDA5MDAsaV9YcmxJb0p1VEdYc1VWeGlxeF9k";
+        byte[] firstPage = page(true, cursor);
+        byte[] nextPage = page(false, cursor);
+        byte[] lastPage = page(false, null);
+        stub = new StubServer("{}");
+        stub.respond(request -> switch ((int) (request % PAGES)) {
+            case 1 -> firstPage;
+            case 0 -> lastPage;
+            default -> nextPage;
+        });
+        client = ApiClient.newBuilder().endpoint(stub.endpoint()).build();
+        boards = new BoardResource(TOKEN, client);
+        snapshot = Files.createTempFile("board-" + BOARD_ID, ".snapshot");
+
+        long start = System.nanoTime();
+        int captured = BoardSnapshot.capture(boards, BOARD_ID, snapshot);
+        System.out.printf("%nCaptured %d items into %d MB in %d ms%n", captured, Files.size(snapshot) >> 20,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStub() {
+        stub.reset();
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanUp() throws IOException {
+        client.close();
+        stub.close();
+        Files.deleteIfExists(snapshot);
+    }
+
+    @Benchmark
+    public void refetchBoard(Blackhole blackhole) {
+        try (Stream<Item> items = boards.streamItemsByBoardId(BOARD_ID)) {
+            Iterator<Item> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                Item item = iterator.next();
+                blackhole.consume(item.id());
+                blackhole.consume(item.columnValues().get(0).text());
+            }
+        }
+    }
+
+    @Benchmark
+    public void mapSnapshot(Blackhole blackhole) throws IOException {
+        try (BoardSnapshot board = BoardSnapshot.open(snapshot)) {
+            for (int row = 0; row < board.size(); row++) {
+                blackhole.consume(board.itemIdBytes(row).byteSize());
+                blackhole.consume(board.textBytes(row, "status").byteSize());
+            }
+        }
+    }
+
+    /**
+     * @param first Whether to answer the board's first page, or a {@code next_items_page} request
+     */
+    private static byte[] page(final boolean first, final String cursor) {
+        StringBuilder body = new StringBuilder(BoardResource.MAX_PAGE_SIZE * 400);
+        body.append(first ? "{\"data\":{\"boards\":[{\"items_page\":" : "{\"data\":{\"next_items_page\":")
+                .append("{\"cursor\":")
+                .append(cursor == null ? "null" : "\"" + cursor + "\"")
+                .append(",\"items\":[");
+        for (int i = 0; i < BoardResource.MAX_PAGE_SIZE; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"id\":\"").append(1_000_000 + i).append("\",\"name\":\"Item ").append(i)
+                    .append("\",\"group\":{\"id\":\"topics\",\"title\":\"Topics\"},\"column_values\":[")
+                    .append("{\"id\":\"status\",\"text\":\"Working on it\",\"type\":\"status\",\"value\":\"{\\\"index\\\":0}\"},")
+                    .append("{\"id\":\"person\",\"text\":\"Ada Lovelace\",\"type\":\"people\",\"value\":null},")
+                    .append("{\"id\":\"text\",\"text\":\"Some free text for item ").append(i)
+                    .append("\",\"type\":\"text\",\"value\":null}]}");
+        }
+        body.append(first ? "]}}]},\"account_id\":1}" : "]}},\"account_id\":1}");
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
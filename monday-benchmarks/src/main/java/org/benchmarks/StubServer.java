@@ -0,0 +1,139 @@
+package org.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local stand-in for the Monday.com API used by the benchmarks.
+ * Answers every POST with a canned body and counts requests and distinct client connections,
+ * each new connection corresponding to one TCP (and, against the real API, TLS) handshake.
+ * With {@link #gzipResponses(boolean)} bodies are sent gzip-encoded to clients accepting it.
+ */
+final class StubServer implements AutoCloseable {
+
+    static final String ITEM_RESPONSE = """
+            {"data":{"items":[{"id":"1","name":"Item","group":{"id":"topics","title":"Group"},\
+            "column_values":[{"id":"status","text":"Done","value":"{\\"index\\":1}"}]}]},"account_id":1}""";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile LongFunction<byte[]> responder;
+    private volatile LongFunction<byte[]> gzipResponder;
+    private volatile boolean gzip;
+
+    StubServer(final String body) throws IOException {
+        body(body);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    URI endpoint() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/v2/");
+    }
+
+    void body(final String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = gzip(bytes);
+        this.responder = request -> bytes;
+        this.gzipResponder = request -> compressed;
+    }
+
+    /**
+     * Answers each request with the body for its number, counted from 1 since the last {@link #reset()}.
+     */
+    void respond(final LongFunction<byte[]> responder) {
+        this.responder = responder;
+        this.gzipResponder = request -> gzip(responder.apply(request));
+    }
+
+    /**
+     * Sends bodies gzip-encoded to requests with {@code Accept-Encoding: gzip}; fixed bodies are compressed once.
+     */
+    void gzipResponses(final boolean gzip) {
+        this.gzip = gzip;
+    }
+
+    int connections() {
+        return connections.size();
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    /**
+     * @return Bytes of response bodies sent since the last {@link #reset()}, as they went on the wire
+     */
+    long bytesSent() {
+        return bytesSent.sum();
+    }
+
+    void reset() {
+        connections.clear();
+        requests.reset();
+        bytesSent.reset();
+        sequence.set(0);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        connections.add(exchange.getRemoteAddress());
+        requests.increment();
+        try (InputStream in = exchange.getRequestBody()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        String accepted = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        boolean compressed = gzip && accepted != null && accepted.contains("gzip");
+        long sequence = this.sequence.incrementAndGet();
+        byte[] response = compressed ? gzipResponder.apply(sequence) : responder.apply(sequence);
+        bytesSent.add(response.length);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        if (compressed) {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    private static byte[] gzip(final byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
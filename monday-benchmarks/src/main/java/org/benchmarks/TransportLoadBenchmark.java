@@ -0,0 +1,125 @@
+package org.benchmarks;
+
+import org.http.ApiClient;
+import org.http.FakeTransport;
+import org.http.Instrumentation;
+import org.http.MetricsRecorder;
+import org.http.RetryPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.resources.BoardResource;
+import org.resources.ItemResource;
+import org.resources.MeResource;
+import org.resources.UpdateResource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the resources over a {@link FakeTransport}: the whole client path from building the
+ * request to reading the body, with no network in the way, so the throughput is the client's own ceiling.
+ * {@code clean} answers every exchange; {@code faulty} answers 1 in 100 with a 503 and drops 1 in 250,
+ * exercising the retries. {@code instrumentation} compares no instrumentation with a {@link MetricsRecorder}
+ * keeping metrics only and one also emitting spans, to measure their overhead. Each iteration prints the
+ * exchanges and retries it took.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Threads(Threads.MAX)
+@Fork(1)
+public class TransportLoadBenchmark {
+
+    private static final String TOKEN = "benchmark-token";
+
+    @Param({"items", "boards", "updates", "me"})
+    public String resource;
+
+    @Param({"clean", "faulty"})
+    public String script;
+
+    @Param({"none", "metrics", "spans"})
+    public String instrumentation;
+
+    private FakeTransport transport;
+    private ApiClient client;
+    private ItemResource items;
+    private BoardResource boards;
+    private UpdateResource updates;
+    private MeResource me;
+    private long exchangesBefore;
+    private long retriesBefore;
+
+    private Instrumentation instrumentation() {
+        return switch (instrumentation) {
+            case "metrics" -> MetricsRecorder.newBuilder().build();
+            case "spans" -> MetricsRecorder.newBuilder().traceSpans(span -> { }).build();
+            default -> Instrumentation.NONE;
+        };
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        FakeTransport.Builder fake = FakeTransport.newBuilder().respond(StubServer.ITEM_RESPONSE);
+        if ("faulty".equals(script)) {
+            fake.failEvery(100, 503).disconnectEvery(250);
+        }
+        transport = fake.build();
+        client = ApiClient.newBuilder()
+                .transport(transport)
+                .virtualThreads()
+                .instrumentation(instrumentation())
+                .retryPolicy(RetryPolicy.newBuilder()
+                        .maxAttempts(5)
+                        .baseDelay(Duration.ofMillis(1))
+                        .maxDelay(Duration.ofMillis(2))
+                        .build())
+                .build();
+        items = new ItemResource(TOKEN, client);
+        boards = new BoardResource(TOKEN, client);
+        updates = new UpdateResource(TOKEN, client);
+        me = new MeResource(TOKEN, client);
+    }
+
+    @Setup(Level.Iteration)
+    public void markCounters() {
+        exchangesBefore = transport.exchanges();
+        retriesBefore = client.retryStats().retries();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportCounters() {
+        System.out.printf("%n[%s/%s] exchanges: %d, retries: %d%n", resource, script,
+                transport.exchanges() - exchangesBefore, client.retryStats().retries() - retriesBefore);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public String call() throws IOException, InterruptedException {
+        return switch (resource) {
+            case "items" -> items.fetchItemById("1");
+            case "boards" -> boards.fetchBoardById("1");
+            case "updates" -> updates.fetchItemUpdates("1", 10);
+            default -> me.getDetails();
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package org.benchmarks;
+
+import org.http.ApiClient;
+import org.http.BulkExecutor;
+import org.http.ResourceCall;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.resources.ItemResource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time for {@code callers} concurrent blocking {@code fetchItemById} calls to complete.
+ * {@code blocking} issues each call from its own platform thread on the default ApiClient;
+ * {@code virtual} issues them through {@link BulkExecutor} on a virtual-thread ApiClient.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class VirtualThreadBenchmark {
+
+    private static final String TOKEN = "benchmark-token";
+
+    @Param({"1", "100", "10000"})
+    public int callers;
+
+    @Param({"blocking", "virtual"})
+    public String mode;
+
+    private StubServer stub;
+    private ApiClient apiClient;
+    private ExecutorService platformThreads;
+    private BulkExecutor bulk;
+    private List<ResourceCall<String>> calls;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stub = new StubServer(StubServer.ITEM_RESPONSE);
+        ApiClient.Builder builder = ApiClient.newBuilder().endpoint(stub.endpoint()).maxInFlight(callers);
+        if ("virtual".equals(mode)) {
+            apiClient = builder.virtualThreads().build();
+            bulk = new BulkExecutor(callers);
+        } else {
+            apiClient = builder.build();
+            platformThreads = Executors.newFixedThreadPool(callers);
+        }
+        ItemResource items = new ItemResource(TOKEN, apiClient);
+        calls = Collections.nCopies(callers, () -> items.fetchItemById("1"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (platformThreads != null) {
+            platformThreads.shutdownNow();
+        }
+        apiClient.close();
+        stub.close();
+    }
+
+    @Benchmark
+    public List<String> concurrentCalls() throws IOException, InterruptedException, ExecutionException {
+        if (bulk != null) {
+            return bulk.invokeAll(calls);
+        }
+        List<Callable<String>> tasks = new ArrayList<>(calls.size());
+        for (ResourceCall<String> call : calls) {
+            tasks.add(call::call);
+        }
+        List<String> results = new ArrayList<>(tasks.size());
+        for (Future<String> future : platformThreads.invokeAll(tasks)) {
+            results.add(future.get());
+        }
+        return results;
+    }
+}
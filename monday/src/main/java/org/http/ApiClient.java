@@ -0,0 +1,1061 @@
+package org.http;
+
+import org.query.QueryRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Shared transport for Monday.com API resources.
+ * <p>
+ * Owns a single pooled {@link HttpClient}, so every resource created from the same
+ * instance reuses its connections, HTTP/2 streams and TLS sessions instead of opening
+ * a new client per resource. Idle connections are kept alive by the JDK connection pool;
+ * the idle timeout is JVM-wide and controlled by the {@code jdk.httpclient.keepalive.timeout}
+ * system property.
+ * <p>
+ * With {@link Builder#virtualThreads()} the client runs its work on a virtual-thread-per-task
+ * executor instead of a bounded platform pool; combine it with {@link BulkExecutor} to issue
+ * many blocking resource calls concurrently from virtual threads.
+ * <p>
+ * With {@link Builder#complexityBudget(long)} every request, synchronous or not, is paced by one
+ * {@link ComplexityScheduler} shared by all resources using this client.
+ * <p>
+ * Responses with a non-successful HTTP status are never returned as a body: retryable failures are
+ * sent again according to the {@link RetryPolicy}, the others surface as {@link MondayApiException}.
+ * <p>
+ * With {@link Builder#persistedQueries()} named requests are sent as the SHA-256 hash of their document,
+ * following the automatic persisted query handshake; see {@link #persistedQueryStats()}.
+ * <p>
+ * With {@link Builder#coalesceReads()} identical reads in flight at the same time share one exchange;
+ * see {@link #coalescingStats()}.
+ * <p>
+ * With {@link Builder#compressResponses()} responses are negotiated gzip or deflate encoded and inflated
+ * as they are decoded, and {@link Builder#compressRequestsOver(int)} gzips large request bodies;
+ * see {@link #compressionStats()}.
+ * <p>
+ * With {@link Builder#transport(Transport)} the exchanges go through another {@link Transport} than the
+ * HttpClient, e.g. a {@link FakeTransport} for tests and load tests without a network.
+ * <p>
+ * With {@link Builder#instrumentation(Instrumentation)} every call reports its latency, attempts, bytes,
+ * statuses and complexity, e.g. to a {@link MetricsRecorder}.
+ */
+public final class ApiClient implements AutoCloseable {
+
+    public static final URI DEFAULT_ENDPOINT = URI.create("https://api.monday.com/v2/");
+
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+    private static final String CONTENT_TYPE_VALUE = "application/json";
+    private static final String AUTH_HEADER = "Authorization";
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+    private static final int COMPLEXITY_PREFIX_BYTES = 1024;
+    private static final ResponseDecoder<byte[]> BYTES = InputStream::readAllBytes;
+    private static final String ANONYMOUS_OPERATION = "anonymous";
+
+    private final URI endpoint;
+    private final Duration requestTimeout;
+    private final ExecutorService executor;
+    private final ExecutorService decoders = Executors.newVirtualThreadPerTaskExecutor();
+    private final boolean virtualThreads;
+    private final Transport transport;
+    private final InFlightLimiter limiter;
+    private final ComplexityScheduler scheduler;
+    private final RetryPolicy retryPolicy;
+    private final RetryStats retryStats = new RetryStats();
+    private final PersistedQueries persistedQueries;
+    private final RequestCoalescer coalescer;
+    private final Compression compression;
+    private final Instrumentation instrumentation;
+    private final boolean closeable;
+    private volatile boolean closed;
+
+    private ApiClient(final Builder builder, final boolean closeable) {
+        this.endpoint = builder.endpoint;
+        this.requestTimeout = builder.requestTimeout;
+        this.virtualThreads = builder.virtualThreads;
+        this.executor = virtualThreads
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : newBoundedExecutor(builder.maxThreads);
+        this.transport = builder.transport != null
+                ? builder.transport
+                : new HttpTransport(HttpClient.newBuilder()
+                        .version(builder.version)
+                        .connectTimeout(builder.connectTimeout)
+                        .executor(executor)
+                        .build());
+        this.limiter = new InFlightLimiter(builder.maxInFlight);
+        this.scheduler = builder.complexityBudget > 0
+                ? new ComplexityScheduler(builder.complexityBudget, builder.defaultComplexityCost)
+                : null;
+        this.retryPolicy = builder.retryPolicy;
+        this.persistedQueries = new PersistedQueries(builder.persistedQueries);
+        this.coalescer = new RequestCoalescer(builder.coalesceReads);
+        this.compression = new Compression(builder.compressResponses, builder.compressRequestsOver);
+        this.instrumentation = builder.instrumentation;
+        this.closeable = closeable;
+    }
+
+    /**
+     * Creates a builder for a new, independently closeable ApiClient.
+     *
+     * @return A builder pre-populated with the default configuration
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the process-wide client used by resources that were created without one.
+     * The shared client lives for the lifetime of the JVM; calling {@link #close()} on it has no effect.
+     *
+     * @return The shared ApiClient instance
+     */
+    public static ApiClient shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Posts a GraphQL query to the Monday.com API and waits for the response.
+     * Retryable failures are sent again according to the client's {@link RetryPolicy}.
+     *
+     * @param token    The API authentication token for Monday.com
+     * @param query    The GraphQL query to execute
+     * @param priority Admission priority while waiting for complexity budget
+     * @return Returns body response as string
+     * @throws MondayApiException    if the API answered with a non-successful status and the request was not retried further
+     * @throws IOException           if an I/O error occurs when sending or receiving
+     * @throws InterruptedException  if the operation is interrupted
+     * @throws IllegalStateException if the client has been closed
+     */
+    public String send(final String token, final String query, final Priority priority)
+            throws IOException, InterruptedException {
+        return send(token, query, priority, ResponseDecoder.ofString());
+    }
+
+    /**
+     * Posts a GraphQL query to the Monday.com API and decodes the response body as it arrives.
+     * Retryable failures are sent again according to the client's {@link RetryPolicy}.
+     *
+     * @param token    The API authentication token for Monday.com
+     * @param query    The GraphQL query to execute
+     * @param priority Admission priority while waiting for complexity budget
+     * @param decoder  Decoder reading the body of the successful response
+     * @param <T>      Type of the decoded result
+     * @return The decoded response
+     * @throws MondayApiException    if the API answered with a non-successful status and the request was not retried further
+     * @throws IOException           if an I/O error occurs when sending, receiving or decoding
+     * @throws InterruptedException  if the operation is interrupted
+     * @throws IllegalStateException if the client has been closed
+     */
+    public <T> T send(
+            final String token,
+            final String query,
+            final Priority priority,
+            final ResponseDecoder<T> decoder)
+            throws IOException, InterruptedException {
+        return send(token, QueryRequest.of(query), priority, decoder);
+    }
+
+    /**
+     * Posts a GraphQL request with its variables to the Monday.com API and waits for the response.
+     * Retryable failures are sent again according to the client's {@link RetryPolicy}.
+     *
+     * @param token    The API authentication token for Monday.com
+     * @param request  The GraphQL document and variables to send
+     * @param priority Admission priority while waiting for complexity budget
+     * @return Returns body response as string
+     * @throws MondayApiException    if the API answered with a non-successful status and the request was not retried further
+     * @throws IOException           if an I/O error occurs when sending or receiving
+     * @throws InterruptedException  if the operation is interrupted
+     * @throws IllegalStateException if the client has been closed
+     */
+    public String send(final String token, final QueryRequest request, final Priority priority)
+            throws IOException, InterruptedException {
+        return send(token, request, priority, ResponseDecoder.ofString());
+    }
+
+    /**
+     * Posts a GraphQL request with its variables to the Monday.com API and decodes the response
+     * body as it arrives. Retryable failures are sent again according to the client's {@link RetryPolicy}.
+     *
+     * @param token    The API authentication token for Monday.com
+     * @param request  The GraphQL document and variables to send
+     * @param priority Admission priority while waiting for complexity budget
+     * @param decoder  Decoder reading the body of the successful response
+     * @param <T>      Type of the decoded result
+     * @return The decoded response
+     * @throws MondayApiException    if the API answered with a non-successful status and the request was not retried further
+     * @throws IOException           if an I/O error occurs when sending, receiving or decoding
+     * @throws InterruptedException  if the operation is interrupted
+     * @throws IllegalStateException if the client has been closed
+     */
+    public <T> T send(
+            final String token,
+            final QueryRequest request,
+            final Priority priority,
+            final ResponseDecoder<T> decoder)
+            throws IOException, InterruptedException {
+        ensureOpen();
+        Objects.requireNonNull(request, "Request cannot be null");
+        Objects.requireNonNull(decoder, "Decoder cannot be null");
+        Instrumentation.CallListener listener = callStarted(request);
+        long start = System.nanoTime();
+        try {
+            T result;
+            if (coalescer.appliesTo(request)) {
+                byte[] body = coalescer.send(token, request,
+                        () -> sendWithRetries(token, request, priority, BYTES, listener));
+                result = decoder.decode(new ByteArrayInputStream(body));
+            } else {
+                result = sendWithRetries(token, request, priority, decoder, listener);
+            }
+            listener.callCompleted(System.nanoTime() - start, null);
+            return result;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            listener.callCompleted(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    private <T> T sendWithRetries(
+            final String token,
+            final QueryRequest request,
+            final Priority priority,
+            final ResponseDecoder<T> decoder,
+            final Instrumentation.CallListener listener)
+            throws IOException, InterruptedException {
+        boolean retryable = retryPolicy.appliesTo(request.query());
+        long start = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            long attemptStart = System.nanoTime();
+            Exchange exchange = null;
+            String errorBody = null;
+            IOException failure = null;
+            try {
+                exchange = exchange(token, request, priority);
+                if (isSuccess(exchange.response().statusCode())) {
+                    T result = decode(exchange, decoder);
+                    attemptCompleted(listener, attempt, exchange, attemptStart, null);
+                    return result;
+                }
+                errorBody = readError(exchange);
+            } catch (IOException e) {
+                failure = e;
+            }
+            attemptCompleted(listener, attempt, exchange, attemptStart, failure);
+
+            Transport.Response response = exchange == null ? null : exchange.response();
+            long delay = retryDelay(retryable, attempt, response, System.nanoTime() - start);
+            if (delay < 0) {
+                throw failure != null ? failure : new MondayApiException(response.statusCode(), errorBody, attempt);
+            }
+            retryStats.recordRetry();
+            TimeUnit.NANOSECONDS.sleep(delay);
+        }
+    }
+
+    /**
+     * Posts a GraphQL query to the Monday.com API without blocking the calling thread.
+     * At most {@link Builder#maxInFlight(int)} exchanges run at once; further requests are queued
+     * and started as earlier ones complete. Retryable failures are sent again according to the
+     * client's {@link RetryPolicy}, without holding a thread while waiting.
+     *
+     * @param token    The API authentication token for Monday.com
+     * @param query    The GraphQL query to execute
+     * @param priority Admission priority while waiting for complexity budget
+     * @return A future completing with the body response as string, or failing with {@link MondayApiException}
+     * @throws IllegalStateException if the client has been closed
+     */
+    public CompletableFuture<String> sendAsync(final String token, final String query, final Priority priority) {
+        return sendAsync(token, QueryRequest.of(query), priority);
+    }
+
+    /**
+     * Posts a GraphQL request with its variables to the Monday.com API without blocking the calling thread.
+     * Requests are limited, queued and retried as by {@link #sendAsync(String, String, Priority)}.
+     *
+     * @param token    The API authentication token for Monday.com
+     * @param request  The GraphQL document and variables to send
+     * @param priority Admission priority while waiting for complexity budget
+     * @return A future completing with the body response as string, or failing with {@link MondayApiException}
+     * @throws IllegalStateException if the client has been closed
+     */
+    public CompletableFuture<String> sendAsync(final String token, final QueryRequest request, final Priority priority) {
+        ensureOpen();
+        Objects.requireNonNull(request, "Request cannot be null");
+        return sendAsync(token, request, priority, ResponseDecoder.ofString());
+    }
+
+    /**
+     * Posts a GraphQL query to the Monday.com API without blocking the calling thread and decodes
+     * the response body as it arrives. Decoding runs on a virtual thread, never on the HttpClient executor.
+     *
+     * @param token    The API authentication token for Monday.com
+     * @param query    The GraphQL query to execute
+     * @param priority Admission priority while waiting for complexity budget
+     * @param decoder  Decoder reading the body of the successful response
+     * @param <T>      Type of the decoded result
+     * @return A future completing with the decoded response, or failing with {@link MondayApiException}
+     * @throws IllegalStateException if the client has been closed
+     */
+    public <T> CompletableFuture<T> sendAsync(
+            final String token,
+            final String query,
+            final Priority priority,
+            final ResponseDecoder<T> decoder) {
+        return sendAsync(token, QueryRequest.of(query), priority, decoder);
+    }
+
+    /**
+     * Posts a GraphQL request with its variables to the Monday.com API without blocking the calling
+     * thread and decodes the response body as it arrives.
+     *
+     * @param token    The API authentication token for Monday.com
+     * @param request  The GraphQL document and variables to send
+     * @param priority Admission priority while waiting for complexity budget
+     * @param decoder  Decoder reading the body of the successful response
+     * @param <T>      Type of the decoded result
+     * @return A future completing with the decoded response, or failing with {@link MondayApiException}
+     * @throws IllegalStateException if the client has been closed
+     */
+    public <T> CompletableFuture<T> sendAsync(
+            final String token,
+            final QueryRequest request,
+            final Priority priority,
+            final ResponseDecoder<T> decoder) {
+        ensureOpen();
+        Objects.requireNonNull(request, "Request cannot be null");
+        Objects.requireNonNull(decoder, "Decoder cannot be null");
+        Instrumentation.CallListener listener = callStarted(request);
+        long start = System.nanoTime();
+        CompletableFuture<T> result;
+        if (coalescer.appliesTo(request)) {
+            result = coalescer.sendAsync(token, request,
+                            () -> sendWithRetriesAsync(token, request, priority, BYTES, listener))
+                    .thenCompose(body -> supplyOnDecoder(() -> decoder.decode(new ByteArrayInputStream(body))));
+        } else {
+            result = sendWithRetriesAsync(token, request, priority, decoder, listener);
+        }
+        if (listener == Instrumentation.CallListener.NONE) {
+            return result;
+        }
+        return result.whenComplete((value, error) -> listener.callCompleted(System.nanoTime() - start, unwrap(error)));
+    }
+
+    private <T> CompletableFuture<T> sendWithRetriesAsync(
+            final String token,
+            final QueryRequest request,
+            final Priority priority,
+            final ResponseDecoder<T> decoder,
+            final Instrumentation.CallListener listener) {
+        return sendAsync(token, request, priority,
+                exchange -> supplyOnDecoder(() -> decode(exchange, decoder)),
+                exchange -> supplyOnDecoder(() -> readError(exchange)),
+                listener, retryPolicy.appliesTo(request.query()), 1, System.nanoTime());
+    }
+
+    private <T> CompletableFuture<T> sendAsync(
+            final String token,
+            final QueryRequest request,
+            final Priority priority,
+            final Function<Exchange, CompletableFuture<T>> onSuccess,
+            final Function<Exchange, CompletableFuture<String>> onError,
+            final Instrumentation.CallListener listener,
+            final boolean retryable,
+            final int attempt,
+            final long start) {
+        long attemptStart = System.nanoTime();
+        return exchangeAsync(token, request, priority).handle((exchange, error) -> {
+            if (error == null && isSuccess(exchange.response().statusCode())) {
+                CompletableFuture<T> result = onSuccess.apply(exchange);
+                if (listener == Instrumentation.CallListener.NONE) {
+                    return result;
+                }
+                return result.whenComplete((value, decodeError) ->
+                        attemptCompleted(listener, attempt, exchange, attemptStart, unwrap(decodeError)));
+            }
+            Throwable cause = unwrap(error);
+            if (cause != null && !(cause instanceof IOException)) {
+                return CompletableFuture.<T>failedFuture(cause);
+            }
+            CompletableFuture<String> errorBody = exchange == null
+                    ? CompletableFuture.completedFuture(null)
+                    : onError.apply(exchange);
+            return errorBody.handle((body, readError) -> {
+                Throwable failure = cause != null ? cause : unwrap(readError);
+                attemptCompleted(listener, attempt, exchange, attemptStart, failure);
+                long delay = retryDelay(retryable, attempt, exchange == null ? null : exchange.response(),
+                        System.nanoTime() - start);
+                if (delay < 0) {
+                    return CompletableFuture.<T>failedFuture(failure != null
+                            ? failure
+                            : new MondayApiException(exchange.response().statusCode(), body, attempt));
+                }
+                retryStats.recordRetry();
+                return CompletableFuture.runAsync(() -> { },
+                                CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, executor))
+                        .thenCompose(ignored -> sendAsync(token, request, priority, onSuccess, onError,
+                                listener, retryable, attempt + 1, start));
+            }).thenCompose(result -> result);
+        }).thenCompose(result -> result);
+    }
+
+    /**
+     * @return The wait before the next attempt in nanoseconds, or -1 when the failure is final
+     */
+    private long retryDelay(
+            final boolean retryable,
+            final int attempt,
+            final Transport.Response response,
+            final long elapsedNanos) {
+        if (!retryable || (response != null && !retryPolicy.isRetryable(response.statusCode()))) {
+            return -1;
+        }
+        String retryAfter = response == null ? null : response.headers().firstValue(RETRY_AFTER_HEADER).orElse(null);
+        long delay = retryPolicy.nextDelayNanos(attempt, retryAfter, elapsedNanos);
+        if (delay < 0 && retryPolicy.maxAttempts() > 1) {
+            retryStats.recordGiveUp();
+        }
+        return delay;
+    }
+
+    private <T> T decode(final Exchange exchange, final ResponseDecoder<T> decoder) throws IOException {
+        PrefixCapturingInputStream body = new PrefixCapturingInputStream(exchange.body(), COMPLEXITY_PREFIX_BYTES);
+        try (body) {
+            return decoder.decode(body);
+        } finally {
+            exchange.responseBytes = body.length();
+            settle(exchange, body.prefix());
+        }
+    }
+
+    private String readError(final Exchange exchange) throws IOException {
+        try (InputStream in = exchange.body()) {
+            byte[] bytes = in.readAllBytes();
+            String body = new String(bytes, StandardCharsets.UTF_8);
+            exchange.responseBytes = bytes.length;
+            settle(exchange, body);
+            return body;
+        }
+    }
+
+    private void settle(final Exchange exchange, final String body) {
+        if (exchange.ticket() != null) {
+            exchange.complexity = scheduler.complete(exchange.ticket(), body);
+        }
+    }
+
+    /**
+     * @return The listener of a call of this request, without naming its operation when nothing listens
+     */
+    private Instrumentation.CallListener callStarted(final QueryRequest request) {
+        if (instrumentation == Instrumentation.NONE) {
+            return Instrumentation.CallListener.NONE;
+        }
+        String operation = request.operationName() != null
+                ? request.operationName()
+                : ComplexityScheduler.operationKey(request.query());
+        return instrumentation.callStarted(operation.isEmpty() ? ANONYMOUS_OPERATION : operation);
+    }
+
+    private static void attemptCompleted(
+            final Instrumentation.CallListener listener,
+            final int attempt,
+            final Exchange exchange,
+            final long start,
+            final Throwable error) {
+        if (listener == Instrumentation.CallListener.NONE) {
+            return;
+        }
+        long latency = System.nanoTime() - start;
+        listener.attemptCompleted(exchange == null
+                ? new Instrumentation.Attempt(attempt, 0, 0, 0, -1, latency, error)
+                : new Instrumentation.Attempt(attempt, exchange.response().statusCode(), exchange.requestBytes(),
+                        exchange.responseBytes, exchange.complexity, latency, error));
+    }
+
+    private <T> CompletableFuture<T> supplyOnDecoder(final Decoding<T> decoding) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        decoders.execute(() -> {
+            try {
+                result.complete(decoding.run());
+            } catch (IOException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    private Exchange exchange(final String token, final QueryRequest request, final Priority priority)
+            throws IOException, InterruptedException {
+        if (scheduler == null) {
+            return post(token, request, null);
+        }
+
+        CompletableFuture<ComplexityScheduler.Ticket> admission = scheduler.acquire(request.query(), priority);
+        ComplexityScheduler.Ticket ticket;
+        try {
+            ticket = admission.get();
+        } catch (InterruptedException e) {
+            if (!admission.cancel(false) && admission.isDone() && !admission.isCompletedExceptionally()) {
+                // Admitted just as we were interrupted: hand the capacity back
+                scheduler.release(admission.join());
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IOException("Request was not admitted", e.getCause());
+        }
+
+        try {
+            return post(token, instrument(request), ticket);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            scheduler.release(ticket);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Exchange> exchangeAsync(
+            final String token,
+            final QueryRequest request,
+            final Priority priority) {
+        if (scheduler == null) {
+            return postAsync(token, request, null);
+        }
+
+        QueryRequest instrumented = instrument(request);
+        return scheduler.acquire(request.query(), priority).thenCompose(ticket -> postAsync(token, instrumented, ticket)
+                .whenComplete((exchange, error) -> {
+                    if (error != null) {
+                        scheduler.release(ticket);
+                    }
+                }));
+    }
+
+    /**
+     * Sends the request, first by the hash of its document when persisted queries apply to it.
+     */
+    private Exchange post(final String token, final QueryRequest request, final ComplexityScheduler.Ticket ticket)
+            throws IOException, InterruptedException {
+        if (!persistedQueries.appliesTo(request)) {
+            Transport.Request sent = newRequest(token, RequestBodies.of(request));
+            Transport.Response response = send(sent);
+            return new Exchange(response, response.body(), ticket, sent.body().length);
+        }
+
+        String hash = persistedQueries.hash(request.query());
+        byte[] hashOnlyBody = RequestBodies.persisted(request, hash, false);
+        Transport.Request hashOnly = newRequest(token, hashOnlyBody);
+        Transport.Response response = send(hashOnly);
+        PersistedQueries.Probe probe = persistedQueries.probe(response.body());
+        if (probe.outcome() == PersistedQueries.Outcome.ANSWERED) {
+            recordPersisted(request, hashOnlyBody.length, isSuccess(response.statusCode()));
+            return new Exchange(response, probe.body(), ticket, hashOnly.body().length);
+        }
+
+        probe.body().close();
+        byte[] full = fullBody(request, hash, probe.outcome());
+        recordPersisted(request, hashOnlyBody.length + full.length, false);
+        Transport.Request fullRequest = newRequest(token, full);
+        Transport.Response retried = send(fullRequest);
+        return new Exchange(retried, retried.body(), ticket, hashOnly.body().length + fullRequest.body().length);
+    }
+
+    private CompletableFuture<Exchange> postAsync(
+            final String token,
+            final QueryRequest request,
+            final ComplexityScheduler.Ticket ticket) {
+        if (!persistedQueries.appliesTo(request)) {
+            Transport.Request sent = newRequest(token, RequestBodies.of(request));
+            return limiter.submit(() -> sendAsync(sent))
+                    .thenApply(response -> new Exchange(response, response.body(), ticket, sent.body().length));
+        }
+
+        String hash = persistedQueries.hash(request.query());
+        byte[] hashOnlyBody = RequestBodies.persisted(request, hash, false);
+        Transport.Request hashOnly = newRequest(token, hashOnlyBody);
+        int hashOnlyBytes = hashOnly.body().length;
+        return limiter.submit(() -> sendAsync(hashOnly))
+                .thenCompose(response -> supplyOnDecoder(() -> persistedQueries.probe(response.body()))
+                        .thenCompose(probe -> {
+                            if (probe.outcome() == PersistedQueries.Outcome.ANSWERED) {
+                                recordPersisted(request, hashOnlyBody.length, isSuccess(response.statusCode()));
+                                return CompletableFuture.completedFuture(
+                                        new Exchange(response, probe.body(), ticket, hashOnlyBytes));
+                            }
+                            closeQuietly(probe.body());
+                            byte[] full = fullBody(request, hash, probe.outcome());
+                            recordPersisted(request, hashOnlyBody.length + full.length, false);
+                            Transport.Request fullRequest = newRequest(token, full);
+                            return limiter.submit(() -> sendAsync(fullRequest))
+                                    .thenApply(retried -> new Exchange(retried, retried.body(), ticket,
+                                            hashOnlyBytes + fullRequest.body().length));
+                        }));
+    }
+
+    private Transport.Response send(final Transport.Request request) throws IOException, InterruptedException {
+        return compression.decode(transport.send(request));
+    }
+
+    private CompletableFuture<Transport.Response> sendAsync(final Transport.Request request) {
+        return transport.sendAsync(request).thenApply(compression::decode);
+    }
+
+    private byte[] fullBody(final QueryRequest request, final String hash, final PersistedQueries.Outcome outcome) {
+        if (outcome == PersistedQueries.Outcome.NOT_SUPPORTED) {
+            persistedQueries.markUnsupported();
+            return RequestBodies.of(request);
+        }
+        return RequestBodies.persisted(request, hash, true);
+    }
+
+    /**
+     * @param answered Whether the server answered the hash-only request, rather than asking for the document
+     */
+    private void recordPersisted(final QueryRequest request, final int sentBytes, final boolean answered) {
+        PersistedQueryStats stats = persistedQueries.stats();
+        if (answered) {
+            stats.recordHit();
+        } else {
+            stats.recordMiss();
+        }
+        stats.recordBytes(sentBytes, RequestBodies.length(request));
+    }
+
+    private static void closeQuietly(final InputStream body) {
+        try {
+            body.close();
+        } catch (IOException ignored) {
+            // The body is discarded anyway
+        }
+    }
+
+    /**
+     * @return Number of asynchronous requests currently on the wire
+     */
+    public int inFlight() {
+        return limiter.inFlight();
+    }
+
+    /**
+     * @return The URI every request is posted to
+     */
+    public URI endpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return The complexity scheduler pacing this client's requests, or null when pacing is disabled
+     */
+    public ComplexityScheduler scheduler() {
+        return scheduler;
+    }
+
+    /**
+     * @return The policy deciding which failed requests are sent again
+     */
+    public RetryPolicy retryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * @return Counters of retries and give-ups for requests sent through this client
+     */
+    public RetryStats retryStats() {
+        return retryStats;
+    }
+
+    /**
+     * @return Counters of persisted-query hits, misses and request bytes for requests sent through this client
+     */
+    public PersistedQueryStats persistedQueryStats() {
+        return persistedQueries.stats();
+    }
+
+    /**
+     * @return Counters of reads sent and reads coalesced into an identical read in flight
+     */
+    public CoalescingStats coalescingStats() {
+        return coalescer.stats();
+    }
+
+    /**
+     * @return Counters of request and response bytes on the wire and before compression
+     */
+    public CompressionStats compressionStats() {
+        return compression.stats();
+    }
+
+    /**
+     * @return Whether this client runs its work on virtual threads
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * @return Whether {@link #close()} has been called on this client
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Closes the transport, by default the underlying HttpClient, waiting for in-flight exchanges to complete,
+     * and shuts down its executor. Subsequent requests fail with {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        if (!closeable || closed) {
+            return;
+        }
+        closed = true;
+        if (scheduler != null) {
+            scheduler.close();
+        }
+        transport.close();
+        executor.shutdown();
+        decoders.shutdown();
+    }
+
+    private QueryRequest instrument(final QueryRequest request) {
+        return request.withQuery(scheduler.instrument(request.query()));
+    }
+
+    private Transport.Request newRequest(final String token, final byte[] body) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put(CONTENT_TYPE_HEADER, CONTENT_TYPE_VALUE);
+        headers.put(AUTH_HEADER, "Bearer " + token);
+        if (compression.compressesResponses()) {
+            headers.put(Compression.ACCEPT_ENCODING_HEADER, Compression.ACCEPT_ENCODING_VALUE);
+        }
+        if (compression.compressesRequest(body.length)) {
+            headers.put(Compression.CONTENT_ENCODING_HEADER, Compression.GZIP);
+            return new Transport.Request(endpoint, headers, compression.compress(body), requestTimeout);
+        }
+        compression.recordUncompressedRequest(body.length);
+        return new Transport.Request(endpoint, headers, body, requestTimeout);
+    }
+
+    private static boolean isSuccess(final int statusCode) {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("ApiClient has been closed");
+        }
+    }
+
+    private static ExecutorService newBoundedExecutor(final int maxThreads) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "monday-http-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                maxThreads, maxThreads,
+                30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                factory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * A response together with the complexity ticket it was admitted with, if any.
+     */
+    private static final class Exchange {
+
+        private final Transport.Response response;
+        private final InputStream body;
+        private final ComplexityScheduler.Ticket ticket;
+        private final int requestBytes;
+        private long responseBytes;
+        private long complexity = -1;
+
+        private Exchange(
+                final Transport.Response response,
+                final InputStream body,
+                final ComplexityScheduler.Ticket ticket,
+                final int requestBytes) {
+            this.response = response;
+            this.body = body;
+            this.ticket = ticket;
+            this.requestBytes = requestBytes;
+        }
+
+        Transport.Response response() {
+            return response;
+        }
+
+        InputStream body() {
+            return body;
+        }
+
+        ComplexityScheduler.Ticket ticket() {
+            return ticket;
+        }
+
+        int requestBytes() {
+            return requestBytes;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Decoding<T> {
+        T run() throws IOException;
+    }
+
+    private static final class SharedHolder {
+        private static final ApiClient INSTANCE = new ApiClient(new Builder(), false);
+    }
+
+    /**
+     * Builder for {@link ApiClient} instances.
+     */
+    public static final class Builder {
+
+        private URI endpoint = DEFAULT_ENDPOINT;
+        private HttpClient.Version version = HttpClient.Version.HTTP_2;
+        private Duration connectTimeout = Duration.ofSeconds(10);
+        private Duration requestTimeout;
+        private int maxThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        private int maxInFlight = 256;
+        private boolean virtualThreads;
+        private long complexityBudget;
+        private long defaultComplexityCost = 5_000;
+        private RetryPolicy retryPolicy = RetryPolicy.defaults();
+        private boolean persistedQueries;
+        private boolean coalesceReads;
+        private boolean compressResponses;
+        private int compressRequestsOver;
+        private Transport transport;
+        private Instrumentation instrumentation = Instrumentation.NONE;
+
+        private Builder() {
+        }
+
+        /**
+         * @param endpoint The GraphQL endpoint to post requests to, defaults to {@link #DEFAULT_ENDPOINT}
+         * @return This builder
+         */
+        public Builder endpoint(final URI endpoint) {
+            this.endpoint = Objects.requireNonNull(endpoint, "Endpoint cannot be null");
+            return this;
+        }
+
+        /**
+         * @param version The preferred HTTP version, defaults to HTTP/2 so concurrent requests share one connection
+         * @return This builder
+         */
+        public Builder version(final HttpClient.Version version) {
+            this.version = Objects.requireNonNull(version, "Version cannot be null");
+            return this;
+        }
+
+        /**
+         * @param connectTimeout Maximum time to wait while establishing a connection
+         * @return This builder
+         */
+        public Builder connectTimeout(final Duration connectTimeout) {
+            this.connectTimeout = Objects.requireNonNull(connectTimeout, "Connect timeout cannot be null");
+            return this;
+        }
+
+        /**
+         * @param requestTimeout Maximum time to wait for a response, or null for no limit
+         * @return This builder
+         */
+        public Builder requestTimeout(final Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * @param maxThreads Upper bound on the threads the HttpClient uses for its asynchronous work
+         * @return This builder
+         * @throws IllegalArgumentException if maxThreads is lower than 1
+         */
+        public Builder maxThreads(final int maxThreads) {
+            if (maxThreads < 1) {
+                throw new IllegalArgumentException("Max threads must be at least 1");
+            }
+            this.maxThreads = maxThreads;
+            return this;
+        }
+
+        /**
+         * Runs the HttpClient work on a virtual-thread-per-task executor. The {@link #maxThreads(int)}
+         * bound no longer applies; concurrency is limited by callers and {@link #maxInFlight(int)}.
+         *
+         * @return This builder
+         */
+        public Builder virtualThreads() {
+            this.virtualThreads = true;
+            return this;
+        }
+
+        /**
+         * Sends named requests as the SHA-256 hash of their document plus variables, and the full
+         * document only when the endpoint asks for it with {@code PersistedQueryNotFound}. Use it
+         * against endpoints implementing automatic persisted queries; an endpoint answering
+         * {@code PersistedQueryNotSupported} is remembered and sent full documents from then on.
+         *
+         * @return This builder
+         */
+        public Builder persistedQueries() {
+            this.persistedQueries = true;
+            return this;
+        }
+
+        /**
+         * Lets identical reads in flight at the same time share one exchange and its outcome, e.g. when a
+         * burst of webhooks fetches the same item. Reads are identical when token, document, operation name
+         * and variables match; the first caller's priority applies to the shared exchange. The body of a
+         * coalescable read is read whole and then decoded by each caller, instead of being decoded as it
+         * arrives. Mutations are never coalesced.
+         *
+         * @return This builder
+         */
+        public Builder coalesceReads() {
+            this.coalesceReads = true;
+            return this;
+        }
+
+        /**
+         * Asks for gzip or deflate encoded responses and inflates them while they are decoded, without
+         * buffering the body. Responses the server sends uncompressed are read as before.
+         *
+         * @return This builder
+         */
+        public Builder compressResponses() {
+            this.compressResponses = true;
+            return this;
+        }
+
+        /**
+         * Sends request bodies of at least the given size gzip-encoded, e.g. for large batched mutations.
+         * Only use it against endpoints accepting {@code Content-Encoding: gzip} on requests.
+         *
+         * @param minBytes Size of the smallest request body to compress
+         * @return This builder
+         * @throws IllegalArgumentException if minBytes is lower than 1
+         */
+        public Builder compressRequestsOver(final int minBytes) {
+            if (minBytes < 1) {
+                throw new IllegalArgumentException("Minimum compressed request size must be at least 1");
+            }
+            this.compressRequestsOver = minBytes;
+            return this;
+        }
+
+        /**
+         * @param maxInFlight Upper bound on asynchronous requests sent concurrently, until their response
+         *                    headers arrive, defaults to 256
+         * @return This builder
+         * @throws IllegalArgumentException if maxInFlight is lower than 1
+         */
+        public Builder maxInFlight(final int maxInFlight) {
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("Max in-flight requests must be at least 1");
+            }
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Enables client-side pacing against the account's complexity budget.
+         *
+         * @param budgetPerMinute Complexity points the account may spend per minute
+         * @return This builder
+         * @throws IllegalArgumentException if budgetPerMinute is lower than 1
+         */
+        public Builder complexityBudget(final long budgetPerMinute) {
+            if (budgetPerMinute < 1) {
+                throw new IllegalArgumentException("Complexity budget must be at least 1");
+            }
+            this.complexityBudget = budgetPerMinute;
+            return this;
+        }
+
+        /**
+         * @param defaultComplexityCost Cost assumed for an operation until its first response, defaults to 5,000
+         * @return This builder
+         * @throws IllegalArgumentException if defaultComplexityCost is lower than 1
+         */
+        public Builder defaultComplexityCost(final long defaultComplexityCost) {
+            if (defaultComplexityCost < 1) {
+                throw new IllegalArgumentException("Default complexity cost must be at least 1");
+            }
+            this.defaultComplexityCost = defaultComplexityCost;
+            return this;
+        }
+
+        /**
+         * @param retryPolicy Policy deciding which failed requests are sent again, defaults to {@link RetryPolicy#defaults()}
+         * @return This builder
+         */
+        public Builder retryPolicy(final RetryPolicy retryPolicy) {
+            this.retryPolicy = Objects.requireNonNull(retryPolicy, "Retry policy cannot be null");
+            return this;
+        }
+
+        /**
+         * Sends every exchange through the given transport instead of an HttpClient, so
+         * {@link #version} and {@link #connectTimeout} have no effect. The client closes the
+         * transport when it is closed.
+         *
+         * @param transport The transport to send requests through
+         * @return This builder
+         */
+        public Builder transport(final Transport transport) {
+            this.transport = Objects.requireNonNull(transport, "Transport cannot be null");
+            return this;
+        }
+
+        /**
+         * @param instrumentation Observer of every call, e.g. a {@link MetricsRecorder}; defaults to
+         *                        {@link Instrumentation#NONE}, which the client skips entirely
+         * @return This builder
+         */
+        public Builder instrumentation(final Instrumentation instrumentation) {
+            this.instrumentation = Objects.requireNonNull(instrumentation, "Instrumentation cannot be null");
+            return this;
+        }
+
+        /**
+         * @return A new ApiClient owning its own transport and executor
+         */
+        public ApiClient build() {
+            return new ApiClient(this, true);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.http;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs many blocking resource calls concurrently, one virtual thread per call,
+ * with at most {@code concurrency} calls in progress at any time.
+ */
+public final class BulkExecutor {
+
+    private final int concurrency;
+
+    /**
+     * @param concurrency Maximum number of calls running at the same time
+     * @throws IllegalArgumentException if concurrency is lower than 1
+     */
+    public BulkExecutor(final int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Executes every call and waits for all of them to finish.
+     * Calls are started as earlier ones complete; as soon as one fails, the calls still running
+     * are interrupted, the remaining ones are not started, and the failure is rethrown.
+     *
+     * @param calls The calls to execute
+     * @param <T>   Result type of the calls
+     * @return The results, in the same order as the calls
+     * @throws IOException          if any call failed with an I/O error
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> invokeAll(final List<? extends ResourceCall<? extends T>> calls)
+            throws IOException, InterruptedException {
+        Objects.requireNonNull(calls, "Calls cannot be null");
+
+        Object[] results = new Object[calls.size()];
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletionService<Void> completions = new ExecutorCompletionService<>(executor);
+            int started = 0;
+            try {
+                for (int completed = 0; completed < results.length; completed++) {
+                    while (started < results.length && started - completed < concurrency) {
+                        int index = started++;
+                        ResourceCall<? extends T> call = calls.get(index);
+                        completions.submit(() -> {
+                            results[index] = call.call();
+                            return null;
+                        });
+                    }
+                    completions.take().get();
+                }
+            } catch (ExecutionException e) {
+                executor.shutdownNow();
+                throw unwrap(e);
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                throw e;
+            }
+        }
+        return (List<T>) Arrays.asList(results);
+    }
+
+    /**
+     * @return Maximum number of calls running at the same time
+     */
+    public int concurrency() {
+        return concurrency;
+    }
+
+    private static IOException unwrap(final ExecutionException e) throws InterruptedException {
+        Throwable cause = e.getCause();
+        if (cause instanceof IOException io) {
+            return io;
+        }
+        if (cause instanceof InterruptedException interrupted) {
+            throw interrupted;
+        }
+        if (cause instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IOException(cause);
+    }
+}
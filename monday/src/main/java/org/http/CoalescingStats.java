@@ -0,0 +1,37 @@
+package org.http;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters maintained by the read coalescing layer of an {@link ApiClient}.
+ */
+public final class CoalescingStats {
+
+    private final LongAdder exchanges = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    CoalescingStats() {
+    }
+
+    /**
+     * @return Number of reads that were sent because no identical read was in flight
+     */
+    public long exchanges() {
+        return exchanges.sum();
+    }
+
+    /**
+     * @return Number of reads answered by an identical read already in flight, without a request of their own
+     */
+    public long coalesced() {
+        return coalesced.sum();
+    }
+
+    void recordExchange() {
+        exchanges.increment();
+    }
+
+    void recordCoalesced() {
+        coalesced.increment();
+    }
+}
@@ -0,0 +1,360 @@
+package org.http;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Client-side pacing against the Monday.com per-minute complexity budget.
+ * <p>
+ * Outgoing queries are extended with {@value #COMPLEXITY_FIELD} so every response reports the
+ * budget left. Requests draw their estimated cost from a token bucket that refills at
+ * {@code budgetPerMinute / 60} points per second and, until the reported reset time, never holds
+ * more than the remaining budget the API reported. When the bucket cannot cover a request it waits in a queue ordered by {@link Priority},
+ * then arrival, instead of being sent and rejected. A budget-exhausted rejection pauses the
+ * whole queue until the reset time the API announces.
+ * <p>
+ * Costs are estimated per root field ({@code items}, {@code boards}, {@code change_multiple_column_values}, ...)
+ * from the complexity observed on earlier responses.
+ */
+public final class ComplexityScheduler implements AutoCloseable {
+
+    public static final String COMPLEXITY_FIELD = "complexity { before after reset_in_x_seconds }";
+
+    private static final Pattern COMPLEXITY_PATTERN = Pattern.compile(
+            "\"complexity\"\\s*:\\s*\\{\\s*\"before\"\\s*:\\s*(\\d+)\\s*,\\s*\"after\"\\s*:\\s*(\\d+)\\s*,"
+                    + "\\s*\"reset_in_x_seconds\"\\s*:\\s*(\\d+)");
+    private static final Pattern EXHAUSTED_PATTERN = Pattern.compile(
+            "(?i)(?:COMPLEXITY_BUDGET_EXHAUSTED|ComplexityException)");
+    private static final Pattern RESET_PATTERN = Pattern.compile(
+            "(?i)(?:\"retry_in_seconds\"\\s*:\\s*(\\d+)|reset in (\\d+) seconds?)");
+    private static final Pattern ROOT_FIELD_PATTERN = Pattern.compile(
+            "\\G\\s*(\\w+)\\s*(?::\\s*(\\w+))?");
+    private static final int COMPLEXITY_SCAN_WINDOW = 1024;
+    private static final double ESTIMATE_WEIGHT = 0.3;
+
+    private final long capacity;
+    private final double refillPerNano;
+    private final long defaultCost;
+    private final Map<String, Long> estimates = new ConcurrentHashMap<>();
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+    private final ScheduledExecutorService timer;
+
+    private double tokens;
+    private long lastRefill;
+    private long pausedUntil;
+    private long windowRemaining;
+    private long windowResetAt;
+    private boolean windowKnown;
+    private long sequence;
+    private ScheduledFuture<?> wakeup;
+    private long wakeupAt;
+
+    /**
+     * @param budgetPerMinute Complexity points the account may spend per minute
+     * @param defaultCost     Cost assumed for an operation until one of its responses has been seen
+     * @throws IllegalArgumentException if budgetPerMinute or defaultCost is lower than 1
+     */
+    public ComplexityScheduler(final long budgetPerMinute, final long defaultCost) {
+        if (budgetPerMinute < 1) {
+            throw new IllegalArgumentException("Complexity budget must be at least 1");
+        }
+        if (defaultCost < 1) {
+            throw new IllegalArgumentException("Default cost must be at least 1");
+        }
+        this.capacity = budgetPerMinute;
+        this.refillPerNano = budgetPerMinute / (double) Duration.ofMinutes(1).toNanos();
+        this.defaultCost = defaultCost;
+        this.tokens = budgetPerMinute;
+        this.lastRefill = System.nanoTime();
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "monday-complexity-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Adds the complexity field to the query's selection set, unless it is already there.
+     *
+     * @param query The GraphQL query to send
+     * @return The query with {@value #COMPLEXITY_FIELD} as its first root field
+     */
+    public String instrument(final String query) {
+        if (query.contains("complexity {") || query.contains("complexity{")) {
+            return query;
+        }
+        int open = selectionStart(query);
+        if (open < 0) {
+            return query;
+        }
+        return query.substring(0, open + 1) + " " + COMPLEXITY_FIELD + " " + query.substring(open + 1);
+    }
+
+    /**
+     * Waits, without blocking, until the bucket can cover the estimated cost of the query.
+     *
+     * @param query    The GraphQL query about to be sent
+     * @param priority Admission priority while queued
+     * @return A future completing with the ticket to pass to {@link #complete} once the response arrives
+     */
+    public CompletableFuture<Ticket> acquire(final String query, final Priority priority) {
+        String operation = operationKey(query);
+        Ticket ticket = new Ticket(operation, Math.min(capacity, estimates.getOrDefault(operation, defaultCost)));
+        Waiter waiter = new Waiter(ticket, Objects.requireNonNull(priority, "Priority cannot be null"));
+        List<Waiter> admitted;
+        synchronized (this) {
+            waiter.sequence = sequence++;
+            waiters.add(waiter);
+            admitted = dispatch();
+        }
+        admit(admitted);
+        waiter.grant.whenComplete((granted, error) -> {
+            if (waiter.grant.isCancelled()) {
+                synchronized (this) {
+                    waiters.remove(waiter);
+                }
+            }
+        });
+        return waiter.grant;
+    }
+
+    /**
+     * Reconciles the bucket with the complexity the API reported in a response body.
+     *
+     * @param ticket The ticket returned by {@link #acquire}
+     * @param body   The response body
+     * @return The complexity the response reported the request consumed, or -1 if it reported none
+     */
+    public long complete(final Ticket ticket, final String body) {
+        Matcher complexity = COMPLEXITY_PATTERN.matcher(body);
+        complexity.region(0, Math.min(body.length(), COMPLEXITY_SCAN_WINDOW));
+        boolean found = complexity.find();
+        if (!found) {
+            complexity.reset();
+            found = complexity.find();
+        }
+
+        long cost = -1;
+        List<Waiter> admitted;
+        synchronized (this) {
+            refill();
+            if (found) {
+                long before = Long.parseLong(complexity.group(1));
+                long after = Long.parseLong(complexity.group(2));
+                cost = Math.max(0, before - after);
+                estimates.merge(ticket.operation(), cost,
+                        (previous, observed) -> Math.round(previous * (1 - ESTIMATE_WEIGHT) + observed * ESTIMATE_WEIGHT));
+                long resetIn = Long.parseLong(complexity.group(3));
+                tokens = Math.min(capacity, tokens + ticket.estimate() - cost);
+                windowRemaining = after;
+                windowResetAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(resetIn);
+                windowKnown = true;
+                clampToWindow(System.nanoTime());
+            } else if (EXHAUSTED_PATTERN.matcher(body).find()) {
+                Matcher reset = RESET_PATTERN.matcher(body);
+                long seconds = reset.find() ? Long.parseLong(reset.group(1) != null ? reset.group(1) : reset.group(2)) : 60;
+                pausedUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+                tokens = 0;
+            }
+            admitted = dispatch();
+        }
+        admit(admitted);
+        return cost;
+    }
+
+    /**
+     * Returns the estimated cost of a request that never reached the API back to the bucket.
+     *
+     * @param ticket The ticket returned by {@link #acquire}
+     */
+    public void release(final Ticket ticket) {
+        List<Waiter> admitted;
+        synchronized (this) {
+            refill();
+            tokens = Math.min(capacity, tokens + ticket.estimate());
+            windowRemaining += ticket.estimate();
+            admitted = dispatch();
+        }
+        admit(admitted);
+    }
+
+    /**
+     * @return Complexity points currently available to new requests
+     */
+    public synchronized long available() {
+        refill();
+        return (long) tokens;
+    }
+
+    /**
+     * @return Number of requests waiting for budget
+     */
+    public synchronized int queued() {
+        return waiters.size();
+    }
+
+    /**
+     * Stops the wake-up timer. Requests still queued are failed.
+     */
+    @Override
+    public void close() {
+        List<Waiter> pending;
+        synchronized (this) {
+            pending = new ArrayList<>(waiters);
+            waiters.clear();
+        }
+        pending.forEach(waiter -> waiter.grant.completeExceptionally(
+                new IllegalStateException("Complexity scheduler has been closed")));
+        timer.shutdownNow();
+    }
+
+    private List<Waiter> dispatch() {
+        refill();
+        List<Waiter> admitted = new ArrayList<>();
+        long now = System.nanoTime();
+        while (!waiters.isEmpty()) {
+            Waiter head = waiters.peek();
+            if (head.grant.isDone()) {
+                waiters.poll();
+                continue;
+            }
+            long cost = head.ticket.estimate();
+            if (now - pausedUntil < 0) {
+                scheduleWakeup(pausedUntil - now);
+                break;
+            }
+            if (tokens < cost) {
+                long refillDelay = (long) Math.ceil((cost - tokens) / refillPerNano);
+                scheduleWakeup(windowKnown && windowRemaining < cost
+                        ? Math.max(refillDelay, windowResetAt - now)
+                        : refillDelay);
+                break;
+            }
+            waiters.poll();
+            tokens -= cost;
+            windowRemaining -= cost;
+            admitted.add(head);
+        }
+        return admitted;
+    }
+
+    private static void admit(final List<Waiter> admitted) {
+        for (Waiter waiter : admitted) {
+            waiter.grant.complete(waiter.ticket);
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        if (now - pausedUntil < 0) {
+            lastRefill = now;
+            return;
+        }
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+        clampToWindow(now);
+    }
+
+    private void clampToWindow(final long now) {
+        if (!windowKnown) {
+            return;
+        }
+        if (now - windowResetAt >= 0) {
+            windowKnown = false;
+            return;
+        }
+        tokens = Math.min(tokens, windowRemaining);
+    }
+
+    private void scheduleWakeup(final long delayNanos) {
+        long at = System.nanoTime() + delayNanos;
+        if (wakeup != null && !wakeup.isDone() && wakeupAt - at <= 0) {
+            return;
+        }
+        if (wakeup != null) {
+            wakeup.cancel(false);
+        }
+        wakeupAt = at;
+        wakeup = timer.schedule(() -> {
+            List<Waiter> admitted;
+            synchronized (this) {
+                wakeup = null;
+                admitted = dispatch();
+            }
+            admit(admitted);
+        }, Math.max(delayNanos, 0), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Index of the brace opening the operation's selection set, skipping any variable definitions.
+     */
+    private static int selectionStart(final String query) {
+        int depth = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '{' && depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Name of the first root field of the operation, used as the key for cost estimates.
+     */
+    static String operationKey(final String query) {
+        int open = selectionStart(query);
+        if (open < 0) {
+            return "";
+        }
+        Matcher field = ROOT_FIELD_PATTERN.matcher(query);
+        field.region(open + 1, query.length());
+        if (!field.find()) {
+            return "";
+        }
+        return field.group(2) != null ? field.group(2) : field.group(1);
+    }
+
+    /**
+     * Admission granted to one request.
+     *
+     * @param operation Root field the cost estimate is tracked under
+     * @param estimate  Cost drawn from the bucket on admission
+     */
+    public record Ticket(String operation, long estimate) {
+    }
+
+    private static final class Waiter implements Comparable<Waiter> {
+        private final Ticket ticket;
+        private final Priority priority;
+        private final CompletableFuture<Ticket> grant = new CompletableFuture<>();
+        private long sequence;
+
+        private Waiter(final Ticket ticket, final Priority priority) {
+            this.ticket = ticket;
+            this.priority = priority;
+        }
+
+        @Override
+        public int compareTo(final Waiter other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
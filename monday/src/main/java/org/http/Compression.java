@@ -0,0 +1,219 @@
+package org.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Content-coding of request and response bodies for an {@link ApiClient}.
+ * <p>
+ * Responses are negotiated with {@code Accept-Encoding: gzip, deflate} and inflated as they are read,
+ * so a body is never held whole, compressed or not. Request bodies of at least a threshold size are sent
+ * gzip-encoded. Encodings the JDK cannot decode, such as brotli, are never offered.
+ */
+final class Compression {
+
+    static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    static final String ACCEPT_ENCODING_VALUE = "gzip, deflate";
+    static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    static final String GZIP = "gzip";
+
+    private final boolean responses;
+    private final int requestThreshold;
+    private final CompressionStats stats = new CompressionStats();
+
+    /**
+     * @param responses        Whether to ask for compressed responses
+     * @param requestThreshold Smallest request body compressed, or 0 to never compress requests
+     */
+    Compression(final boolean responses, final int requestThreshold) {
+        this.responses = responses;
+        this.requestThreshold = requestThreshold;
+    }
+
+    boolean compressesResponses() {
+        return responses;
+    }
+
+    /**
+     * @return Whether a request body of this size is sent gzip-encoded
+     */
+    boolean compressesRequest(final int length) {
+        return requestThreshold > 0 && length >= requestThreshold;
+    }
+
+    CompressionStats stats() {
+        return stats;
+    }
+
+    /**
+     * @return The response with its body decoding its content-coding as it is read, when responses are compressed
+     */
+    Transport.Response decode(final Transport.Response response) {
+        if (!responses) {
+            return response;
+        }
+        String encoding = response.headers().firstValue(CONTENT_ENCODING_HEADER).orElse("identity")
+                .trim().toLowerCase(Locale.ROOT);
+        return new Transport.Response(response.statusCode(), response.headers(),
+                new DecodingInputStream(response.body(), encoding, stats));
+    }
+
+    /**
+     * @return The body gzip-encoded
+     */
+    byte[] compress(final byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] compressed = out.toByteArray();
+        stats.recordRequest(compressed.length, body.length);
+        return compressed;
+    }
+
+    /**
+     * Counts a request body sent as is, when compression is enabled at all.
+     */
+    void recordUncompressedRequest(final int length) {
+        if (responses || requestThreshold > 0) {
+            stats.recordRequest(length, length);
+        }
+    }
+
+    /**
+     * Decodes a response body on first read rather than when the response arrives, because reading
+     * the gzip header blocks and the response may arrive on a thread of the transport.
+     */
+    private static final class DecodingInputStream extends FilterInputStream {
+
+        private final String encoding;
+        private final CompressionStats stats;
+        private final CountingInputStream wire;
+        private long decoded;
+        private IOException failure;
+        private boolean recorded;
+
+        private DecodingInputStream(final InputStream body, final String encoding, final CompressionStats stats) {
+            super(null);
+            this.wire = new CountingInputStream(body);
+            this.encoding = encoding;
+            this.stats = stats;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = open().read();
+            if (b >= 0) {
+                decoded++;
+            } else {
+                record();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            int n = open().read(buffer, offset, length);
+            if (n > 0) {
+                decoded += n;
+            } else if (n < 0) {
+                record();
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            long skipped = open().skip(n);
+            decoded += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return open().available();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (in != null) {
+                    in.close();
+                } else {
+                    wire.close();
+                }
+            } finally {
+                record();
+            }
+        }
+
+        private InputStream open() throws IOException {
+            if (in == null) {
+                if (failure != null) {
+                    throw new IOException(failure.getMessage(), failure);
+                }
+                try {
+                    in = switch (encoding) {
+                        case "gzip", "x-gzip" -> new GZIPInputStream(wire, 8192);
+                        case "deflate" -> new InflaterInputStream(wire, new Inflater(), 8192);
+                        case "identity" -> wire;
+                        default -> throw new IOException("Unsupported Content-Encoding: " + encoding);
+                    };
+                } catch (IOException e) {
+                    failure = e;
+                    throw e;
+                }
+            }
+            return in;
+        }
+
+        private void record() {
+            if (!recorded) {
+                recorded = true;
+                stats.recordResponse(wire.count, decoded);
+            }
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private CountingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            int n = in.read(buffer, offset, length);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.http;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters maintained by the compression layer of an {@link ApiClient}.
+ * Nothing is counted unless response or request compression is enabled.
+ */
+public final class CompressionStats {
+
+    private final LongAdder responseWireBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final LongAdder requestWireBytes = new LongAdder();
+    private final LongAdder requestBytes = new LongAdder();
+
+    CompressionStats() {
+    }
+
+    /**
+     * @return Bytes of response bodies read off the wire, compressed or not
+     */
+    public long responseWireBytes() {
+        return responseWireBytes.sum();
+    }
+
+    /**
+     * @return Bytes of the same response bodies once decompressed
+     */
+    public long responseBytes() {
+        return responseBytes.sum();
+    }
+
+    /**
+     * @return Bytes of request bodies sent, compressed or not
+     */
+    public long requestWireBytes() {
+        return requestWireBytes.sum();
+    }
+
+    /**
+     * @return Bytes of the same request bodies before compression
+     */
+    public long requestBytes() {
+        return requestBytes.sum();
+    }
+
+    void recordResponse(final long wire, final long decoded) {
+        responseWireBytes.add(wire);
+        responseBytes.add(decoded);
+    }
+
+    void recordRequest(final long wire, final long uncompressed) {
+        requestWireBytes.add(wire);
+        requestBytes.add(uncompressed);
+    }
+}
@@ -0,0 +1,334 @@
+package org.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * In-process {@link Transport} answering from a script instead of the network, for deterministic tests
+ * and load tests of the whole request path.
+ * <p>
+ * Exchanges are numbered from 1 in the order they arrive. Scripted failures hit fixed exchange numbers,
+ * the latency jitter of an exchange is drawn from the seed and its number, and the complexity budget is
+ * spent and reset like the API's, so a run replays the same way each time:
+ * <pre>
+ * {@code
+ * FakeTransport transport = FakeTransport.newBuilder()
+ *         .respond("{\"data\":{\"items\":[]}}")
+ *         .latency(Duration.ofMillis(20), Duration.ofMillis(5))
+ *         .failEvery(100, 503)
+ *         .complexityBudget(10_000_000, 5_000)
+ *         .build();
+ * }
+ * </pre>
+ * Persisted query hashes are answered as if they were registered.
+ */
+public final class FakeTransport implements Transport {
+
+    static final String DEFAULT_BODY = "{\"data\":{}}";
+
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+    private static final HttpHeaders NO_HEADERS = HttpHeaders.of(Map.of(), (name, value) -> true);
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final byte[] body;
+    private final Function<String, String> responder;
+    private final long latencyNanos;
+    private final long jitterNanos;
+    private final long seed;
+    private final int failEvery;
+    private final int failStatus;
+    private final int disconnectEvery;
+    private final long budgetPerMinute;
+    private final long costPerRequest;
+    private final AtomicLong exchanges = new AtomicLong();
+
+    private long remaining;
+    private long windowStart;
+
+    private FakeTransport(final Builder builder) {
+        this.body = builder.body.getBytes(StandardCharsets.UTF_8);
+        this.responder = builder.responder;
+        this.latencyNanos = builder.latency.toNanos();
+        this.jitterNanos = builder.jitter.toNanos();
+        this.seed = builder.seed;
+        this.failEvery = builder.failEvery;
+        this.failStatus = builder.failStatus;
+        this.disconnectEvery = builder.disconnectEvery;
+        this.budgetPerMinute = builder.budgetPerMinute;
+        this.costPerRequest = builder.costPerRequest;
+        this.remaining = budgetPerMinute;
+        this.windowStart = System.nanoTime();
+    }
+
+    /**
+     * @return A builder for a transport answering {@value #DEFAULT_BODY} at once to every request
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    @Override
+    public Response send(final Request request) throws IOException, InterruptedException {
+        long exchange = exchanges.incrementAndGet();
+        long delay = delayNanos(exchange);
+        if (delay > 0) {
+            TimeUnit.NANOSECONDS.sleep(delay);
+        }
+        return answer(request, exchange);
+    }
+
+    @Override
+    public CompletableFuture<Response> sendAsync(final Request request) {
+        long exchange = exchanges.incrementAndGet();
+        long delay = delayNanos(exchange);
+        if (delay <= 0) {
+            return complete(request, exchange);
+        }
+        return CompletableFuture.supplyAsync(() -> request,
+                        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS))
+                .thenCompose(delayed -> complete(delayed, exchange));
+    }
+
+    /**
+     * @return Number of exchanges started so far, answered or not
+     */
+    public long exchanges() {
+        return exchanges.get();
+    }
+
+    private CompletableFuture<Response> complete(final Request request, final long exchange) {
+        try {
+            return CompletableFuture.completedFuture(answer(request, exchange));
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private long delayNanos(final long exchange) {
+        if (jitterNanos == 0) {
+            return latencyNanos;
+        }
+        return latencyNanos + new SplittableRandom(seed ^ exchange).nextLong(jitterNanos + 1);
+    }
+
+    private Response answer(final Request request, final long exchange) throws IOException {
+        if (disconnectEvery > 0 && exchange % disconnectEvery == 0) {
+            throw new IOException("Scripted disconnect of exchange " + exchange);
+        }
+        if (failEvery > 0 && exchange % failEvery == 0) {
+            return response(failStatus, NO_HEADERS,
+                    "{\"error_message\":\"Scripted failure\",\"status_code\":" + failStatus + "}");
+        }
+        if (budgetPerMinute == 0) {
+            return responder == null
+                    ? new Response(200, NO_HEADERS, new ByteArrayInputStream(body))
+                    : response(200, NO_HEADERS, responder.apply(requestText(request)));
+        }
+
+        long before;
+        long resetInSeconds;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (now - windowStart >= WINDOW_NANOS) {
+                windowStart = now;
+                remaining = budgetPerMinute;
+            }
+            long resetInNanos = windowStart + WINDOW_NANOS - now;
+            resetInSeconds = Math.max(1, (resetInNanos + 999_999_999) / 1_000_000_000);
+            before = remaining;
+            if (remaining >= costPerRequest) {
+                remaining -= costPerRequest;
+            }
+        }
+        if (before < costPerRequest) {
+            return exhausted(resetInSeconds);
+        }
+        String text = requestText(request);
+        String answer = responder == null ? new String(body, StandardCharsets.UTF_8) : responder.apply(text);
+        if (text.contains("complexity {")) {
+            answer = withComplexity(answer, before, before - costPerRequest, resetInSeconds);
+        }
+        return response(200, NO_HEADERS, answer);
+    }
+
+    private static Response exhausted(final long resetInSeconds) {
+        HttpHeaders headers = HttpHeaders.of(Map.of(RETRY_AFTER_HEADER, List.of(String.valueOf(resetInSeconds))),
+                (name, value) -> true);
+        return response(429, headers, "{\"errors\":[{\"message\":\"Complexity budget exhausted\",\"extensions\":{"
+                + "\"code\":\"COMPLEXITY_BUDGET_EXHAUSTED\",\"retry_in_seconds\":" + resetInSeconds + "}}]}");
+    }
+
+    /**
+     * Adds the complexity field the client asked for as the first field of {@code data}.
+     */
+    private static String withComplexity(final String answer, final long before, final long after, final long resetIn) {
+        int data = answer.indexOf("\"data\":{");
+        if (data < 0) {
+            return answer;
+        }
+        int fields = data + "\"data\":{".length();
+        String complexity = "\"complexity\":{\"before\":" + before + ",\"after\":" + after
+                + ",\"reset_in_x_seconds\":" + resetIn + "}";
+        return answer.substring(0, fields) + complexity
+                + (answer.startsWith("}", fields) ? "" : ",") + answer.substring(fields);
+    }
+
+    private static String requestText(final Request request) throws IOException {
+        if (!"gzip".equals(request.header(Compression.CONTENT_ENCODING_HEADER).orElse(null))) {
+            return new String(request.body(), StandardCharsets.UTF_8);
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(request.body()))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Response response(final int status, final HttpHeaders headers, final String body) {
+        return new Response(status, headers, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Builder for {@link FakeTransport} instances.
+     */
+    public static final class Builder {
+
+        private String body = DEFAULT_BODY;
+        private Function<String, String> responder;
+        private Duration latency = Duration.ZERO;
+        private Duration jitter = Duration.ZERO;
+        private long seed;
+        private int failEvery;
+        private int failStatus;
+        private int disconnectEvery;
+        private long budgetPerMinute;
+        private long costPerRequest;
+
+        private Builder() {
+        }
+
+        /**
+         * @param body Body answered with status 200 to every request not scripted to fail
+         * @return This builder
+         */
+        public Builder respond(final String body) {
+            this.body = Objects.requireNonNull(body, "Body cannot be null");
+            this.responder = null;
+            return this;
+        }
+
+        /**
+         * @param responder Function from the request body, inflated if it was sent gzip-encoded, to the body
+         *                  answered with status 200; called concurrently for concurrent requests
+         * @return This builder
+         */
+        public Builder respond(final Function<String, String> responder) {
+            this.responder = Objects.requireNonNull(responder, "Responder cannot be null");
+            return this;
+        }
+
+        /**
+         * @param latency Time every exchange takes before it is answered
+         * @return This builder
+         * @throws IllegalArgumentException if latency is negative
+         */
+        public Builder latency(final Duration latency) {
+            return latency(latency, Duration.ZERO);
+        }
+
+        /**
+         * @param latency Least time every exchange takes before it is answered
+         * @param jitter  Most time added to the latency, drawn for each exchange from the {@link #seed}
+         * @return This builder
+         * @throws IllegalArgumentException if latency or jitter is negative
+         */
+        public Builder latency(final Duration latency, final Duration jitter) {
+            if (latency.isNegative() || jitter.isNegative()) {
+                throw new IllegalArgumentException("Latency and jitter cannot be negative");
+            }
+            this.latency = latency;
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * @param seed Seed of the latency jitter, defaults to 0
+         * @return This builder
+         */
+        public Builder seed(final long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * @param every  Answer every this many exchanges with the status instead of the scripted body
+         * @param status HTTP error status to answer with, e.g. 503
+         * @return This builder
+         * @throws IllegalArgumentException if every is lower than 1 or the status is not an error status
+         */
+        public Builder failEvery(final int every, final int status) {
+            if (every < 1) {
+                throw new IllegalArgumentException("Failure interval must be at least 1");
+            }
+            if (status < 400 || status > 599) {
+                throw new IllegalArgumentException("Failure status must be between 400 and 599");
+            }
+            this.failEvery = every;
+            this.failStatus = status;
+            return this;
+        }
+
+        /**
+         * @param every Fail every this many exchanges with an {@link IOException}, as a dropped connection would
+         * @return This builder
+         * @throws IllegalArgumentException if every is lower than 1
+         */
+        public Builder disconnectEvery(final int every) {
+            if (every < 1) {
+                throw new IllegalArgumentException("Disconnect interval must be at least 1");
+            }
+            this.disconnectEvery = every;
+            return this;
+        }
+
+        /**
+         * Spends a per-minute complexity budget like the API: requests asking for {@code complexity} get it
+         * reported, and once the budget is spent requests are answered with status 429 and
+         * {@code COMPLEXITY_BUDGET_EXHAUSTED} until the minute is over.
+         *
+         * @param budgetPerMinute Complexity points available per minute
+         * @param costPerRequest  Complexity points every request costs
+         * @return This builder
+         * @throws IllegalArgumentException if budgetPerMinute or costPerRequest is lower than 1
+         */
+        public Builder complexityBudget(final long budgetPerMinute, final long costPerRequest) {
+            if (budgetPerMinute < 1) {
+                throw new IllegalArgumentException("Complexity budget must be at least 1");
+            }
+            if (costPerRequest < 1) {
+                throw new IllegalArgumentException("Cost per request must be at least 1");
+            }
+            this.budgetPerMinute = budgetPerMinute;
+            this.costPerRequest = costPerRequest;
+            return this;
+        }
+
+        /**
+         * @return A new FakeTransport
+         */
+        public FakeTransport build() {
+            return new FakeTransport(this);
+        }
+    }
+}
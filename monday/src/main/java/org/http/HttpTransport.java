@@ -0,0 +1,54 @@
+package org.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The default {@link Transport}, posting over a pooled {@link HttpClient}.
+ */
+final class HttpTransport implements Transport {
+
+    private final HttpClient client;
+
+    HttpTransport(final HttpClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public Response send(final Request request) throws IOException, InterruptedException {
+        return response(client.send(httpRequest(request), HttpResponse.BodyHandlers.ofInputStream()));
+    }
+
+    @Override
+    public CompletableFuture<Response> sendAsync(final Request request) {
+        return client.sendAsync(httpRequest(request), HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(HttpTransport::response);
+    }
+
+    /**
+     * Waits for in-flight exchanges to complete and closes the HttpClient.
+     */
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    private static HttpRequest httpRequest(final Request request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(request.uri())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(request.body()));
+        request.headers().forEach(builder::header);
+        if (request.timeout() != null) {
+            builder.timeout(request.timeout());
+        }
+        return builder.build();
+    }
+
+    private static Response response(final HttpResponse<InputStream> response) {
+        return new Response(response.statusCode(), response.headers(), response.body());
+    }
+}
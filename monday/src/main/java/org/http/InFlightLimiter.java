@@ -0,0 +1,105 @@
+package org.http;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of asynchronous exchanges running at the same time.
+ * Work above the cap is queued and started, in submission order, as earlier exchanges finish;
+ * no thread is ever parked waiting for a slot.
+ * <p>
+ * A slot is held until the future returned by the task completes, which for a streamed response is when
+ * its headers arrive: bodies still being read do not count against the cap.
+ */
+final class InFlightLimiter {
+
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
+    InFlightLimiter(final int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Starts the task as soon as a slot is free.
+     *
+     * @param task Supplier starting the asynchronous exchange
+     * @param <T>  Result type of the exchange
+     * @return A future mirroring the outcome of the task
+     */
+    <T> CompletableFuture<T> submit(final Supplier<CompletableFuture<T>> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        pending.add(() -> {
+            CompletableFuture<T> started;
+            try {
+                started = task.get();
+            } catch (RuntimeException e) {
+                started = CompletableFuture.failedFuture(e);
+            }
+            started.whenComplete((value, error) -> {
+                release();
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        });
+        drain();
+        return result;
+    }
+
+    /**
+     * @return Number of exchanges currently running
+     */
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return Number of exchanges waiting for a free slot
+     */
+    int queued() {
+        return pending.size();
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    /**
+     * Starts queued tasks while slots are free. Only one thread drains at a time; a drain requested meanwhile,
+     * including by a task completing inline and releasing its slot, is picked up by the loop of the thread
+     * draining rather than recursing into it.
+     */
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int requests = 1;
+        do {
+            while (!pending.isEmpty()) {
+                int current = inFlight.get();
+                if (current >= maxInFlight) {
+                    break;
+                }
+                if (!inFlight.compareAndSet(current, current + 1)) {
+                    continue;
+                }
+                Runnable next = pending.poll();
+                if (next == null) {
+                    inFlight.decrementAndGet();
+                    continue;
+                }
+                next.run();
+            }
+            requests = drainRequests.addAndGet(-requests);
+        } while (requests != 0);
+    }
+}
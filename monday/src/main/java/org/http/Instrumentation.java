@@ -0,0 +1,70 @@
+package org.http;
+
+/**
+ * Observes every call made through an {@link ApiClient}, to feed a metrics or tracing stack.
+ * <p>
+ * A call is one {@code send} or {@code sendAsync}; it makes one attempt per exchange with the API,
+ * more when it is retried. The client asks {@link #callStarted} for a listener when the call starts,
+ * reports each attempt as it completes and the call when it completes. Reads coalesced into an identical
+ * read in flight complete without attempts of their own. Without instrumentation the client skips all
+ * of it; a listener returning {@link CallListener#NONE} skips the rest of a call.
+ * <p>
+ * Listeners are called on the threads completing the exchanges and should not block.
+ * {@link MetricsRecorder} is an in-memory implementation.
+ */
+@FunctionalInterface
+public interface Instrumentation {
+
+    /**
+     * Instrumentation observing nothing, the default.
+     */
+    Instrumentation NONE = operation -> CallListener.NONE;
+
+    /**
+     * @param operation Operation name of the request or, for a request without one, its first root field,
+     *                  or {@code anonymous}
+     * @return The listener of this call
+     */
+    CallListener callStarted(String operation);
+
+    /**
+     * Receives the events of one call.
+     */
+    interface CallListener {
+
+        /**
+         * Listener ignoring every event.
+         */
+        CallListener NONE = new CallListener() {
+        };
+
+        /**
+         * @param attempt The exchange just completed, successfully or not
+         */
+        default void attemptCompleted(final Attempt attempt) {
+        }
+
+        /**
+         * @param latencyNanos Time from the start of the call to its result, including admission and retries
+         * @param error        Why the call failed, or null if it succeeded
+         */
+        default void callCompleted(final long latencyNanos, final Throwable error) {
+        }
+    }
+
+    /**
+     * One exchange with the API.
+     *
+     * @param number        Number of the attempt, from 1; retries have higher numbers
+     * @param statusCode    HTTP status of the response, or 0 when none was received
+     * @param requestBytes  Bytes of the request body sent, as on the wire
+     * @param responseBytes Bytes of the response body read, after any content-coding was decoded
+     * @param complexity    Complexity the API reported the request consumed, or -1 if not reported
+     * @param latencyNanos  Time from the start of the attempt, including complexity admission,
+     *                      to reading its response body
+     * @param error         Why no response could be read, or null
+     */
+    record Attempt(int number, int statusCode, long requestBytes, long responseBytes, long complexity,
+                   long latencyNanos, Throwable error) {
+    }
+}
@@ -0,0 +1,172 @@
+package org.http;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * In-memory {@link Instrumentation} keeping {@link OperationStats} per operation, to be scraped
+ * by a metrics exporter or read in a test:
+ * <pre>
+ * {@code
+ * MetricsRecorder metrics = MetricsRecorder.newBuilder().build();
+ * ApiClient client = ApiClient.newBuilder().instrumentation(metrics).build();
+ * ...
+ * long p99 = metrics.operation("FetchItemById").latency().valueAtPercentile(99);
+ * }
+ * </pre>
+ * With {@link Builder#traceSpans(Consumer)} it also emits a {@link Span} per completed call.
+ * Without it, recording allocates nothing per call.
+ */
+public final class MetricsRecorder implements Instrumentation {
+
+    private final Map<String, OperationListener> operations = new ConcurrentHashMap<>();
+    private final Consumer<Span> spans;
+
+    private MetricsRecorder(final Builder builder) {
+        this.spans = builder.spans;
+    }
+
+    /**
+     * @return A builder for a recorder keeping metrics only
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    @Override
+    public CallListener callStarted(final String operation) {
+        OperationListener listener = operations.get(operation);
+        if (listener == null) {
+            listener = operations.computeIfAbsent(operation, OperationListener::new);
+        }
+        listener.stats.recordStarted();
+        return spans == null ? listener : new SpanListener(listener.stats, spans, Instant.now());
+    }
+
+    /**
+     * @param operation Operation name, as passed to {@link #callStarted}
+     * @return The stats of the operation, or null if it was never called
+     */
+    public OperationStats operation(final String operation) {
+        OperationListener listener = operations.get(operation);
+        return listener == null ? null : listener.stats;
+    }
+
+    /**
+     * @return The stats of every operation called so far
+     */
+    public Collection<OperationStats> operations() {
+        List<OperationStats> stats = new ArrayList<>(operations.size());
+        operations.values().forEach(listener -> stats.add(listener.stats));
+        return Collections.unmodifiableList(stats);
+    }
+
+    /**
+     * @return Calls of any operation started and not completed yet
+     */
+    public long inFlight() {
+        long inFlight = 0;
+        for (OperationListener listener : operations.values()) {
+            inFlight += listener.stats.inFlight();
+        }
+        return inFlight;
+    }
+
+    /**
+     * A completed call, for a tracing backend.
+     *
+     * @param operation    The operation called
+     * @param start        When the call started
+     * @param latencyNanos Time from the start of the call to its result
+     * @param attempts     The exchanges of the call, in order
+     * @param error        Why the call failed, or null if it succeeded
+     */
+    public record Span(String operation, Instant start, long latencyNanos, List<Attempt> attempts, Throwable error) {
+
+        public Span {
+            attempts = List.copyOf(attempts);
+        }
+    }
+
+    /**
+     * Shared by every call of an operation when no spans are emitted.
+     */
+    private static final class OperationListener implements CallListener {
+
+        private final OperationStats stats;
+
+        private OperationListener(final String operation) {
+            this.stats = new OperationStats(operation);
+        }
+
+        @Override
+        public void attemptCompleted(final Attempt attempt) {
+            stats.recordAttempt(attempt);
+        }
+
+        @Override
+        public void callCompleted(final long latencyNanos, final Throwable error) {
+            stats.recordCompleted(latencyNanos, error);
+        }
+    }
+
+    private static final class SpanListener implements CallListener {
+
+        private final OperationStats stats;
+        private final Consumer<Span> spans;
+        private final Instant start;
+        private final List<Attempt> attempts = Collections.synchronizedList(new ArrayList<>(1));
+
+        private SpanListener(final OperationStats stats, final Consumer<Span> spans, final Instant start) {
+            this.stats = stats;
+            this.spans = spans;
+            this.start = start;
+        }
+
+        @Override
+        public void attemptCompleted(final Attempt attempt) {
+            stats.recordAttempt(attempt);
+            attempts.add(attempt);
+        }
+
+        @Override
+        public void callCompleted(final long latencyNanos, final Throwable error) {
+            stats.recordCompleted(latencyNanos, error);
+            spans.accept(new Span(stats.operation(), start, latencyNanos, attempts, error));
+        }
+    }
+
+    /**
+     * Builder for {@link MetricsRecorder} instances.
+     */
+    public static final class Builder {
+
+        private Consumer<Span> spans;
+
+        private Builder() {
+        }
+
+        /**
+         * @param spans Receiver of a span per completed call, on the thread completing it
+         * @return This builder
+         */
+        public Builder traceSpans(final Consumer<Span> spans) {
+            this.spans = Objects.requireNonNull(spans, "Span consumer cannot be null");
+            return this;
+        }
+
+        /**
+         * @return A new MetricsRecorder
+         */
+        public MetricsRecorder build() {
+            return new MetricsRecorder(this);
+        }
+    }
+}
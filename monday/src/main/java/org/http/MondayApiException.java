@@ -0,0 +1,51 @@
+package org.http;
+
+import java.io.IOException;
+
+/**
+ * Thrown when the Monday.com API answers with a non-successful HTTP status
+ * and the request is not, or no longer, retried, or when a typed response
+ * carries GraphQL errors instead of the requested data.
+ */
+public class MondayApiException extends IOException {
+
+    private final int statusCode;
+    private final String body;
+
+    /**
+     * @param statusCode HTTP status code of the final response
+     * @param body       Body of the final response
+     * @param attempts   Number of attempts made before giving up
+     */
+    public MondayApiException(final int statusCode, final String body, final int attempts) {
+        super("Monday API responded with HTTP " + statusCode + " after " + attempts
+                + (attempts == 1 ? " attempt" : " attempts"));
+        this.statusCode = statusCode;
+        this.body = body;
+    }
+
+    /**
+     * @param message    Description of the failure
+     * @param statusCode HTTP status code of the response
+     * @param body       Body, or the relevant part of it, of the response
+     */
+    public MondayApiException(final String message, final int statusCode, final String body) {
+        super(message);
+        this.statusCode = statusCode;
+        this.body = body;
+    }
+
+    /**
+     * @return HTTP status code of the final response
+     */
+    public int statusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return Body of the final response
+     */
+    public String body() {
+        return body;
+    }
+}
@@ -0,0 +1,142 @@
+package org.http;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms of the calls of one operation, kept by a {@link MetricsRecorder}.
+ */
+public final class OperationStats {
+
+    private final String operation;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final LongAdder complexity = new LongAdder();
+    private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram attemptLatency = new LatencyHistogram();
+
+    OperationStats(final String operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * @return The operation these stats are tagged with
+     */
+    public String operation() {
+        return operation;
+    }
+
+    /**
+     * @return Calls completed, successfully or not
+     */
+    public long calls() {
+        return calls.sum();
+    }
+
+    /**
+     * @return Calls completed with an error
+     */
+    public long failures() {
+        return failures.sum();
+    }
+
+    /**
+     * @return Calls started and not completed yet
+     */
+    public long inFlight() {
+        return inFlight.sum();
+    }
+
+    /**
+     * @return Exchanges with the API, including retries
+     */
+    public long attempts() {
+        return attempts.sum();
+    }
+
+    /**
+     * @return Exchanges that were retries of an earlier one
+     */
+    public long retries() {
+        return retries.sum();
+    }
+
+    /**
+     * @return Bytes of request bodies sent, as on the wire
+     */
+    public long requestBytes() {
+        return requestBytes.sum();
+    }
+
+    /**
+     * @return Bytes of response bodies read, after any content-coding was decoded
+     */
+    public long responseBytes() {
+        return responseBytes.sum();
+    }
+
+    /**
+     * @return Complexity points the API reported consumed, for requests paced by a {@link ComplexityScheduler}
+     */
+    public long complexity() {
+        return complexity.sum();
+    }
+
+    /**
+     * @return Number of responses per HTTP status, 0 counting exchanges that received none
+     */
+    public Map<Integer, Long> statusCodes() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statusCodes.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    /**
+     * @return Latency of calls, from start to result, including admission and retries
+     */
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    /**
+     * @return Latency of single exchanges, from their start to reading the response body
+     */
+    public LatencyHistogram attemptLatency() {
+        return attemptLatency;
+    }
+
+    void recordStarted() {
+        inFlight.increment();
+    }
+
+    void recordAttempt(final Instrumentation.Attempt attempt) {
+        attempts.increment();
+        if (attempt.number() > 1) {
+            retries.increment();
+        }
+        requestBytes.add(attempt.requestBytes());
+        responseBytes.add(attempt.responseBytes());
+        if (attempt.complexity() > 0) {
+            complexity.add(attempt.complexity());
+        }
+        statusCodes.computeIfAbsent(attempt.statusCode(), status -> new LongAdder()).increment();
+        attemptLatency.record(attempt.latencyNanos());
+    }
+
+    void recordCompleted(final long latencyNanos, final Throwable error) {
+        inFlight.decrement();
+        calls.increment();
+        if (error != null) {
+            failures.increment();
+        }
+        latency.record(latencyNanos);
+    }
+}
@@ -0,0 +1,118 @@
+package org.http;
+
+import org.query.QueryRequest;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Automatic persisted queries for the named, fixed documents of one client, and so of one endpoint.
+ * <p>
+ * A request is first sent with the SHA-256 hash of its document instead of the document. When the
+ * server answers {@code PersistedQueryNotFound} the request is sent again with both, which registers
+ * the document under its hash. When it answers {@code PersistedQueryNotSupported} the endpoint is
+ * remembered as unsupported and every later request carries its full document.
+ */
+final class PersistedQueries {
+
+    /**
+     * Largest response inspected for a persisted-query error; those errors are much shorter.
+     */
+    static final int PROBE_BYTES = 512;
+
+    private static final int MAX_CACHED_HASHES = 1_024;
+    private static final String[] NOT_FOUND_MARKERS = {"PersistedQueryNotFound", "PERSISTED_QUERY_NOT_FOUND"};
+    private static final String[] NOT_SUPPORTED_MARKERS = {"PersistedQueryNotSupported", "PERSISTED_QUERY_NOT_SUPPORTED"};
+
+    enum Outcome { ANSWERED, NOT_FOUND, NOT_SUPPORTED }
+
+    /**
+     * @param outcome How the server treated the hash-only request
+     * @param body    The response body, with the probed bytes still unread
+     */
+    record Probe(Outcome outcome, InputStream body) {
+    }
+
+    private final boolean enabled;
+    private final Map<String, String> hashes = new ConcurrentHashMap<>();
+    private final PersistedQueryStats stats = new PersistedQueryStats();
+    private volatile boolean unsupported;
+
+    PersistedQueries(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Only named requests are eligible: their documents are constant, while anonymous
+     * documents carry their values inline and would never be answered from a hash.
+     */
+    boolean appliesTo(final QueryRequest request) {
+        return enabled && !unsupported && request.operationName() != null;
+    }
+
+    String hash(final String document) {
+        String hash = hashes.get(document);
+        if (hash != null) {
+            return hash;
+        }
+        hash = sha256(document);
+        if (hashes.size() < MAX_CACHED_HASHES) {
+            hashes.putIfAbsent(document, hash);
+        }
+        return hash;
+    }
+
+    /**
+     * Reads the start of a response to a hash-only request, blocking until it arrives.
+     */
+    Probe probe(final InputStream body) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(body, PROBE_BYTES + 1);
+        buffered.mark(PROBE_BYTES + 1);
+        byte[] start = buffered.readNBytes(PROBE_BYTES + 1);
+        buffered.reset();
+        if (start.length > PROBE_BYTES) {
+            return new Probe(Outcome.ANSWERED, buffered);
+        }
+        String text = new String(start, StandardCharsets.UTF_8);
+        if (containsAny(text, NOT_FOUND_MARKERS)) {
+            return new Probe(Outcome.NOT_FOUND, buffered);
+        }
+        if (containsAny(text, NOT_SUPPORTED_MARKERS)) {
+            return new Probe(Outcome.NOT_SUPPORTED, buffered);
+        }
+        return new Probe(Outcome.ANSWERED, buffered);
+    }
+
+    void markUnsupported() {
+        unsupported = true;
+    }
+
+    PersistedQueryStats stats() {
+        return stats;
+    }
+
+    private static boolean containsAny(final String text, final String[] markers) {
+        for (String marker : markers) {
+            if (text.contains(marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String sha256(final String document) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(document.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
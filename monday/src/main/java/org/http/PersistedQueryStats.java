@@ -0,0 +1,59 @@
+package org.http;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters maintained by the persisted-query layer of an {@link ApiClient}.
+ * Only requests eligible for persisted queries are counted.
+ */
+public final class PersistedQueryStats {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder fullRequestBytes = new LongAdder();
+
+    PersistedQueryStats() {
+    }
+
+    /**
+     * @return Number of requests the server answered from the hash alone
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Number of requests sent again with the full document because the server did not know the hash
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return Bytes of request bodies actually sent, including hash-only attempts that missed
+     */
+    public long requestBytes() {
+        return requestBytes.sum();
+    }
+
+    /**
+     * @return Bytes the same requests would have taken with the full document in every body
+     */
+    public long fullRequestBytes() {
+        return fullRequestBytes.sum();
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordBytes(final long sent, final long full) {
+        requestBytes.add(sent);
+        fullRequestBytes.add(full);
+    }
+}
@@ -0,0 +1,62 @@
+package org.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Passes a stream through while keeping a copy of its first bytes, so the complexity report
+ * at the start of a response can be read after the body has been decoded by a streaming decoder.
+ */
+final class PrefixCapturingInputStream extends FilterInputStream {
+
+    private final byte[] prefix;
+    private int captured;
+    private long length;
+
+    PrefixCapturingInputStream(final InputStream in, final int prefixLength) {
+        super(in);
+        this.prefix = new byte[prefixLength];
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            length++;
+            if (captured < prefix.length) {
+                prefix[captured++] = (byte) b;
+            }
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+        int n = super.read(buffer, offset, length);
+        if (n > 0) {
+            this.length += n;
+            if (captured < prefix.length) {
+                int copied = Math.min(n, prefix.length - captured);
+                System.arraycopy(buffer, offset, prefix, captured, copied);
+                captured += copied;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * @return Number of bytes read so far
+     */
+    long length() {
+        return length;
+    }
+
+    /**
+     * @return The bytes read so far, up to the prefix length, decoded as UTF-8
+     */
+    String prefix() {
+        return new String(prefix, 0, captured, StandardCharsets.UTF_8);
+    }
+}
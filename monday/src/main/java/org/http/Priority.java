@@ -0,0 +1,11 @@
+package org.http;
+
+/**
+ * Order in which queued requests are admitted when the complexity budget runs low.
+ * Requests of the same priority are admitted in arrival order.
+ */
+public enum Priority {
+    HIGH,
+    NORMAL,
+    LOW
+}
@@ -0,0 +1,274 @@
+package org.http;
+
+import org.query.QueryRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes GraphQL request bodies straight to UTF-8 bytes.
+ * The encoded length is measured first, so each body is written once into an array of
+ * exactly the right size without an intermediate JSON object, String or growing buffer.
+ * The array cannot be shared between requests anyway, as the body publisher reads it
+ * after {@code send} returns.
+ */
+public final class RequestBodies {
+
+    private static final byte[] QUERY_PREFIX = {'{', '"', 'q', 'u', 'e', 'r', 'y', '"', ':', '"'};
+    private static final byte[] SUFFIX = {'"', '}'};
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+
+    private RequestBodies() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * @param query GraphQL document
+     * @return The UTF-8 encoded {@code {"query": ...}} body
+     */
+    public static byte[] query(final String query) {
+        byte[] body = new byte[QUERY_PREFIX.length + escapedLength(query) + SUFFIX.length];
+        System.arraycopy(QUERY_PREFIX, 0, body, 0, QUERY_PREFIX.length);
+        int position = writeEscaped(query, body, QUERY_PREFIX.length);
+        System.arraycopy(SUFFIX, 0, body, position, SUFFIX.length);
+        return body;
+    }
+
+    /**
+     * @param request GraphQL request
+     * @return The UTF-8 encoded {@code {"query": ..., "operationName": ..., "variables": {...}}} body,
+     * leaving out the operation name and variables when the request has none
+     * @throws IllegalArgumentException If a variable value cannot be written as JSON
+     */
+    public static byte[] of(final QueryRequest request) {
+        if (request.operationName() == null && request.variables().isEmpty()) {
+            return query(request.query());
+        }
+        return writeBody(fields(request, true, null));
+    }
+
+    /**
+     * @return The length of the body {@link #of} writes for the request, without writing it
+     */
+    static int length(final QueryRequest request) {
+        if (request.operationName() == null && request.variables().isEmpty()) {
+            return QUERY_PREFIX.length + escapedLength(request.query()) + SUFFIX.length;
+        }
+        return valueLength(fields(request, true, null));
+    }
+
+    /**
+     * @param request      GraphQL request
+     * @param sha256       Hex SHA-256 hash of the request's document
+     * @param includeQuery Whether to send the document along with its hash, to register it
+     * @return The body carrying the hash in the {@code persistedQuery} extension
+     */
+    static byte[] persisted(final QueryRequest request, final String sha256, final boolean includeQuery) {
+        return writeBody(fields(request, includeQuery, sha256));
+    }
+
+    private static Map<String, Object> fields(final QueryRequest request, final boolean includeQuery, final String sha256) {
+        Map<String, Object> fields = new LinkedHashMap<>(8);
+        if (includeQuery) {
+            fields.put("query", request.query());
+        }
+        if (request.operationName() != null) {
+            fields.put("operationName", request.operationName());
+        }
+        if (!request.variables().isEmpty()) {
+            fields.put("variables", request.variables());
+        }
+        if (sha256 != null) {
+            Map<String, Object> persistedQuery = new LinkedHashMap<>(4);
+            persistedQuery.put("version", 1);
+            persistedQuery.put("sha256Hash", sha256);
+            fields.put("extensions", Map.of("persistedQuery", persistedQuery));
+        }
+        return fields;
+    }
+
+    private static byte[] writeBody(final Map<String, Object> fields) {
+        byte[] body = new byte[valueLength(fields)];
+        writeValue(fields, body, 0);
+        return body;
+    }
+
+    /**
+     * @return Number of bytes {@link #writeValue} writes for the value
+     */
+    private static int valueLength(final Object value) {
+        if (value == null) {
+            return NULL.length;
+        }
+        if (value instanceof CharSequence text) {
+            return escapedLength(text.toString()) + 2;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return literal(value).length();
+        }
+        if (value instanceof Map<?, ?> map) {
+            int length = 2 + Math.max(0, map.size() - 1);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                length += escapedLength(String.valueOf(entry.getKey())) + 3 + valueLength(entry.getValue());
+            }
+            return length;
+        }
+        if (value instanceof Collection<?> collection) {
+            int length = 2 + Math.max(0, collection.size() - 1);
+            for (Object element : collection) {
+                length += valueLength(element);
+            }
+            return length;
+        }
+        throw new IllegalArgumentException("Unsupported variable type " + value.getClass().getName());
+    }
+
+    private static int writeValue(final Object value, final byte[] out, int position) {
+        if (value == null) {
+            return write(NULL, out, position);
+        }
+        if (value instanceof CharSequence text) {
+            out[position++] = '"';
+            position = writeEscaped(text.toString(), out, position);
+            out[position++] = '"';
+            return position;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return write(ascii(literal(value)), out, position);
+        }
+        if (value instanceof Map<?, ?> map) {
+            out[position++] = '{';
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) {
+                    out[position++] = ',';
+                }
+                first = false;
+                out[position++] = '"';
+                position = writeEscaped(String.valueOf(entry.getKey()), out, position);
+                out[position++] = '"';
+                out[position++] = ':';
+                position = writeValue(entry.getValue(), out, position);
+            }
+            out[position++] = '}';
+            return position;
+        }
+        out[position++] = '[';
+        boolean first = true;
+        for (Object element : (Collection<?>) value) {
+            if (!first) {
+                out[position++] = ',';
+            }
+            first = false;
+            position = writeValue(element, out, position);
+        }
+        out[position++] = ']';
+        return position;
+    }
+
+    private static String literal(final Object value) {
+        if ((value instanceof Double doubleValue && !Double.isFinite(doubleValue))
+                || (value instanceof Float floatValue && !Float.isFinite(floatValue))) {
+            throw new IllegalArgumentException("Variable value " + value + " is not a valid JSON number");
+        }
+        return value.toString();
+    }
+
+    private static int write(final byte[] bytes, final byte[] out, final int position) {
+        System.arraycopy(bytes, 0, out, position, bytes.length);
+        return position + bytes.length;
+    }
+
+    private static byte[] ascii(final String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * @return Number of bytes {@link #writeEscaped} writes for the value
+     */
+    static int escapedLength(final String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c == '\n' || c == '\r' || c == '\t' || c == '\b' || c == '\f') {
+                length += 2;
+            } else if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                length += 6;
+            } else if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Writes the value as the contents of a JSON string, encoded as UTF-8.
+     * Unpaired surrogates are written as {@code ?}, as {@link String#getBytes} does.
+     *
+     * @return The position after the last byte written
+     */
+    static int writeEscaped(final String value, final byte[] out, int position) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"', '\\' -> {
+                    out[position++] = '\\';
+                    out[position++] = (byte) c;
+                }
+                case '\n' -> position = writeShortEscape('n', out, position);
+                case '\r' -> position = writeShortEscape('r', out, position);
+                case '\t' -> position = writeShortEscape('t', out, position);
+                case '\b' -> position = writeShortEscape('b', out, position);
+                case '\f' -> position = writeShortEscape('f', out, position);
+                default -> {
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                        out[position++] = '\\';
+                        out[position++] = 'u';
+                        out[position++] = HEX[c >> 12 & 0xF];
+                        out[position++] = HEX[c >> 8 & 0xF];
+                        out[position++] = HEX[c >> 4 & 0xF];
+                        out[position++] = HEX[c & 0xF];
+                    } else if (c < 0x80) {
+                        out[position++] = (byte) c;
+                    } else if (c < 0x800) {
+                        out[position++] = (byte) (0xC0 | c >> 6);
+                        out[position++] = (byte) (0x80 | c & 0x3F);
+                    } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                            && Character.isLowSurrogate(value.charAt(i + 1))) {
+                        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                        out[position++] = (byte) (0xF0 | codePoint >> 18);
+                        out[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                        out[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                        out[position++] = (byte) (0x80 | codePoint & 0x3F);
+                    } else if (Character.isSurrogate(c)) {
+                        out[position++] = '?';
+                    } else {
+                        out[position++] = (byte) (0xE0 | c >> 12);
+                        out[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                        out[position++] = (byte) (0x80 | c & 0x3F);
+                    }
+                }
+            }
+        }
+        return position;
+    }
+
+    private static int writeShortEscape(final char escape, final byte[] out, int position) {
+        out[position++] = '\\';
+        out[position++] = (byte) escape;
+        return position;
+    }
+}
@@ -0,0 +1,133 @@
+package org.http;
+
+import org.query.QueryRequest;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Shares one exchange between identical reads in flight at the same time.
+ * <p>
+ * Reads are identical when they are sent with the same token, document, operation name and variables.
+ * The first of them is sent; the others wait for its outcome, receiving the same body or failing with
+ * the same exception. The body is held as bytes so that every caller can decode it with its own decoder.
+ * A read arriving after the shared exchange completed is sent again. Mutations are never coalesced.
+ */
+final class RequestCoalescer {
+
+    private final boolean enabled;
+    private final Map<Key, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+    private final CoalescingStats stats = new CoalescingStats();
+
+    RequestCoalescer(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return Whether identical requests may share an exchange: coalescing is enabled and the request is a read
+     */
+    boolean appliesTo(final QueryRequest request) {
+        return enabled && !RetryPolicy.isMutation(request.query());
+    }
+
+    /**
+     * Sends the request on the calling thread, unless an identical one is in flight.
+     *
+     * @param sender Sends the request and reads the whole body of its successful response
+     * @return The body of the shared response
+     */
+    byte[] send(final String token, final QueryRequest request, final Sender sender)
+            throws IOException, InterruptedException {
+        Key key = new Key(token, request);
+        CompletableFuture<byte[]> shared = new CompletableFuture<>();
+        CompletableFuture<byte[]> existing = inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            stats.recordCoalesced();
+            return await(existing);
+        }
+
+        stats.recordExchange();
+        try {
+            byte[] body = sender.send();
+            inFlight.remove(key, shared);
+            shared.complete(body);
+            return body;
+        } catch (Throwable failure) {
+            inFlight.remove(key, shared);
+            shared.completeExceptionally(failure);
+            throw failure;
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #send}.
+     *
+     * @param sender Starts the request, completing with the whole body of its successful response
+     * @return A future completing with the body of the shared response
+     */
+    CompletableFuture<byte[]> sendAsync(
+            final String token,
+            final QueryRequest request,
+            final Supplier<CompletableFuture<byte[]>> sender) {
+        Key key = new Key(token, request);
+        CompletableFuture<byte[]> shared = new CompletableFuture<>();
+        CompletableFuture<byte[]> existing = inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            stats.recordCoalesced();
+            return existing.copy();
+        }
+
+        stats.recordExchange();
+        CompletableFuture<byte[]> response;
+        try {
+            response = sender.get();
+        } catch (RuntimeException failure) {
+            inFlight.remove(key, shared);
+            shared.completeExceptionally(failure);
+            return shared.copy();
+        }
+        response.whenComplete((body, failure) -> {
+            inFlight.remove(key, shared);
+            if (failure != null) {
+                shared.completeExceptionally(failure);
+            } else {
+                shared.complete(body);
+            }
+        });
+        return shared.copy();
+    }
+
+    CoalescingStats stats() {
+        return stats;
+    }
+
+    private static byte[] await(final CompletableFuture<byte[]> shared) throws IOException, InterruptedException {
+        try {
+            return shared.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException("Coalesced request failed", cause);
+        }
+    }
+
+    @FunctionalInterface
+    interface Sender {
+        byte[] send() throws IOException, InterruptedException;
+    }
+
+    private record Key(String token, QueryRequest request) {
+    }
+}
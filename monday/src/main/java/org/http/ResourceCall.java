@@ -0,0 +1,20 @@
+package org.http;
+
+import java.io.IOException;
+
+/**
+ * A blocking call against a Monday.com resource, such as
+ * {@code () -> items.fetchItemById(id)}.
+ *
+ * @param <T> Result type of the call
+ */
+@FunctionalInterface
+public interface ResourceCall<T> {
+
+    /**
+     * @return The result of the call
+     * @throws IOException          if there is an error making the API request
+     * @throws InterruptedException if the API request is interrupted
+     */
+    T call() throws IOException, InterruptedException;
+}
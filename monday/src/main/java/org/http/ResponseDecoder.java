@@ -0,0 +1,29 @@
+package org.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Turns the body of a successful API response into a result while it is being received,
+ * so large payloads never have to be held in memory as a whole.
+ *
+ * @param <T> Type of the decoded result
+ */
+@FunctionalInterface
+public interface ResponseDecoder<T> {
+
+    /**
+     * @param body The response body; the caller closes it once decoding returns
+     * @return The decoded result
+     * @throws IOException if the body cannot be read or does not have the expected shape
+     */
+    T decode(InputStream body) throws IOException;
+
+    /**
+     * @return A decoder returning the whole body as a UTF-8 string
+     */
+    static ResponseDecoder<String> ofString() {
+        return body -> new String(body.readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,243 @@
+package org.http;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether and when a failed request is sent again.
+ * <p>
+ * Retryable failures are I/O errors and the configured HTTP statuses (by default 429, 500, 502, 503, 504).
+ * The wait before attempt {@code n + 1} is drawn uniformly from {@code [0, min(maxDelay, baseDelay * 2^(n - 1))]}
+ * ("full jitter"), unless the response carries a {@code Retry-After} header, which is honoured instead.
+ * Retrying stops after {@link Builder#maxAttempts(int)} attempts or once the next attempt would start after
+ * {@link Builder#maxTotalTime(Duration)} has elapsed since the first one.
+ * <p>
+ * Only queries are retried by default; mutations are not idempotent and must opt in through
+ * {@link Builder#retryMutations(boolean)}.
+ */
+public final class RetryPolicy {
+
+    private static final Set<Integer> DEFAULT_RETRYABLE_STATUSES = Set.of(429, 500, 502, 503, 504);
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final Duration maxTotalTime;
+    private final boolean retryMutations;
+    private final Set<Integer> retryableStatuses;
+
+    private RetryPolicy(final Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.baseDelay = builder.baseDelay;
+        this.maxDelay = builder.maxDelay;
+        this.maxTotalTime = builder.maxTotalTime;
+        this.retryMutations = builder.retryMutations;
+        this.retryableStatuses = Set.copyOf(builder.retryableStatuses);
+    }
+
+    /**
+     * @return A builder pre-populated with the default configuration
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * @return The default policy: 4 attempts, 200ms base delay, 10s max delay, 30s total, queries only
+     */
+    public static RetryPolicy defaults() {
+        return new Builder().build();
+    }
+
+    /**
+     * @return A policy that never retries
+     */
+    public static RetryPolicy none() {
+        return new Builder().maxAttempts(1).build();
+    }
+
+    /**
+     * @param query The GraphQL document about to be sent
+     * @return Whether failures of this query may be retried under this policy
+     */
+    public boolean appliesTo(final String query) {
+        return retryMutations || !isMutation(query);
+    }
+
+    /**
+     * @param statusCode HTTP status of a response
+     * @return Whether a response with this status may be retried
+     */
+    public boolean isRetryable(final int statusCode) {
+        return retryableStatuses.contains(statusCode);
+    }
+
+    /**
+     * Computes the wait before the next attempt.
+     *
+     * @param attempt        Number of attempts made so far, starting at 1
+     * @param retryAfter     Value of the {@code Retry-After} header of the failed response, or null
+     * @param elapsedNanos   Time since the first attempt started
+     * @return The delay in nanoseconds, or -1 when the request should be given up
+     */
+    long nextDelayNanos(final int attempt, final String retryAfter, final long elapsedNanos) {
+        if (attempt >= maxAttempts) {
+            return -1;
+        }
+        long delay = parseRetryAfterNanos(retryAfter);
+        if (delay < 0) {
+            long ceiling = baseDelay.toNanos() << Math.min(attempt - 1, 30);
+            if (ceiling <= 0 || ceiling > maxDelay.toNanos()) {
+                ceiling = maxDelay.toNanos();
+            }
+            delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        }
+        if (elapsedNanos + delay > maxTotalTime.toNanos()) {
+            return -1;
+        }
+        return delay;
+    }
+
+    /**
+     * @return Total number of attempts, including the first one
+     */
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @return Longest time spent retrying one request
+     */
+    public Duration maxTotalTime() {
+        return maxTotalTime;
+    }
+
+    /**
+     * @return Whether mutations are retried too
+     */
+    public boolean retryMutations() {
+        return retryMutations;
+    }
+
+    static boolean isMutation(final String query) {
+        return query.stripLeading().startsWith("mutation");
+    }
+
+    /**
+     * Parses a {@code Retry-After} value given either in seconds or as an HTTP date.
+     *
+     * @return The delay in nanoseconds, or -1 when the header is absent or malformed
+     */
+    static long parseRetryAfterNanos(final String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return -1;
+        }
+        String value = retryAfter.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value))).toNanos();
+        } catch (NumberFormatException ignored) {
+            // fall through to the HTTP-date form
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration wait = Duration.between(ZonedDateTime.now(at.getZone()), at);
+            return wait.isNegative() ? 0 : wait.toNanos();
+        } catch (DateTimeParseException ignored) {
+            return -1;
+        }
+    }
+
+    /**
+     * Builder for {@link RetryPolicy} instances.
+     */
+    public static final class Builder {
+
+        private int maxAttempts = 4;
+        private Duration baseDelay = Duration.ofMillis(200);
+        private Duration maxDelay = Duration.ofSeconds(10);
+        private Duration maxTotalTime = Duration.ofSeconds(30);
+        private boolean retryMutations;
+        private Set<Integer> retryableStatuses = DEFAULT_RETRYABLE_STATUSES;
+
+        private Builder() {
+        }
+
+        /**
+         * @param maxAttempts Total number of attempts, including the first one
+         * @return This builder
+         * @throws IllegalArgumentException if maxAttempts is lower than 1
+         */
+        public Builder maxAttempts(final int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("Max attempts must be at least 1");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * @param baseDelay Upper bound of the first backoff, doubled on every further attempt
+         * @return This builder
+         */
+        public Builder baseDelay(final Duration baseDelay) {
+            this.baseDelay = requirePositive(baseDelay, "Base delay");
+            return this;
+        }
+
+        /**
+         * @param maxDelay Upper bound of any single backoff
+         * @return This builder
+         */
+        public Builder maxDelay(final Duration maxDelay) {
+            this.maxDelay = requirePositive(maxDelay, "Max delay");
+            return this;
+        }
+
+        /**
+         * @param maxTotalTime Longest time spent retrying one request, measured from its first attempt
+         * @return This builder
+         */
+        public Builder maxTotalTime(final Duration maxTotalTime) {
+            this.maxTotalTime = requirePositive(maxTotalTime, "Max total time");
+            return this;
+        }
+
+        /**
+         * @param retryMutations Whether mutations are retried too; only enable for mutations that are safe to repeat
+         * @return This builder
+         */
+        public Builder retryMutations(final boolean retryMutations) {
+            this.retryMutations = retryMutations;
+            return this;
+        }
+
+        /**
+         * @param retryableStatuses HTTP statuses that trigger a retry
+         * @return This builder
+         */
+        public Builder retryableStatuses(final Set<Integer> retryableStatuses) {
+            this.retryableStatuses = Objects.requireNonNull(retryableStatuses, "Retryable statuses cannot be null");
+            return this;
+        }
+
+        /**
+         * @return A new RetryPolicy
+         */
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+
+        private static Duration requirePositive(final Duration duration, final String name) {
+            Objects.requireNonNull(duration, name + " cannot be null");
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+            return duration;
+        }
+    }
+}
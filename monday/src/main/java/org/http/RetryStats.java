@@ -0,0 +1,37 @@
+package org.http;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters maintained by the retry layer of an {@link ApiClient}.
+ */
+public final class RetryStats {
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder giveUps = new LongAdder();
+
+    RetryStats() {
+    }
+
+    /**
+     * @return Number of requests sent again after a retryable failure
+     */
+    public long retries() {
+        return retries.sum();
+    }
+
+    /**
+     * @return Number of requests abandoned after exhausting their attempts or total retry time
+     */
+    public long giveUps() {
+        return giveUps.sum();
+    }
+
+    void recordRetry() {
+        retries.increment();
+    }
+
+    void recordGiveUp() {
+        giveUps.increment();
+    }
+}
@@ -0,0 +1,101 @@
+package org.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Exchange of one request body for one response underneath an {@link ApiClient}.
+ * <p>
+ * By default a client posts over its own pooled {@link java.net.http.HttpClient}. Everything above the
+ * exchange, from complexity pacing and retries to persisted queries, coalescing and compression, is done
+ * by the client, so another transport such as {@link FakeTransport} drives the same request path without
+ * a network:
+ * <pre>
+ * {@code
+ * ApiClient client = ApiClient.newBuilder()
+ *         .transport(FakeTransport.newBuilder().latency(Duration.ofMillis(20)).build())
+ *         .build();
+ * }
+ * </pre>
+ */
+public interface Transport extends AutoCloseable {
+
+    /**
+     * Sends the request and waits for the response headers.
+     *
+     * @param request The request to send
+     * @return The response, its body still to be read
+     * @throws IOException          if an I/O error occurs when sending or receiving
+     * @throws InterruptedException if the operation is interrupted
+     */
+    Response send(Request request) throws IOException, InterruptedException;
+
+    /**
+     * Sends the request without blocking the calling thread.
+     *
+     * @param request The request to send
+     * @return A future completing with the response, its body still to be read
+     */
+    CompletableFuture<Response> sendAsync(Request request);
+
+    /**
+     * Releases the transport's connections and threads. Called once by the client owning it.
+     */
+    @Override
+    default void close() {
+    }
+
+    /**
+     * A POST of an encoded GraphQL body.
+     *
+     * @param uri     The URI to post to
+     * @param headers Header names and values, in the order they were set
+     * @param body    The request body, encoded as {@code Content-Encoding} says if present
+     * @param timeout Time allowed for the response, or null for no limit
+     */
+    record Request(URI uri, Map<String, String> headers, byte[] body, Duration timeout) {
+
+        public Request {
+            Objects.requireNonNull(uri, "URI cannot be null");
+            Objects.requireNonNull(body, "Body cannot be null");
+            headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+        }
+
+        /**
+         * @param name Header name, in any case
+         * @return The header's value, if set
+         */
+        public Optional<String> header(final String name) {
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                if (header.getKey().equalsIgnoreCase(name)) {
+                    return Optional.of(header.getValue());
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * A response whose body is read, and must be closed, by the client.
+     *
+     * @param statusCode The HTTP status
+     * @param headers    The response headers
+     * @param body       The body as received, encoded as {@code Content-Encoding} says if present
+     */
+    record Response(int statusCode, HttpHeaders headers, InputStream body) {
+
+        public Response {
+            Objects.requireNonNull(headers, "Headers cannot be null");
+            Objects.requireNonNull(body, "Body cannot be null");
+        }
+    }
+}
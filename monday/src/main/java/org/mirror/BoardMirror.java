@@ -0,0 +1,331 @@
+package org.mirror;
+
+import org.models.Item;
+import org.resources.BoardResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Local copy of a board's items, kept current by incremental syncs.
+ * <p>
+ * The first {@link #sync()} loads every item of the board page by page. Later syncs only ask for the
+ * items updated since the previous sync started, less {@link Builder#overlap(Duration)} to absorb clock
+ * skew, and merge them into the mirror. Lookups by item id, group and column text are answered from
+ * memory and never touch the network; they see the mirror as of the last sync and may run concurrently
+ * with one.
+ * <p>
+ * Deleted and archived items are not reported as updates and stay mirrored until the next {@link #reload()}.
+ * <p>
+ * With {@link Builder#file(Path)} the mirror is written to disk after every sync and restored from it on
+ * the first sync of a new instance, so a restarted service only fetches what changed while it was down.
+ */
+public final class BoardMirror {
+
+    private final BoardResource resource;
+    private final String boardId;
+    private final int pageSize;
+    private final Duration overlap;
+    private final Path file;
+    private final Clock clock;
+    private final Set<String> indexedColumns;
+
+    private final Lock syncLock = new ReentrantLock();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private MirrorIndex index;
+    private volatile Instant watermark;
+
+    private BoardMirror(final Builder builder) {
+        this.resource = builder.resource;
+        this.boardId = builder.boardId;
+        this.pageSize = builder.pageSize;
+        this.overlap = builder.overlap;
+        this.file = builder.file;
+        this.clock = builder.clock;
+        this.indexedColumns = builder.indexedColumns;
+        this.index = new MirrorIndex(indexedColumns);
+    }
+
+    /**
+     * Creates a builder for a mirror of the given board.
+     *
+     * @param resource Resource used to page through the board's items
+     * @param boardId  The ID of the board to mirror
+     * @return A builder pre-populated with the default configuration
+     */
+    public static Builder newBuilder(final BoardResource resource, final String boardId) {
+        return new Builder(resource, boardId);
+    }
+
+    /**
+     * Brings the mirror up to date: a full load on the first sync, the updated items afterwards.
+     *
+     * @return Number of items received from the API
+     * @throws IOException If a page could not be fetched or the mirror file could not be written;
+     *                     the mirror keeps its previous state and watermark
+     */
+    public int sync() throws IOException {
+        syncLock.lock();
+        try {
+            if (watermark == null && file != null && Files.exists(file)) {
+                restore();
+            }
+            if (watermark == null) {
+                return reload();
+            }
+
+            Instant started = clock.instant();
+            List<Item> delta;
+            try (Stream<Item> updated = resource.streamItemsUpdatedSince(boardId, watermark.minus(overlap), pageSize)) {
+                delta = updated.toList();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            lock.writeLock().lock();
+            try {
+                delta.forEach(index::put);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            commit(started);
+            return delta.size();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the mirror with a full load of the board, dropping items deleted since the last load.
+     * Lookups keep seeing the previous contents until the load completes.
+     *
+     * @return Number of items received from the API
+     * @throws IOException If a page could not be fetched or the mirror file could not be written
+     */
+    public int reload() throws IOException {
+        syncLock.lock();
+        try {
+            Instant started = clock.instant();
+            MirrorIndex loaded = new MirrorIndex(indexedColumns);
+            try (Stream<Item> items = resource.streamItemsByBoardId(boardId, pageSize)) {
+                items.forEach(loaded::put);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            lock.writeLock().lock();
+            try {
+                index = loaded;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            commit(started);
+            return loaded.size();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Applies a change made through this client without waiting for the next sync, e.g. the item
+     * returned by a column value mutation. Column values the change carries replace the mirrored ones;
+     * items not mirrored yet are left to the next sync.
+     *
+     * @param change The changed item with the column values it was changed in
+     * @return Whether the item is mirrored
+     */
+    public boolean apply(final Item change) {
+        Objects.requireNonNull(change, "Change cannot be null");
+        lock.writeLock().lock();
+        try {
+            return change.id() != null && index.merge(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param itemId The ID of the item
+     * @return The mirrored item, without updates, or empty if it is not mirrored
+     */
+    public Optional<Item> item(final String itemId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(index.get(itemId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param groupId The ID of the group
+     * @return The mirrored items of the group
+     */
+    public List<Item> itemsInGroup(final String groupId) {
+        lock.readLock().lock();
+        try {
+            return index.inGroup(groupId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param columnId The ID of the column, one of {@link Builder#indexColumns} when they are restricted
+     * @param text     Human readable value of the column, as in {@code column_values.text}
+     * @return The mirrored items whose column holds exactly this text
+     */
+    public List<Item> itemsByColumnValue(final String columnId, final String text) {
+        lock.readLock().lock();
+        try {
+            return index.withColumnValue(columnId, text);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of mirrored items
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The ID of the mirrored board
+     */
+    public String boardId() {
+        return boardId;
+    }
+
+    /**
+     * @return When the last successful sync started, or empty before the first one
+     */
+    public Optional<Instant> lastSync() {
+        return Optional.ofNullable(watermark);
+    }
+
+    private void restore() {
+        try {
+            MirrorFile.Contents contents = MirrorFile.read(file, boardId, indexedColumns);
+            lock.writeLock().lock();
+            try {
+                index = contents.index();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            watermark = contents.watermark();
+        } catch (IOException e) {
+            // An unreadable or foreign file only costs a full load
+        }
+    }
+
+    private void commit(final Instant started) throws IOException {
+        if (file != null) {
+            lock.readLock().lock();
+            try {
+                MirrorFile.write(file, boardId, started, index);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        watermark = started;
+    }
+
+    /**
+     * Builder for {@link BoardMirror} instances.
+     */
+    public static final class Builder {
+
+        private final BoardResource resource;
+        private final String boardId;
+        private int pageSize = BoardResource.MAX_PAGE_SIZE;
+        private Duration overlap = Duration.ofMinutes(5);
+        private Path file;
+        private Clock clock = Clock.systemUTC();
+        private Set<String> indexedColumns;
+
+        private Builder(final BoardResource resource, final String boardId) {
+            this.resource = Objects.requireNonNull(resource, "Resource cannot be null");
+            this.boardId = Objects.requireNonNull(boardId, "Board ID cannot be null");
+        }
+
+        /**
+         * @param pageSize Number of items requested per page, defaults to {@link BoardResource#MAX_PAGE_SIZE}
+         * @return This builder
+         * @throws IllegalArgumentException if pageSize is out of range
+         */
+        public Builder pageSize(final int pageSize) {
+            if (pageSize < 1 || pageSize > BoardResource.MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("Page size must be between 1 and " + BoardResource.MAX_PAGE_SIZE);
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * @param overlap How far before the previous sync incremental syncs look for updates, defaults to 5 minutes
+         * @return This builder
+         * @throws IllegalArgumentException if overlap is negative
+         */
+        public Builder overlap(final Duration overlap) {
+            Objects.requireNonNull(overlap, "Overlap cannot be null");
+            if (overlap.isNegative()) {
+                throw new IllegalArgumentException("Overlap cannot be negative");
+            }
+            this.overlap = overlap;
+            return this;
+        }
+
+        /**
+         * @param file File the mirror is saved to after every sync and restored from on the first one
+         * @return This builder
+         */
+        public Builder file(final Path file) {
+            this.file = Objects.requireNonNull(file, "File cannot be null");
+            return this;
+        }
+
+        /**
+         * @param columnIds IDs of the only columns to index by text, instead of every column
+         * @return This builder
+         */
+        public Builder indexColumns(final Set<String> columnIds) {
+            this.indexedColumns = Set.copyOf(columnIds);
+            return this;
+        }
+
+        /**
+         * @param clock Source of sync start times, for tests
+         * @return This builder
+         */
+        Builder clock(final Clock clock) {
+            this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+            return this;
+        }
+
+        /**
+         * @return A new BoardMirror, empty until its first sync
+         */
+        public BoardMirror build() {
+            return new BoardMirror(this);
+        }
+    }
+}
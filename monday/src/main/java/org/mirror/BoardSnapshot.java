@@ -0,0 +1,226 @@
+package org.mirror;
+
+import org.models.Item;
+import org.resources.BoardResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Read-only, memory-mapped view of a board captured by {@link BoardSnapshotWriter}.
+ * <p>
+ * The file is columnar: every column (item id, name, group id and the text of each board column) is a
+ * table of row offsets followed by its length-prefixed UTF-8 values. Opening a snapshot maps the file
+ * and reads only its header, whatever the board size; values stay off-heap in the page cache until
+ * they are asked for. The {@code *Bytes} accessors return zero-copy slices of the mapping, the others
+ * decode a String. Slices are valid until the snapshot is closed.
+ * <p>
+ * A snapshot may be read by several threads at once.
+ */
+public final class BoardSnapshot implements AutoCloseable {
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+    private final Arena arena;
+    private final MemorySegment file;
+    private final int rows;
+    private final Map<String, Column> columns;
+
+    private BoardSnapshot(final Arena arena, final MemorySegment file, final int rows, final Map<String, Column> columns) {
+        this.arena = arena;
+        this.file = file;
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    /**
+     * Captures every item of a board into a snapshot file, writing each page as it arrives.
+     * The previous snapshot, if any, is replaced only once the whole board has been written.
+     *
+     * @param resource Resource used to page through the board's items
+     * @param boardId  The ID of the board to capture
+     * @param file     The snapshot file to create or replace
+     * @return Number of items captured
+     * @throws IOException If a page could not be fetched or the file could not be written
+     */
+    public static int capture(final BoardResource resource, final String boardId, final Path file) throws IOException {
+        try (BoardSnapshotWriter writer = BoardSnapshotWriter.create(file);
+             Stream<Item> items = resource.streamItemsByBoardId(boardId)) {
+            Iterator<Item> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                writer.append(iterator.next());
+            }
+            writer.finish();
+            return writer.size();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Maps a snapshot file.
+     *
+     * @param file The snapshot file
+     * @return The open snapshot; close it to unmap the file
+     * @throws IOException If the file cannot be mapped or is not a board snapshot
+     */
+    public static BoardSnapshot open(final Path file) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            if (segment.byteSize() < 16
+                    || segment.get(INT, 0) != BoardSnapshotWriter.MAGIC
+                    || segment.get(INT, 4) != BoardSnapshotWriter.VERSION) {
+                throw new IOException("Not a board snapshot: " + file);
+            }
+            int rows = segment.get(INT, 8);
+            int columnCount = segment.get(INT, 12);
+            Map<String, Column> columns = new LinkedHashMap<>(columnCount * 2);
+            long position = 16;
+            for (int i = 0; i < columnCount; i++) {
+                int nameLength = segment.get(INT, position);
+                String name = new String(segment.asSlice(position + 4, nameLength).toArray(ValueLayout.JAVA_BYTE),
+                        StandardCharsets.UTF_8);
+                position += 4 + nameLength;
+                columns.put(name, new Column(segment.get(LONG, position), segment.get(LONG, position + 8)));
+                position += 24;
+            }
+            return new BoardSnapshot(arena, segment, rows, columns);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e instanceof IOException io ? io : new IOException("Not a board snapshot: " + file, e);
+        }
+    }
+
+    /**
+     * @return Number of items in the snapshot
+     */
+    public int size() {
+        return rows;
+    }
+
+    /**
+     * @return The IDs of the board columns captured, in the order they were first seen
+     */
+    public List<String> columnIds() {
+        List<String> ids = new ArrayList<>(columns.size());
+        for (String name : columns.keySet()) {
+            if (!name.startsWith("$")) {
+                ids.add(name);
+            }
+        }
+        return Collections.unmodifiableList(ids);
+    }
+
+    /**
+     * @param row Position of the item, from 0 to {@link #size()} - 1
+     * @return The UTF-8 bytes of the item ID, without copying
+     */
+    public MemorySegment itemIdBytes(final int row) {
+        return value(columns.get(BoardSnapshotWriter.ID_COLUMN), row);
+    }
+
+    /**
+     * @param row Position of the item, from 0 to {@link #size()} - 1
+     * @return The item ID
+     */
+    public String itemId(final int row) {
+        return decode(itemIdBytes(row));
+    }
+
+    /**
+     * @param row Position of the item, from 0 to {@link #size()} - 1
+     * @return The item name
+     */
+    public String name(final int row) {
+        return decode(value(columns.get(BoardSnapshotWriter.NAME_COLUMN), row));
+    }
+
+    /**
+     * @param row Position of the item, from 0 to {@link #size()} - 1
+     * @return The ID of the item's group
+     */
+    public String groupId(final int row) {
+        return decode(value(columns.get(BoardSnapshotWriter.GROUP_COLUMN), row));
+    }
+
+    /**
+     * @param row      Position of the item, from 0 to {@link #size()} - 1
+     * @param columnId The ID of a board column
+     * @return The UTF-8 bytes of the column text, without copying, or null if the item has no text
+     * in this column or the column was not captured
+     */
+    public MemorySegment textBytes(final int row, final String columnId) {
+        return value(columns.get(columnId), row);
+    }
+
+    /**
+     * @param row      Position of the item, from 0 to {@link #size()} - 1
+     * @param columnId The ID of a board column
+     * @return The column text, or null if the item has no text in this column or the column was not captured
+     */
+    public String text(final int row, final String columnId) {
+        return decode(textBytes(row, columnId));
+    }
+
+    /**
+     * Finds an item by comparing the mapped ID bytes, without decoding them.
+     *
+     * @param itemId The item ID
+     * @return The position of the item, or -1 if it is not in the snapshot
+     */
+    public int rowOf(final String itemId) {
+        MemorySegment wanted = MemorySegment.ofArray(itemId.getBytes(StandardCharsets.UTF_8));
+        Column ids = columns.get(BoardSnapshotWriter.ID_COLUMN);
+        for (int row = 0; row < rows; row++) {
+            MemorySegment id = value(ids, row);
+            if (id != null && id.byteSize() == wanted.byteSize() && id.mismatch(wanted) < 0) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Unmaps the file; slices returned earlier must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private MemorySegment value(final Column column, final int row) {
+        if (row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of " + rows);
+        }
+        if (column == null) {
+            return null;
+        }
+        long position = column.data + file.get(LONG, column.offsets + 8L * row);
+        int length = file.get(INT, position);
+        return length < 0 ? null : file.asSlice(position + 4, length);
+    }
+
+    private static String decode(final MemorySegment bytes) {
+        return bytes == null ? null : new String(bytes.toArray(ValueLayout.JAVA_BYTE), StandardCharsets.UTF_8);
+    }
+
+    private record Column(long offsets, long data) {
+    }
+}
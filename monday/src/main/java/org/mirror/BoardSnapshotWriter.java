@@ -0,0 +1,251 @@
+package org.mirror;
+
+import org.models.ColumnValue;
+import org.models.Item;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Writes a {@link BoardSnapshot} file item by item, so a board can be captured while its pages arrive.
+ * <p>
+ * Each column (item id, name, group id, then the text of every board column) is spilled to its own
+ * temporary files as items are appended, keeping heap use independent of the board size.
+ * {@link #finish()} lays the columns out one after the other in the snapshot file and moves it into
+ * place atomically; closing an unfinished writer discards what was written.
+ */
+public final class BoardSnapshotWriter implements AutoCloseable {
+
+    static final int MAGIC = 0x4D425331;
+    static final int VERSION = 1;
+    static final String ID_COLUMN = "$id";
+    static final String NAME_COLUMN = "$name";
+    static final String GROUP_COLUMN = "$group";
+
+    private final Path file;
+    private final Path spillDirectory;
+    private final Map<String, ColumnSpill> columns = new LinkedHashMap<>();
+    private int rows;
+    private boolean closed;
+
+    private BoardSnapshotWriter(final Path file) throws IOException {
+        this.file = file;
+        Path parent = file.toAbsolutePath().getParent();
+        this.spillDirectory = Files.createTempDirectory(parent, file.getFileName() + ".spill");
+        column(ID_COLUMN);
+        column(NAME_COLUMN);
+        column(GROUP_COLUMN);
+    }
+
+    /**
+     * @param file The snapshot file to create or replace once the writer is finished
+     * @return A writer with no items yet
+     * @throws IOException If the temporary files cannot be created next to the snapshot file
+     */
+    public static BoardSnapshotWriter create(final Path file) throws IOException {
+        return new BoardSnapshotWriter(Objects.requireNonNull(file, "File cannot be null"));
+    }
+
+    /**
+     * Appends one item with the text of its column values.
+     *
+     * @param item The item to append
+     * @throws IOException If a temporary file cannot be written
+     * @throws IllegalStateException If the writer has been finished or closed
+     */
+    public void append(final Item item) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("BoardSnapshotWriter has been closed");
+        }
+        column(ID_COLUMN).write(item.id(), rows);
+        column(NAME_COLUMN).write(item.name(), rows);
+        column(GROUP_COLUMN).write(item.group() == null ? null : item.group().id(), rows);
+        for (ColumnValue columnValue : item.columnValues()) {
+            if (columnValue.id() != null) {
+                column(columnValue.id()).write(columnValue.text(), rows);
+            }
+        }
+        rows++;
+        for (ColumnSpill column : columns.values()) {
+            column.padTo(rows);
+        }
+    }
+
+    /**
+     * @return Number of items appended so far
+     */
+    public int size() {
+        return rows;
+    }
+
+    /**
+     * Writes the snapshot file and replaces any previous one.
+     *
+     * @throws IOException If the snapshot file cannot be written
+     */
+    public void finish() throws IOException {
+        if (closed) {
+            throw new IllegalStateException("BoardSnapshotWriter has been closed");
+        }
+        closed = true;
+        try {
+            for (ColumnSpill column : columns.values()) {
+                column.closeStreams();
+            }
+            Path temporary = spillDirectory.resolve("snapshot");
+            try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                out.write(ByteBuffer.wrap(header()));
+                for (ColumnSpill column : columns.values()) {
+                    transfer(column.offsetsFile, out);
+                    transfer(column.dataFile, out);
+                }
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            deleteSpills();
+        }
+    }
+
+    /**
+     * Discards the written items unless {@link #finish()} has been called.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (ColumnSpill column : columns.values()) {
+            column.closeStreams();
+        }
+        deleteSpills();
+    }
+
+    /**
+     * Header: magic, version, row and column counts, then per column its name and the positions of
+     * its offsets table ({@code rows} big-endian longs) and its data (length-prefixed UTF-8 values).
+     */
+    private byte[] header() throws IOException {
+        List<byte[]> names = new ArrayList<>(columns.size());
+        long headerLength = 16;
+        for (String name : columns.keySet()) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            names.add(bytes);
+            headerLength += 4 + bytes.length + 24;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream((int) headerLength);
+        DataOutputStream out = new DataOutputStream(buffer);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(rows);
+        out.writeInt(columns.size());
+        long position = headerLength;
+        int index = 0;
+        for (ColumnSpill column : columns.values()) {
+            byte[] name = names.get(index++);
+            out.writeInt(name.length);
+            out.write(name);
+            out.writeLong(position);
+            out.writeLong(position + 8L * rows);
+            out.writeLong(column.dataLength);
+            position += 8L * rows + column.dataLength;
+        }
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    private ColumnSpill column(final String name) throws IOException {
+        ColumnSpill column = columns.get(name);
+        if (column == null) {
+            column = new ColumnSpill(spillDirectory, columns.size());
+            column.padTo(rows);
+            columns.put(name, column);
+        }
+        return column;
+    }
+
+    private static void transfer(final Path source, final FileChannel out) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    private void deleteSpills() throws IOException {
+        try (var files = Files.list(spillDirectory)) {
+            for (Path spill : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(spill);
+            }
+        }
+        Files.deleteIfExists(spillDirectory);
+    }
+
+    /**
+     * One column being written: its offsets table and its values, each in a temporary file.
+     */
+    private static final class ColumnSpill {
+
+        private final Path offsetsFile;
+        private final Path dataFile;
+        private final DataOutputStream offsets;
+        private final DataOutputStream data;
+        private long dataLength;
+        private int rows;
+
+        private ColumnSpill(final Path directory, final int index) throws IOException {
+            this.offsetsFile = directory.resolve(index + ".offsets");
+            this.dataFile = directory.resolve(index + ".data");
+            this.offsets = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(offsetsFile), 1 << 16));
+            this.data = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(dataFile), 1 << 16));
+        }
+
+        /**
+         * Writes the value of the given row, unless that row already has one.
+         */
+        private void write(final String value, final int row) throws IOException {
+            if (rows > row) {
+                return;
+            }
+            offsets.writeLong(dataLength);
+            if (value == null) {
+                data.writeInt(-1);
+                dataLength += 4;
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                data.writeInt(bytes.length);
+                data.write(bytes);
+                dataLength += 4 + bytes.length;
+            }
+            rows++;
+        }
+
+        private void padTo(final int rowCount) throws IOException {
+            while (rows < rowCount) {
+                write(null, rows);
+            }
+        }
+
+        private void closeStreams() throws IOException {
+            offsets.close();
+            data.close();
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package org.mirror;
+
+import org.models.Item;
+import org.resources.BoardResource;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Local inverted index from column text to items for chosen (board, column) pairs, answering
+ * {@code items_page_by_column_values} lookups without a request.
+ * <p>
+ * Each indexed board is held in a {@link BoardMirror} restricted to its indexed columns. The mirror is loaded
+ * page by page on the first lookup and synced again whenever a lookup finds it older than
+ * {@link Builder#maxStaleness(Duration)}. Column values written through an {@code ItemResource} sharing this
+ * index are applied as soon as the mutation returns, so the caller's own writes are visible before the next sync.
+ * Writes made by anyone else become visible within the staleness bound.
+ * <p>
+ * Items answered from the index carry their group and column values but no updates.
+ */
+public final class ColumnValueIndex {
+
+    private static final Executor SYNC_EXECUTOR =
+            task -> Thread.ofVirtual().name("column-value-index-sync").start(task);
+
+    private final Map<String, BoardMirror> mirrors;
+    private final Map<String, Lock> syncLocks;
+    private final Map<String, Set<String>> columns;
+    private final Duration maxStaleness;
+    private final Clock clock;
+
+    private ColumnValueIndex(final Builder builder) {
+        this.maxStaleness = builder.maxStaleness;
+        this.clock = builder.clock;
+        this.columns = Map.copyOf(builder.columns);
+        Map<String, BoardMirror> built = new HashMap<>();
+        Map<String, Lock> locks = new HashMap<>();
+        builder.columns.forEach((boardId, columnIds) -> {
+            built.put(boardId, BoardMirror.newBuilder(builder.resource, boardId)
+                    .pageSize(builder.pageSize)
+                    .indexColumns(columnIds)
+                    .clock(builder.clock)
+                    .build());
+            locks.put(boardId, new ReentrantLock());
+        });
+        this.mirrors = Map.copyOf(built);
+        this.syncLocks = Map.copyOf(locks);
+    }
+
+    /**
+     * Creates a builder for a ColumnValueIndex loading its boards through the given resource.
+     *
+     * @param resource Resource used to load and sync the indexed boards
+     * @return A builder with no indexed columns
+     */
+    public static Builder newBuilder(final BoardResource resource) {
+        return new Builder(resource);
+    }
+
+    /**
+     * @param boardId  The ID of the board
+     * @param columnId The ID of the column
+     * @return Whether lookups on this column are answered by the index
+     */
+    public boolean covers(final String boardId, final String columnId) {
+        Set<String> columnIds = columns.get(boardId);
+        return columnIds != null && columnIds.contains(columnId);
+    }
+
+    /**
+     * Finds the items whose column holds exactly the given text, syncing the board first
+     * if it has not been synced within the staleness bound.
+     *
+     * @param boardId  The ID of the board
+     * @param columnId The ID of the column
+     * @param text     Human readable value of the column, as in {@code column_values.text}
+     * @return The matching items, without updates
+     * @throws IOException              If the board had to be synced and a page could not be fetched
+     * @throws IllegalArgumentException if the column is not indexed
+     */
+    public List<Item> find(final String boardId, final String columnId, final String text) throws IOException {
+        if (!covers(boardId, columnId)) {
+            throw new IllegalArgumentException("Column " + columnId + " of board " + boardId + " is not indexed");
+        }
+        BoardMirror mirror = mirrors.get(boardId);
+        refreshIfStale(boardId, mirror);
+        return mirror.itemsByColumnValue(columnId, text);
+    }
+
+    /**
+     * Asynchronous variant of {@link #find}: answered at once while the board is within the staleness bound,
+     * otherwise after syncing it on a virtual thread, so the blocking page requests never hold a pool thread.
+     *
+     * @param boardId  The ID of the board
+     * @param columnId The ID of the column
+     * @param text     Human readable value of the column, as in {@code column_values.text}
+     * @return A future completing with the matching items, without updates
+     * @throws IllegalArgumentException if the column is not indexed
+     */
+    public CompletableFuture<List<Item>> findAsync(final String boardId, final String columnId, final String text) {
+        if (!covers(boardId, columnId)) {
+            throw new IllegalArgumentException("Column " + columnId + " of board " + boardId + " is not indexed");
+        }
+        BoardMirror mirror = mirrors.get(boardId);
+        if (!isStale(mirror)) {
+            return CompletableFuture.completedFuture(mirror.itemsByColumnValue(columnId, text));
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return find(boardId, columnId, text);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, SYNC_EXECUTOR);
+    }
+
+    /**
+     * Syncs the board now, regardless of the staleness bound.
+     *
+     * @param boardId The ID of an indexed board
+     * @throws IOException If a page could not be fetched
+     */
+    public void refresh(final String boardId) throws IOException {
+        BoardMirror mirror = mirrors.get(boardId);
+        if (mirror == null) {
+            throw new IllegalArgumentException("Board " + boardId + " is not indexed");
+        }
+        mirror.sync();
+    }
+
+    /**
+     * Applies the item returned by a column value mutation to the index of its board.
+     *
+     * @param boardId The ID of the board the item was changed on
+     * @param change  The changed item with the column values it was changed in
+     */
+    public void apply(final String boardId, final Item change) {
+        BoardMirror mirror = mirrors.get(boardId);
+        if (mirror != null) {
+            mirror.apply(change);
+        }
+    }
+
+    private void refreshIfStale(final String boardId, final BoardMirror mirror) throws IOException {
+        // A lock rather than a monitor: syncing blocks on the network, possibly on a virtual thread
+        Lock lock = syncLocks.get(boardId);
+        lock.lock();
+        try {
+            if (isStale(mirror)) {
+                mirror.sync();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isStale(final BoardMirror mirror) {
+        Optional<Instant> lastSync = mirror.lastSync();
+        return lastSync.isEmpty() || !clock.instant().isBefore(lastSync.get().plus(maxStaleness));
+    }
+
+    /**
+     * Builder for {@link ColumnValueIndex} instances.
+     */
+    public static final class Builder {
+
+        private final BoardResource resource;
+        private final Map<String, Set<String>> columns = new HashMap<>();
+        private int pageSize = BoardResource.MAX_PAGE_SIZE;
+        private Duration maxStaleness = Duration.ofMinutes(1);
+        private Clock clock = Clock.systemUTC();
+
+        private Builder(final BoardResource resource) {
+            this.resource = Objects.requireNonNull(resource, "BoardResource cannot be null");
+        }
+
+        /**
+         * @param boardId   The ID of the board
+         * @param columnIds IDs of the board's columns to index
+         * @return This builder
+         */
+        public Builder index(final String boardId, final String... columnIds) {
+            Objects.requireNonNull(boardId, "Board ID cannot be null");
+            Set<String> boardColumns = columns.computeIfAbsent(boardId, id -> new HashSet<>());
+            for (String columnId : columnIds) {
+                boardColumns.add(Objects.requireNonNull(columnId, "Column ID cannot be null"));
+            }
+            return this;
+        }
+
+        /**
+         * @param pageSize Number of items fetched per page when loading or syncing a board, defaults to 500
+         * @return This builder
+         * @throws IllegalArgumentException if pageSize is out of range
+         */
+        public Builder pageSize(final int pageSize) {
+            if (pageSize < 1 || pageSize > BoardResource.MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("Page size must be between 1 and " + BoardResource.MAX_PAGE_SIZE);
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * @param maxStaleness Age of a board's last sync after which a lookup syncs it first, defaults to 1 minute
+         * @return This builder
+         * @throws IllegalArgumentException if maxStaleness is negative
+         */
+        public Builder maxStaleness(final Duration maxStaleness) {
+            Objects.requireNonNull(maxStaleness, "Max staleness cannot be null");
+            if (maxStaleness.isNegative()) {
+                throw new IllegalArgumentException("Max staleness cannot be negative");
+            }
+            this.maxStaleness = maxStaleness;
+            return this;
+        }
+
+        /**
+         * @param clock Source of the current time, for tests
+         * @return This builder
+         */
+        Builder clock(final Clock clock) {
+            this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+            return this;
+        }
+
+        /**
+         * @return A new ColumnValueIndex
+         */
+        public ColumnValueIndex build() {
+            return new ColumnValueIndex(this);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.mirror;
+
+import org.models.ColumnValue;
+import org.models.Group;
+import org.models.Item;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Binary file holding a mirrored board between runs: a header with the board id and sync watermark,
+ * followed by every item with its group and column values. Strings are written as length-prefixed UTF-8,
+ * with a length of -1 for null. The file is replaced atomically, so a crash leaves the previous sync behind.
+ */
+final class MirrorFile {
+
+    private static final int MAGIC = 0x4D424D31;
+    private static final int VERSION = 1;
+
+    private MirrorFile() {
+        // Private constructor to prevent instantiation
+    }
+
+    record Contents(Instant watermark, MirrorIndex index) {
+    }
+
+    static void write(final Path file, final String boardId, final Instant watermark, final MirrorIndex index)
+            throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            writeString(out, boardId);
+            out.writeLong(watermark.toEpochMilli());
+            out.writeInt(index.size());
+            for (Item item : index.items()) {
+                writeString(out, item.id());
+                writeString(out, item.name());
+                writeString(out, item.group() == null ? null : item.group().id());
+                writeString(out, item.group() == null ? null : item.group().title());
+                out.writeInt(item.columnValues().size());
+                for (ColumnValue columnValue : item.columnValues()) {
+                    writeString(out, columnValue.id());
+                    writeString(out, columnValue.text());
+                    writeString(out, columnValue.type());
+                    writeString(out, columnValue.value());
+                }
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @throws IOException If the file is unreadable, of another format, or mirrors another board
+     */
+    static Contents read(final Path file, final String boardId, final Set<String> indexedColumns) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a board mirror file: " + file);
+            }
+            String mirroredBoardId = readString(in);
+            if (!boardId.equals(mirroredBoardId)) {
+                throw new IOException("File " + file + " mirrors board " + mirroredBoardId + ", not " + boardId);
+            }
+            Instant watermark = Instant.ofEpochMilli(in.readLong());
+            MirrorIndex index = new MirrorIndex(indexedColumns);
+            int items = in.readInt();
+            for (int i = 0; i < items; i++) {
+                String id = readString(in);
+                String name = readString(in);
+                String groupId = readString(in);
+                String groupTitle = readString(in);
+                int count = in.readInt();
+                List<ColumnValue> columnValues = new ArrayList<>(count);
+                for (int c = 0; c < count; c++) {
+                    columnValues.add(new ColumnValue(readString(in), readString(in), readString(in), readString(in)));
+                }
+                Group group = groupId == null ? null : new Group(groupId, groupTitle);
+                index.put(new Item(id, name, group, columnValues, List.of()));
+            }
+            return new Contents(watermark, index);
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
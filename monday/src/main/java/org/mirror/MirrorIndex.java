@@ -0,0 +1,166 @@
+package org.mirror;
+
+import org.models.ColumnValue;
+import org.models.Group;
+import org.models.Item;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Items of one board with lookups by item id, group and column text.
+ * Items are stored without updates, and the column ids, column types and groups they repeat are
+ * shared between items, so a mirrored board holds little more than its texts and values.
+ * Not thread-safe; {@link BoardMirror} guards it.
+ */
+final class MirrorIndex {
+
+    private final Set<String> indexedColumns;
+    private final Map<String, String> names = new HashMap<>();
+    private final Map<Group, Group> groups = new HashMap<>();
+    private final Map<String, Item> items = new HashMap<>();
+    private final Map<String, Set<String>> itemsByGroup = new HashMap<>();
+    private final Map<String, Map<String, Set<String>>> itemsByColumnValue = new HashMap<>();
+
+    /**
+     * @param indexedColumns IDs of the columns to index by text, or null for every column
+     */
+    MirrorIndex(final Set<String> indexedColumns) {
+        this.indexedColumns = indexedColumns;
+    }
+
+    /**
+     * Adds the item, replacing the mirrored item with the same id.
+     */
+    void put(final Item item) {
+        if (item.id() == null) {
+            return;
+        }
+        Item compact = compact(item);
+        Item previous = items.put(compact.id(), compact);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(compact);
+    }
+
+    /**
+     * Overwrites the column values the change carries on the mirrored item with the same id,
+     * keeping its other columns, name and group.
+     *
+     * @return Whether the item is mirrored
+     */
+    boolean merge(final Item change) {
+        Item mirrored = items.get(change.id());
+        if (mirrored == null) {
+            return false;
+        }
+        Map<String, ColumnValue> changed = new HashMap<>();
+        for (ColumnValue columnValue : change.columnValues()) {
+            changed.put(columnValue.id(), columnValue);
+        }
+        List<ColumnValue> columnValues = new ArrayList<>(mirrored.columnValues().size());
+        for (ColumnValue columnValue : mirrored.columnValues()) {
+            ColumnValue update = changed.remove(columnValue.id());
+            columnValues.add(update == null
+                    ? columnValue
+                    : new ColumnValue(columnValue.id(), update.text(),
+                            update.type() != null ? update.type() : columnValue.type(),
+                            update.value() != null ? update.value() : columnValue.value()));
+        }
+        columnValues.addAll(changed.values());
+        put(new Item(mirrored.id(), change.name() != null ? change.name() : mirrored.name(),
+                mirrored.group(), columnValues, List.of()));
+        return true;
+    }
+
+    Item get(final String itemId) {
+        return items.get(itemId);
+    }
+
+    List<Item> inGroup(final String groupId) {
+        return resolve(itemsByGroup.get(groupId));
+    }
+
+    List<Item> withColumnValue(final String columnId, final String text) {
+        Map<String, Set<String>> byText = itemsByColumnValue.get(columnId);
+        return resolve(byText == null ? null : byText.get(text));
+    }
+
+    Collection<Item> items() {
+        return items.values();
+    }
+
+    int size() {
+        return items.size();
+    }
+
+    private Item compact(final Item item) {
+        List<ColumnValue> columnValues = new ArrayList<>(item.columnValues().size());
+        for (ColumnValue columnValue : item.columnValues()) {
+            columnValues.add(new ColumnValue(
+                    share(columnValue.id()),
+                    columnValue.text(),
+                    share(columnValue.type()),
+                    columnValue.value()));
+        }
+        Group group = item.group() == null ? null : groups.computeIfAbsent(item.group(), key -> key);
+        return new Item(item.id(), item.name(), group, List.copyOf(columnValues), List.of());
+    }
+
+    private String share(final String name) {
+        return name == null ? null : names.computeIfAbsent(name, key -> key);
+    }
+
+    private void index(final Item item) {
+        if (item.group() != null) {
+            itemsByGroup.computeIfAbsent(item.group().id(), key -> new LinkedHashSet<>()).add(item.id());
+        }
+        for (ColumnValue columnValue : item.columnValues()) {
+            if (columnValue.text() != null && isIndexed(columnValue.id())) {
+                itemsByColumnValue.computeIfAbsent(columnValue.id(), key -> new HashMap<>())
+                        .computeIfAbsent(columnValue.text(), key -> new LinkedHashSet<>())
+                        .add(item.id());
+            }
+        }
+    }
+
+    private void unindex(final Item item) {
+        if (item.group() != null) {
+            remove(itemsByGroup, item.group().id(), item.id());
+        }
+        for (ColumnValue columnValue : item.columnValues()) {
+            Map<String, Set<String>> byText = itemsByColumnValue.get(columnValue.id());
+            if (byText != null && columnValue.text() != null) {
+                remove(byText, columnValue.text(), item.id());
+            }
+        }
+    }
+
+    private boolean isIndexed(final String columnId) {
+        return indexedColumns == null || indexedColumns.contains(columnId);
+    }
+
+    private static void remove(final Map<String, Set<String>> index, final String key, final String itemId) {
+        Set<String> itemIds = index.get(key);
+        if (itemIds != null && itemIds.remove(itemId) && itemIds.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private List<Item> resolve(final Set<String> itemIds) {
+        if (itemIds == null) {
+            return List.of();
+        }
+        List<Item> resolved = new ArrayList<>(itemIds.size());
+        for (String itemId : itemIds) {
+            resolved.add(items.get(itemId));
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,31 @@
+package org.models;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A board with its structure: tags, groups and column definitions.
+ *
+ * @param id          Board identifier
+ * @param name        Board name
+ * @param permissions Board permissions, e.g. {@code everyone}
+ * @param tags        Tags of the board
+ * @param groups      Groups of the board
+ * @param columns     Column definitions of the board
+ */
+public record Board(String id, String name, String permissions, List<Tag> tags, List<Group> groups, List<Column> columns) {
+
+    public Board {
+        tags = tags == null ? List.of() : List.copyOf(tags);
+        groups = groups == null ? List.of() : List.copyOf(groups);
+        columns = columns == null ? List.of() : List.copyOf(columns);
+    }
+
+    /**
+     * @param columnId ID of the column
+     * @return The definition of that column, if the board has it
+     */
+    public Optional<Column> column(String columnId) {
+        return columns.stream().filter(column -> column.id().equals(columnId)).findFirst();
+    }
+}
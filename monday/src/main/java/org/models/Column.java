@@ -0,0 +1,11 @@
+package org.models;
+
+/**
+ * A column definition of a board.
+ *
+ * @param id          Column identifier, unique within its board
+ * @param title       Display title of the column
+ * @param type        Column type, e.g. {@code text}, {@code status}, {@code numbers}
+ * @param settingsStr JSON-formatted column settings, such as status labels
+ */
+public record Column(String id, String title, String type, String settingsStr) { }
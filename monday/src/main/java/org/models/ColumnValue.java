@@ -0,0 +1,11 @@
+package org.models;
+
+/**
+ * The value of one column for one item.
+ *
+ * @param id    ID of the column
+ * @param text  Human readable value
+ * @param type  Column type, null when it was not requested
+ * @param value JSON-formatted raw value, null when the column is empty or the value was not requested
+ */
+public record ColumnValue(String id, String text, String type, String value) { }
@@ -0,0 +1,9 @@
+package org.models;
+
+/**
+ * A group of items within a board.
+ *
+ * @param id    Group identifier, unique within its board
+ * @param title Display title of the group
+ */
+public record Group(String id, String title) { }
@@ -0,0 +1,30 @@
+package org.models;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * An item of a board with the fields requested by the query it was read from.
+ * Fields that were not requested are null, lists that were not requested are empty.
+ *
+ * @param id           Item identifier
+ * @param name         Item name
+ * @param group        Group the item belongs to
+ * @param columnValues Values of the item's columns
+ * @param updates      Updates posted on the item
+ */
+public record Item(String id, String name, Group group, List<ColumnValue> columnValues, List<Update> updates) {
+
+    public Item {
+        columnValues = columnValues == null ? List.of() : List.copyOf(columnValues);
+        updates = updates == null ? List.of() : List.copyOf(updates);
+    }
+
+    /**
+     * @param columnId ID of the column
+     * @return The value of that column, if the item has one
+     */
+    public Optional<ColumnValue> columnValue(String columnId) {
+        return columnValues.stream().filter(value -> value.id().equals(columnId)).findFirst();
+    }
+}
@@ -0,0 +1,11 @@
+package org.models;
+
+import java.util.List;
+
+/**
+ * One page of a cursor-paginated item listing.
+ *
+ * @param cursor Cursor of the following page, or null on the last page
+ * @param items  Items of this page
+ */
+public record ItemsPage(String cursor, List<Item> items) { }
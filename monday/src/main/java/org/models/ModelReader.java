@@ -0,0 +1,270 @@
+package org.models;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the Monday.com models from a {@link JsonReader} positioned on their JSON value.
+ * Unknown fields are skipped, missing fields are left null, so the same readers work
+ * for every selection set the queries ask for.
+ */
+public final class ModelReader {
+
+    private ModelReader() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Reads one element of type T from the current position of a JsonReader.
+     *
+     * @param <T> Type of the element
+     */
+    @FunctionalInterface
+    public interface ElementReader<T> {
+        T read(JsonReader in) throws IOException;
+    }
+
+    /**
+     * @param in The reader positioned on an item object
+     * @return The decoded Item
+     * @throws IOException if the JSON is malformed
+     */
+    public static Item readItem(final JsonReader in) throws IOException {
+        String id = null;
+        String name = null;
+        Group group = null;
+        List<ColumnValue> columnValues = List.of();
+        List<Update> updates = List.of();
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id" -> id = readString(in);
+                case "name" -> name = readString(in);
+                case "group" -> group = readNullable(in, ModelReader::readGroup);
+                case "column_values" -> columnValues = readList(in, ModelReader::readColumnValue);
+                case "updates" -> updates = readList(in, ModelReader::readUpdate);
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new Item(id, name, group, columnValues, updates);
+    }
+
+    /**
+     * @param in The reader positioned on a board object
+     * @return The decoded Board
+     * @throws IOException if the JSON is malformed
+     */
+    public static Board readBoard(final JsonReader in) throws IOException {
+        String id = null;
+        String name = null;
+        String permissions = null;
+        List<Tag> tags = List.of();
+        List<Group> groups = List.of();
+        List<Column> columns = List.of();
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id" -> id = readString(in);
+                case "name" -> name = readString(in);
+                case "permissions" -> permissions = readString(in);
+                case "tags" -> tags = readList(in, ModelReader::readTag);
+                case "groups" -> groups = readList(in, ModelReader::readGroup);
+                case "columns" -> columns = readList(in, ModelReader::readColumn);
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new Board(id, name, permissions, tags, groups, columns);
+    }
+
+    /**
+     * @param in The reader positioned on a column definition object
+     * @return The decoded Column
+     * @throws IOException if the JSON is malformed
+     */
+    public static Column readColumn(final JsonReader in) throws IOException {
+        String id = null;
+        String title = null;
+        String type = null;
+        String settingsStr = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id" -> id = readString(in);
+                case "title" -> title = readString(in);
+                case "type" -> type = readString(in);
+                case "settings_str" -> settingsStr = readString(in);
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new Column(id, title, type, settingsStr);
+    }
+
+    /**
+     * @param in The reader positioned on a column value object
+     * @return The decoded ColumnValue
+     * @throws IOException if the JSON is malformed
+     */
+    public static ColumnValue readColumnValue(final JsonReader in) throws IOException {
+        String id = null;
+        String text = null;
+        String type = null;
+        String value = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id" -> id = readString(in);
+                case "text" -> text = readString(in);
+                case "type" -> type = readString(in);
+                case "value" -> value = readString(in);
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new ColumnValue(id, text, type, value);
+    }
+
+    /**
+     * @param in The reader positioned on an update object
+     * @return The decoded Update
+     * @throws IOException if the JSON is malformed
+     */
+    public static Update readUpdate(final JsonReader in) throws IOException {
+        String id = null;
+        String body = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id" -> id = readString(in);
+                case "body" -> body = readString(in);
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new Update(id, body);
+    }
+
+    /**
+     * @param in The reader positioned on a group object
+     * @return The decoded Group
+     * @throws IOException if the JSON is malformed
+     */
+    public static Group readGroup(final JsonReader in) throws IOException {
+        String id = null;
+        String title = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id" -> id = readString(in);
+                case "title" -> title = readString(in);
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new Group(id, title);
+    }
+
+    /**
+     * @param in The reader positioned on a tag object
+     * @return The decoded Tag
+     * @throws IOException if the JSON is malformed
+     */
+    public static Tag readTag(final JsonReader in) throws IOException {
+        String id = null;
+        String name = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id" -> id = readString(in);
+                case "name" -> name = readString(in);
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new Tag(id, name);
+    }
+
+    /**
+     * @param in The reader positioned on an items page with its cursor object
+     * @return The decoded page
+     * @throws IOException if the JSON is malformed
+     */
+    public static ItemsPage readItemsPage(final JsonReader in) throws IOException {
+        String cursor = null;
+        List<Item> items = List.of();
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "cursor" -> cursor = readString(in);
+                case "items" -> items = readList(in, ModelReader::readItem);
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new ItemsPage(cursor, items);
+    }
+
+    /**
+     * Reads a JSON array, or null, into a list.
+     *
+     * @param in     The reader positioned on the array
+     * @param reader Reader for each element
+     * @param <T>    Type of the elements
+     * @return The elements, or an empty list for null
+     * @throws IOException if the JSON is malformed
+     */
+    public static <T> List<T> readList(final JsonReader in, final ElementReader<T> reader) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return List.of();
+        }
+        List<T> elements = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            elements.add(reader.read(in));
+        }
+        in.endArray();
+        return elements;
+    }
+
+    /**
+     * Reads a string, number or boolean scalar as a string.
+     *
+     * @param in The reader positioned on the scalar
+     * @return The value as a string, or null for JSON null
+     * @throws IOException if the value is not a scalar
+     */
+    public static String readString(final JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(in.nextBoolean());
+        }
+        return in.nextString();
+    }
+
+    static <T> T readNullable(final JsonReader in, final ElementReader<T> reader) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return reader.read(in);
+    }
+}
@@ -0,0 +1,165 @@
+package org.models;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.http.MondayApiException;
+import org.http.ResponseDecoder;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decoders for GraphQL response envelopes, reading the requested field of {@code data}
+ * straight from the response stream. Other fields, such as the complexity report, are skipped.
+ * A response carrying {@code errors} and no value for the field fails with {@link MondayApiException}.
+ */
+public final class Responses {
+
+    private Responses() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * @return Decoder for {@code data.items}
+     */
+    public static ResponseDecoder<List<Item>> items() {
+        return data("items", in -> ModelReader.readList(in, ModelReader::readItem), List.of());
+    }
+
+    /**
+     * @return Decoder for {@code data.boards}
+     */
+    public static ResponseDecoder<List<Board>> boards() {
+        return data("boards", in -> ModelReader.readList(in, ModelReader::readBoard), List.of());
+    }
+
+    /**
+     * @return Decoder for the {@code items_page} of the first board in {@code data.boards}
+     */
+    public static ResponseDecoder<ItemsPage> boardItemsPage() {
+        return data("boards", in -> firstOf(in, board -> field(board, "items_page", ModelReader::readItemsPage)),
+                new ItemsPage(null, List.of()));
+    }
+
+    /**
+     * @return Decoder for {@code data.next_items_page}
+     */
+    public static ResponseDecoder<ItemsPage> nextItemsPage() {
+        return data("next_items_page", ModelReader::readItemsPage, new ItemsPage(null, List.of()));
+    }
+
+    /**
+     * @return Decoder for {@code data.items_page_by_column_values}
+     */
+    public static ResponseDecoder<ItemsPage> itemsPageByColumnValues() {
+        return data("items_page_by_column_values", ModelReader::readItemsPage, new ItemsPage(null, List.of()));
+    }
+
+    /**
+     * @param mutation Name of the mutation field in {@code data}, e.g. {@code change_simple_column_value}
+     * @return Decoder for the item returned by an item mutation, null if the response has none
+     */
+    public static ResponseDecoder<Item> mutatedItem(final String mutation) {
+        return data(mutation, ModelReader::readItem, null);
+    }
+
+    /**
+     * @return Decoder for the updates of the first item in {@code data.items}
+     */
+    public static ResponseDecoder<List<Update>> itemUpdates() {
+        return data("items", in -> firstOf(in, item -> field(item, "updates",
+                updates -> ModelReader.readList(updates, ModelReader::readUpdate))), List.of());
+    }
+
+    /**
+     * Decodes one field of {@code data}.
+     *
+     * @param field    Name of the field in {@code data}
+     * @param reader   Reader for the field's value
+     * @param fallback Value returned when the field is null or absent and the response has no errors
+     * @param <T>      Type of the decoded value
+     * @return The decoder
+     */
+    public static <T> ResponseDecoder<T> data(
+            final String field,
+            final ModelReader.ElementReader<T> reader,
+            final T fallback) {
+        return body -> {
+            JsonReader in = new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            T result = null;
+            JsonArray errors = null;
+
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (name.equals("data") && in.peek() == JsonToken.BEGIN_OBJECT) {
+                    result = field(in, field, reader);
+                } else if (name.equals("errors") && in.peek() == JsonToken.BEGIN_ARRAY) {
+                    errors = JsonParser.parseReader(in).getAsJsonArray();
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+
+            if (result == null && errors != null && !errors.isEmpty()) {
+                throw new MondayApiException("Monday API returned errors: " + messages(errors), 200, errors.toString());
+            }
+            return result != null ? result : fallback;
+        };
+    }
+
+    /**
+     * Reads one field of the object the reader is positioned on, skipping the others.
+     */
+    private static <T> T field(final JsonReader in, final String field, final ModelReader.ElementReader<T> reader)
+            throws IOException {
+        T result = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            if (in.nextName().equals(field)) {
+                result = ModelReader.readNullable(in, reader);
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+        return result;
+    }
+
+    /**
+     * Reads the first element of the array the reader is positioned on, skipping the others.
+     */
+    private static <T> T firstOf(final JsonReader in, final ModelReader.ElementReader<T> reader) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        T result = null;
+        in.beginArray();
+        if (in.hasNext()) {
+            result = reader.read(in);
+        }
+        while (in.hasNext()) {
+            in.skipValue();
+        }
+        in.endArray();
+        return result;
+    }
+
+    private static String messages(final JsonArray errors) {
+        List<String> messages = new ArrayList<>(errors.size());
+        for (JsonElement error : errors) {
+            messages.add(error.isJsonObject() && error.getAsJsonObject().has("message")
+                    ? error.getAsJsonObject().get("message").getAsString()
+                    : error.toString());
+        }
+        return String.join("; ", messages);
+    }
+}
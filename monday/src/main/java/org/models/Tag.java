@@ -0,0 +1,9 @@
+package org.models;
+
+/**
+ * A tag available on a board.
+ *
+ * @param id   Tag identifier
+ * @param name Tag name
+ */
+public record Tag(String id, String name) { }
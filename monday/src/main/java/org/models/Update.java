@@ -0,0 +1,9 @@
+package org.models;
+
+/**
+ * An update (comment) posted on an item.
+ *
+ * @param id   Update identifier
+ * @param body HTML body of the update
+ */
+public record Update(String id, String body) { }
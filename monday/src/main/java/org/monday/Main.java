@@ -1,6 +1,8 @@
 package org.monday;
 
 
+import org.http.ApiClient;
+import org.http.BulkExecutor;
 import org.resources.*;
 import java.util.Objects;
 
@@ -8,22 +10,69 @@ import java.util.Objects;
 /**
  * Represents a client for interacting with the Monday.com API.
  * Provides access to board and item resources.
+ * <p>
+ * Every resource handed out by one Monday instance shares the same {@link ApiClient},
+ * so connections and TLS sessions are reused across calls. Close the instance to release them.
+ * <p>
+ * Virtual threads are opt-in:
+ * <pre>
+ * {@code
+ * new Monday(token, ApiClient.newBuilder().virtualThreads().build())
+ * }
+ * </pre>
+ * Board metadata can be cached across calls by passing a {@link BoardCache}; the columns
+ * resource then invalidates the boards it changes.
  */
-class Monday {
+class Monday implements AutoCloseable {
 
     protected final String apiKey;
+    protected final ApiClient apiClient;
+    private final boolean ownsClient;
+    private final BoardCache boardCache;
 
     /**
-     * Creates a new Monday client instance.
+     * Creates a new Monday client instance with its own pooled {@link ApiClient}.
      *
      * @param token The API authentication token for Monday.com required for authorization
      * @throws IllegalArgumentException if the token is null or empty
      */
     public Monday(String token) {
+        this(token, ApiClient.newBuilder().build(), true, null);
+    }
+
+    /**
+     * Creates a new Monday client instance on top of a caller-managed {@link ApiClient}.
+     * The client is not closed when this instance is closed.
+     *
+     * @param token     The API authentication token for Monday.com required for authorization
+     * @param apiClient The shared transport used by every resource of this instance
+     * @throws IllegalArgumentException if the token is null or empty
+     */
+    public Monday(String token, ApiClient apiClient) {
+        this(token, apiClient, false, null);
+    }
+
+    /**
+     * Creates a new Monday client instance on top of a caller-managed {@link ApiClient}
+     * whose board lookups read through the given cache.
+     *
+     * @param token      The API authentication token for Monday.com required for authorization
+     * @param apiClient  The shared transport used by every resource of this instance
+     * @param boardCache Cache of board metadata shared by the board and columns resources
+     * @throws IllegalArgumentException if the token is null or empty
+     */
+    public Monday(String token, ApiClient apiClient, BoardCache boardCache) {
+        this(token, apiClient, false, Objects.requireNonNull(boardCache, "BoardCache cannot be null"));
+    }
+
+    private Monday(String token, ApiClient apiClient, boolean ownsClient, BoardCache boardCache) {
         if (Objects.isNull(token) || token.trim().isEmpty()) {
             throw new IllegalArgumentException("API token cannot be null or empty");
         }
         this.apiKey = token;
+        this.apiClient = Objects.requireNonNull(apiClient, "ApiClient cannot be null");
+        this.ownsClient = ownsClient;
+        this.boardCache = boardCache;
     }
 
     /**
@@ -32,7 +81,7 @@ class Monday {
      * @return An ItemResource instance for making item-related API calls
      */
     public ItemResource items() {
-        return new ItemResource(apiKey);
+        return new ItemResource(apiKey, apiClient);
     }
 
     /**
@@ -40,7 +89,11 @@ class Monday {
      *
      * @return A ColumnsResource instance for making column-related API calls
      */
-    public ColumnsResource columns() { return new ColumnsResource(apiKey); }
+    public ColumnsResource columns() {
+        return boardCache == null
+                ? new ColumnsResource(apiKey, apiClient)
+                : new ColumnsResource(apiKey, apiClient, boardCache);
+    }
 
     /**
      * Creates a BoardResource instance to interact with Monday.com boards.
@@ -48,7 +101,9 @@ class Monday {
      * @return A BoardResource instance for making board-related API calls
      */
     public BoardResource boards() {
-        return new BoardResource(apiKey);
+        return boardCache == null
+                ? new BoardResource(apiKey, apiClient)
+                : new BoardResource(apiKey, apiClient, boardCache);
     }
 
     /**
@@ -57,7 +112,7 @@ class Monday {
      * @return A CustomResource instance for making custom API calls
      */
     public CustomResource custom() {
-        return new CustomResource(apiKey);
+        return new CustomResource(apiKey, apiClient);
     }
 
     /**
@@ -65,17 +120,36 @@ class Monday {
      *
      * @return A NotificationResource instance for making notification-related API calls
      */
-    public NotificationResource notifications() { return new NotificationResource(apiKey); }
+    public NotificationResource notifications() { return new NotificationResource(apiKey, apiClient); }
 
     /**
      * Creates a MeResource instance to interact with personal user details
      * in the Monday.com API, such as current user*/
-    public MeResource me() { return new MeResource(apiKey); }
+    public MeResource me() { return new MeResource(apiKey, apiClient); }
 
     /**
      * Creates an UpdateResource instance to interact with Monday.com updates.
      *
      * @return An UpdateResource instance for making update-related API calls
      */
-    public UpdateResource updates() { return new UpdateResource(apiKey); }
+    public UpdateResource updates() { return new UpdateResource(apiKey, apiClient); }
+
+    /**
+     * Creates a BulkExecutor that runs resource calls concurrently on virtual threads.
+     *
+     * @param concurrency Maximum number of calls running at the same time
+     * @return A BulkExecutor for fanning out calls against the resources of this instance
+     */
+    public BulkExecutor bulk(int concurrency) { return new BulkExecutor(concurrency); }
+
+    /**
+     * Releases the pooled connections and threads of the underlying {@link ApiClient}
+     * when it was created by this instance.
+     */
+    @Override
+    public void close() {
+        if (ownsClient) {
+            apiClient.close();
+        }
+    }
 }
@@ -0,0 +1,19 @@
+package org.query;
+
+import java.util.Objects;
+
+/**
+ * One item's column values change, as sent in a batched mutation.
+ *
+ * @param boardId      ID of the board containing the item
+ * @param itemId       ID of the item to update
+ * @param columnValues JSON object text with the column IDs and their new values
+ */
+public record ColumnValuesUpdate(String boardId, String itemId, String columnValues) {
+
+    public ColumnValuesUpdate {
+        Objects.requireNonNull(boardId, "Board ID cannot be null");
+        Objects.requireNonNull(itemId, "Item ID cannot be null");
+        Objects.requireNonNull(columnValues, "Column values cannot be null");
+    }
+}
@@ -0,0 +1,17 @@
+package org.query;
+
+import java.util.Objects;
+
+/**
+ * One item to create, as sent in a batched mutation.
+ *
+ * @param groupId      ID of the group to add the item to, or null for the board's top group
+ * @param itemName     Name of the new item
+ * @param columnValues JSON object text with the column values of the new item, or null for none
+ */
+public record ItemCreation(String groupId, String itemName, String columnValues) {
+
+    public ItemCreation {
+        Objects.requireNonNull(itemName, "Item name cannot be null");
+    }
+}
@@ -0,0 +1,182 @@
+package org.query;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Fields of an item to request, for queries that should not fetch every column of a wide board.
+ * <p>
+ * The item's {@code id} is always requested. Everything else, including {@code updates}, is left out
+ * unless asked for. Columns can be limited to a list of IDs, sent as a variable, so projections of the
+ * same shape share one document whatever the IDs:
+ * <pre>
+ * {@code
+ * ItemProjection projection = ItemProjection.newBuilder()
+ *         .name()
+ *         .columns("status", "date")
+ *         .build();
+ * }
+ * </pre>
+ *
+ * @param name         Whether to request the item's name
+ * @param group        Whether to request the item's group
+ * @param columnIds    IDs of the columns to request, empty for every column; ignored without column fields
+ * @param columnFields Fields of each column value to request besides its id, empty for no column values
+ * @param updates      Whether to request the item's updates
+ */
+public record ItemProjection(boolean name, boolean group, List<String> columnIds, Set<ColumnField> columnFields,
+                             boolean updates) {
+
+    /**
+     * Fields of a column value, besides its id which is always requested.
+     */
+    public enum ColumnField {
+        TEXT,
+        TYPE,
+        VALUE
+    }
+
+    public ItemProjection {
+        columnIds = columnIds == null ? List.of() : List.copyOf(columnIds);
+        columnFields = columnFields == null || columnFields.isEmpty()
+                ? Set.of()
+                : Set.copyOf(EnumSet.copyOf(columnFields));
+    }
+
+    /**
+     * @return A builder for a projection of the item's id only
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * What the generated document depends on: everything but the column IDs.
+     */
+    record Shape(boolean name, boolean group, boolean selectedColumns, Set<ColumnField> columnFields,
+                 boolean updates) { }
+
+    Shape shape() {
+        return new Shape(name, group, !columnIds.isEmpty() && !columnFields.isEmpty(), columnFields, updates);
+    }
+
+    /**
+     * @return Whether the document declares the {@code $columnIds} variable
+     */
+    boolean selectsColumns() {
+        return shape().selectedColumns();
+    }
+
+    /**
+     * Renders the selection set of an item, without braces, indented for a document nested {@code depth} levels.
+     */
+    static String selection(final Shape shape, final int depth) {
+        String indent = "    ".repeat(depth);
+        StringBuilder fields = new StringBuilder(indent).append("id");
+        if (shape.name()) {
+            fields.append(",\n").append(indent).append("name");
+        }
+        if (shape.group()) {
+            fields.append(",\n").append(indent).append("group {\n")
+                    .append(indent).append("    id,\n")
+                    .append(indent).append("    title\n")
+                    .append(indent).append('}');
+        }
+        if (!shape.columnFields().isEmpty()) {
+            fields.append(",\n").append(indent)
+                    .append(shape.selectedColumns() ? "column_values (ids: $columnIds) {\n" : "column_values {\n")
+                    .append(indent).append("    id");
+            for (ColumnField field : EnumSet.copyOf(shape.columnFields())) {
+                fields.append(",\n").append(indent).append("    ").append(field.name().toLowerCase());
+            }
+            fields.append('\n').append(indent).append('}');
+        }
+        if (shape.updates()) {
+            fields.append(",\n").append(indent).append("updates {\n")
+                    .append(indent).append("    id,\n")
+                    .append(indent).append("    body\n")
+                    .append(indent).append('}');
+        }
+        return fields.append('\n').toString();
+    }
+
+    /**
+     * Builder for {@link ItemProjection} instances.
+     */
+    public static final class Builder {
+
+        private boolean name;
+        private boolean group;
+        private List<String> columnIds = List.of();
+        private Set<ColumnField> columnFields = Set.of();
+        private boolean updates;
+
+        private Builder() {
+        }
+
+        /**
+         * @return This builder, requesting the item's name
+         */
+        public Builder name() {
+            this.name = true;
+            return this;
+        }
+
+        /**
+         * @return This builder, requesting the item's group id and title
+         */
+        public Builder group() {
+            this.group = true;
+            return this;
+        }
+
+        /**
+         * Requests the text of the given columns, or of every column when none are given.
+         * Combine with {@link #columnFields} to request other fields of the column values.
+         *
+         * @param columnIds IDs of the columns to request
+         * @return This builder
+         */
+        public Builder columns(final String... columnIds) {
+            for (String columnId : columnIds) {
+                Objects.requireNonNull(columnId, "Column ID cannot be null");
+            }
+            this.columnIds = List.of(columnIds);
+            if (columnFields.isEmpty()) {
+                this.columnFields = Set.of(ColumnField.TEXT);
+            }
+            return this;
+        }
+
+        /**
+         * @param columnFields Fields of each requested column value besides its id
+         * @return This builder
+         * @throws IllegalArgumentException if no field is given
+         */
+        public Builder columnFields(final ColumnField... columnFields) {
+            if (columnFields.length == 0) {
+                throw new IllegalArgumentException("At least one column field is required");
+            }
+            this.columnFields = EnumSet.copyOf(Arrays.asList(columnFields));
+            return this;
+        }
+
+        /**
+         * @return This builder, requesting the id and body of the item's updates
+         */
+        public Builder updates() {
+            this.updates = true;
+            return this;
+        }
+
+        /**
+         * @return A new ItemProjection
+         */
+        public ItemProjection build() {
+            return new ItemProjection(name, group, columnIds, columnFields, updates);
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package org.query;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BinaryOperator;
 
 /**
  * Utility class for generating GraphQL query strings for Monday.com API operations.
  * Contains static methods to build mutation and query strings for various item and board operations.
+ * <p>
+ * The {@code *Query} methods write the values into the query text. The {@code *Request} methods
+ * pair a constant document per operation with a {@link QueryRequest#variables() variables} object
+ * instead, so values need no escaping and the document text can be cached and reused.
  */
 public final class QueryJoins {
 
@@ -11,6 +22,20 @@ public final class QueryJoins {
         // Private constructor to prevent instantiation
     }
 
+    private static final QueryTemplate ITEM_MUTATION_TEMPLATE = QueryTemplate.compile("""
+             mutation {
+                 create_item (
+                     board_id: %s,
+                     group_id: "%s",
+                     item_name: "%s",
+                     column_values: %s,
+                     create_labels_if_missing: %b
+                 ) {
+                     id
+                 }
+             }
+            """);
+
     /**
      * Generates a GraphQL mutation query string for creating an item in Monday.com.
      *
@@ -22,24 +47,31 @@ public final class QueryJoins {
      * @return GraphQL mutation query string for item creation
      */
     public static String mutateItemQuery(final String boardId, final String groupId, final String itemName, final String columnValues, final Boolean createLabelIfMissing) {
-
-        final String ITEM_MUTATION_TEMPLATE = """
-                 mutation {
-                     create_item (
-                         board_id: %s,
-                         group_id: "%s",
-                         item_name: "%s",
-                         column_values: %s,
-                         create_labels_if_missing: %b
-                     ) {
-                         id
-                     }
-                 }
-                """;
-
-        return ITEM_MUTATION_TEMPLATE.formatted(boardId, groupId, itemName, columnValues, createLabelIfMissing);
+        return ITEM_MUTATION_TEMPLATE.render(boardId, groupId, itemName, columnValues, createLabelIfMissing);
     }
 
+    private static final QueryTemplate SUBITEM_MUTATION_TEMPLATE = QueryTemplate.compile("""
+            mutation {
+                create_subitem (
+                    parent_item_id: %s,
+                    item_name: "%s",
+                    column_values: %s,
+                    create_labels_if_missing: %b
+                ) {
+                    id,
+                    name,
+                    column_values {
+                        id,
+                        text
+                    },
+                    board {
+                        id,
+                        name
+                    }
+                }
+            }
+            """);
+
     /**
      * Generates a GraphQL mutation query to create a subitem in Monday.com.
      *
@@ -50,32 +82,27 @@ public final class QueryJoins {
      * @return String containing the formatted GraphQL mutation query
      */
     public static String mutateSubitemQuery(final String parentItemId, final String subitemName, final String columnValues, final Boolean createLabelIfMissing) {
-
-        final String SUBITEM_MUTATION_TEMPLATE = """
-                mutation {
-                    create_subitem (
-                        parent_item_id: %s,
-                        item_name: "%s",
-                        column_values: %s,
-                        create_labels_if_missing: %b
-                    ) {
-                        id,
-                        name,
-                        column_values {
-                            id,
-                            text
-                        },
-                        board {
-                            id,
-                            name
-                        }
-                    }
-                }
-                """;
-
-        return SUBITEM_MUTATION_TEMPLATE.formatted(parentItemId, subitemName, columnValues, createLabelIfMissing);
+        return SUBITEM_MUTATION_TEMPLATE.render(parentItemId, subitemName, columnValues, createLabelIfMissing);
     }
 
+    private static final QueryTemplate FETCH_ITEM_BY_ID_TEMPLATE = QueryTemplate.compile("""
+                query {
+                     items(ids: %s) {
+                         id,
+                         name,
+                         group {
+                             id,
+                             title
+                         }
+                         column_values {
+                             id,
+                             text,
+                             value
+                         }
+                     }
+                 }
+            """);
+
     /**
      * Generates a GraphQL query to fetch item details by ID.
      *
@@ -83,27 +110,33 @@ public final class QueryJoins {
      * @return String containing the formatted GraphQL query
      */
     public static String fetchItemByIdQuery(final String itemId) {
-        final String FETCH_ITEM_BY_ID_TEMPLATE = """
-                    query {
-                         items(ids: %s) {
-                             id,
-                             name,
-                             group {
-                                 id,
-                                 title
-                             }
-                             column_values {
-                                 id,
-                                 text,
-                                 value
-                             }
-                         }
-                     }
-                """;
-
-        return FETCH_ITEM_BY_ID_TEMPLATE.formatted(itemId);
+        return FETCH_ITEM_BY_ID_TEMPLATE.render(itemId);
     }
 
+    private static final QueryTemplate FETCH_BOARD_BY_ID_TEMPLATE = QueryTemplate.compile("""
+             query {
+                 boards(ids: %s) {
+                     id,
+                     name,
+                     permissions,
+                     tags {
+                         id,
+                         name
+                     },
+                     groups {
+                         id,
+                         title
+                     },
+                     columns {
+                         id,
+                         title,
+                         type,
+                         settings_str
+                     }
+                 }
+             }
+            """);
+
     /**
      * Generates a GraphQL query to fetch board details by ID.
      *
@@ -111,30 +144,33 @@ public final class QueryJoins {
      * @return String containing the formatted GraphQL query
      */
     public static String fetchBoardByIdQuery(final String boardId) {
-        return """
-                 query {
-                     boards(ids: %s) {
-                         id,
-                         name,
-                         permissions,
-                         tags {
-                             id,
-                             name
-                         },
-                         groups {
-                             id,
+        return FETCH_BOARD_BY_ID_TEMPLATE.render(boardId);
+    }
+
+    private static final QueryTemplate GET_ITEM_TEMPLATE = QueryTemplate.compile("""
+             query {
+                 items_page_by_column_values (%s) {
+                     cursor
+                     items {
+                         id
+                         name
+                         updates {
+                             id
+                             body
+                         }
+                         group {
+                             id
                              title
-                         },
-                         columns {
-                             id,
-                             title,
-                             type,
-                             settings_str
+                         }
+                         column_values {
+                             id
+                             text
+                             value
                          }
                      }
                  }
-                """.formatted(boardId);
-    }
+             }
+            """);
 
     /**
      * Generates a GraphQL query to fetch items by column values from Monday.com.
@@ -143,32 +179,28 @@ public final class QueryJoins {
      * @return String containing the formatted GraphQL query
      */
     public static String getItemQuery(final String columnValuesFilter) {
-        return """
-                 query {
-                     items_page_by_column_values (%s) {
-                         cursor
-                         items {
-                             id
-                             name
-                             updates {
-                                 id
-                                 body
-                             }
-                             group {
-                                 id
-                                 title
-                             }
-                             column_values {
-                                 id
-                                 text
-                                 value
-                             }
-                         }
-                     }
-                 }
-                """.formatted(columnValuesFilter);
+        return GET_ITEM_TEMPLATE.render(columnValuesFilter);
     }
 
+    private static final QueryTemplate UPDATE_ITEM_TEMPLATE = QueryTemplate.compile("""
+                mutation {
+                    change_simple_column_value (
+                        board_id: %s,
+                        item_id: %s,
+                        column_id: "%s",
+                        value: "%s"
+                    ) {
+                        id,
+                        name,
+                        column_values {
+                            id,
+                            text,
+                            value
+                        }
+                    }
+                }
+            """);
+
     /**
      * Generates a GraphQL mutation to update an item's column value.
      *
@@ -183,29 +215,27 @@ public final class QueryJoins {
             final String itemId,
             final String columnId,
             final String value) {
-
-        final String UPDATE_ITEM_TEMPLATE = """
-                    mutation {
-                        change_simple_column_value (
-                            board_id: %s,
-                            item_id: %s,
-                            column_id: "%s",
-                            value: "%s"
-                        ) {
-                            id,
-                            name,
-                            column_values {
-                                id,
-                                text,
-                                value
-                            }
-                        }
-                    }
-                """;
-
-        return UPDATE_ITEM_TEMPLATE.formatted(boardId, itemId, columnId, value);
+        return UPDATE_ITEM_TEMPLATE.render(boardId, itemId, columnId, value);
     }
 
+    private static final QueryTemplate UPDATE_MULTIPLES_COLUMNS_VALUES_TEMPLATE = QueryTemplate.compile("""
+        mutation {
+            change_multiple_column_values (
+                board_id: %s,
+                item_id: %s,
+                column_values: %s,
+                create_labels_if_missing: true,
+            ) {
+                id,
+                name,
+                column_values {
+                    id,
+                    text
+                }
+            }
+        }
+    """);
+
     /**
      * Generates a GraphQL mutation query string to update multiple column values for an item on a specified board.
      *
@@ -218,27 +248,19 @@ public final class QueryJoins {
             final String boardId,
             final String itemId,
             final String columnValues) {
+        return UPDATE_MULTIPLES_COLUMNS_VALUES_TEMPLATE.render(boardId, itemId, columnValues);
+    }
 
-        final String UPDATE_MULTIPLES_COLUMNS_VALUES_TEMPLATE = """
-            mutation {
-                change_multiple_column_values (
-                    board_id: %s,
-                    item_id: %s,
-                    column_values: %s,
-                    create_labels_if_missing: true,
-                ) {
-                    id,
-                    name,
-                    column_values {
-                        id,
-                        text
+    private static final QueryTemplate MOVE_ITEM_TEMPLATE = QueryTemplate.compile("""
+                mutation {
+                    move_item_to_group (
+                        item_id: "%s",
+                        group_id: "%s"
+                    ) {
+                        id
                     }
                 }
-            }
-        """;
-
-        return UPDATE_MULTIPLES_COLUMNS_VALUES_TEMPLATE.formatted(boardId, itemId, columnValues);
-    }
+            """);
 
     /**
      * Generates a GraphQL mutation to move an item to a different group.
@@ -248,20 +270,19 @@ public final class QueryJoins {
      * @return String containing the formatted GraphQL mutation
      */
     public static String moveItemToGroupQuery(final String itemId, final String groupId) {
-        final String MOVE_ITEM_TEMPLATE = """
-                    mutation {
-                        move_item_to_group (
-                            item_id: "%s",
-                            group_id: "%s"
-                        ) {
-                            id
-                        }
-                    }
-                """;
-
-        return MOVE_ITEM_TEMPLATE.formatted(itemId, groupId);
+        return MOVE_ITEM_TEMPLATE.render(itemId, groupId);
     }
 
+    private static final QueryTemplate ARCHIVE_ITEM_TEMPLATE = QueryTemplate.compile("""
+                mutation {
+                    archive_item (
+                        item_id: %s
+                    ) {
+                        id
+                    }
+                }
+            """);
+
     /**
      * Generates a GraphQL mutation to archive an item.
      *
@@ -269,19 +290,19 @@ public final class QueryJoins {
      * @return String containing the formatted GraphQL mutation
      */
     public static String archiveItemQuery(final String itemId) {
-        final String ARCHIVE_ITEM_TEMPLATE = """
-                    mutation {
-                        archive_item (
-                            item_id: %s
-                        ) {
-                            id
-                        }
-                    }
-                """;
-
-        return ARCHIVE_ITEM_TEMPLATE.formatted(itemId);
+        return ARCHIVE_ITEM_TEMPLATE.render(itemId);
     }
 
+    private static final QueryTemplate DELETE_ITEM_TEMPLATE = QueryTemplate.compile("""
+                mutation {
+                    delete_item (
+                        item_id: %s
+                    ) {
+                        id
+                    }
+                }
+            """);
+
     /**
      * Generates a GraphQL mutation to delete an item.
      *
@@ -289,165 +310,1136 @@ public final class QueryJoins {
      * @return String containing the formatted GraphQL mutation
      */
     public static String deleteItemQuery(final String itemId) {
-        final String DELETE_ITEM_TEMPLATE = """
-                    mutation {
-                        delete_item (
-                            item_id: %s
-                        ) {
-                            id
-                        }
-                    }
-                """;
-
-        return DELETE_ITEM_TEMPLATE.formatted(itemId);
+        return DELETE_ITEM_TEMPLATE.render(itemId);
     }
 
-    public static String fetchBoardItemsQuery(String boardId) {
-        final String FETCH_BOARD_ITEMS_TEMPLATE = """
-                    query {
-                        boards (ids: %s) {
-                            name,
-                            items_page {
-                                cursor,
-                                items {
-                                    group {
-                                        id,
-                                        title
-                                    }
+    private static final QueryTemplate FETCH_BOARD_ITEMS_TEMPLATE = QueryTemplate.compile("""
+                query {
+                    boards (ids: %s) {
+                        name,
+                        items_page {
+                            cursor,
+                            items {
+                                group {
+                                    id,
+                                    title
+                                }
+                                id,
+                                name,
+                                column_values {
                                     id,
-                                    name,
-                                    column_values {
-                                        id,
-                                        text,
-                                        type,
-                                        value
-                                    }
+                                    text,
+                                    type,
+                                    value
                                 }
                             }
                         }
                     }
-                """;
+                }
+            """);
 
-        return FETCH_BOARD_ITEMS_TEMPLATE.formatted(boardId);
+    public static String fetchBoardItemsQuery(String boardId) {
+        return FETCH_BOARD_ITEMS_TEMPLATE.render(boardId);
     }
 
+    private static final QueryTemplate CREATE_NOTIFICATION_TEMPLATE = QueryTemplate.compile("""
+                mutation {
+                    create_notification (
+                        user_id: %s,
+                        target_id: %s,
+                        text: "%s",
+                        target_type: Project
+                    ) {
+                        text
+                    }
+                }
+            """);
+
     public static String createNotificationQuery(
             String userId,
             String targetId,
             String text) {
-        final String CREATE_NOTIFICATION_TEMPLATE = """
-                    mutation {
-                        create_notification (
-                            user_id: %s,
-                            target_id: %s,
-                            text: "%s",
-                            target_type: Project
-                        ) {
-                            text
-                        }
-                    }
-                """;
-
-        return CREATE_NOTIFICATION_TEMPLATE.formatted(userId, targetId, text);
+        return CREATE_NOTIFICATION_TEMPLATE.render(userId, targetId, text);
     }
 
-    public static String getCurrentUserDetails() {
-        final String GET_CURRENT_USER_DETAILS_TEMPLATE = """
-                    query {
-                       me {
-                         is_guest
-                         created_at
-                         name
-                         id
-                       }
-                     }
-                """;
+    private static final QueryTemplate GET_CURRENT_USER_DETAILS_TEMPLATE = QueryTemplate.compile("""
+                query {
+                   me {
+                     is_guest
+                     created_at
+                     name
+                     id
+                   }
+                 }
+            """);
 
-        return GET_CURRENT_USER_DETAILS_TEMPLATE;
+    public static String getCurrentUserDetails() {
+        return GET_CURRENT_USER_DETAILS_TEMPLATE.render();
     }
 
+    private static final QueryTemplate CREATE_UPDATE_TEMPLATE = QueryTemplate.compile("""
+                mutation {
+                    create_update (
+                        item_id: %s,
+                        body: "%s"
+                    ) {
+                        id
+                    }
+                }
+            """);
+
     public static String createUpdateQuery(
             String itemId,
             String updateValue) {
-        final String CREATE_UPDATE_TEMPLATE = """
-                    mutation {
-                        create_update (
-                            item_id: %s,
-                            body: "%s"
-                        ) {
-                            id
-                        }
-                    }
-                """;
-
-        return CREATE_UPDATE_TEMPLATE.formatted(itemId, updateValue);
+        return CREATE_UPDATE_TEMPLATE.render(itemId, updateValue);
     }
 
-    public static String deleteUpdate(String itemId) {
-        final String DELETE_UPDATE_TEMPLATE = """
-                    mutation {
-                        delete_update (
-                            id: %s
-                        ) {
-                            id
-                        }
+    private static final QueryTemplate DELETE_UPDATE_TEMPLATE = QueryTemplate.compile("""
+                mutation {
+                    delete_update (
+                        id: %s
+                    ) {
+                        id
                     }
-                """;
+                }
+            """);
 
-        return DELETE_UPDATE_TEMPLATE.formatted(itemId);
+    public static String deleteUpdate(String itemId) {
+        return DELETE_UPDATE_TEMPLATE.render(itemId);
     }
 
-    public static String fetchItemUpdatesQuery(
-            String itemId,
-            int limit) {
-        final String FETCH_ITEM_UPDATES_TEMPLATE = """
-                    query {
-                        items (ids: [%s]) {
+    private static final QueryTemplate FETCH_ITEM_UPDATES_TEMPLATE = QueryTemplate.compile("""
+                query {
+                    items (ids: [%s]) {
+                        id,
+                        updates (limit: %s) {
                             id,
-                            updates (limit: %s) {
-                                id,
-                                body
-                            }
+                            body
                         }
                     }
-                """;
+                }
+            """);
 
-        return FETCH_ITEM_UPDATES_TEMPLATE.formatted(itemId, limit);
+    public static String fetchItemUpdatesQuery(
+            String itemId,
+            int limit) {
+        return FETCH_ITEM_UPDATES_TEMPLATE.render(itemId, limit);
     }
 
-    public static String deleteItemUpdateQuery(String itemId) {
-        final String DELETE_ITEM_UPDATE_TEMPLATE = """
-                    mutation {
-                        delete_update (id: "%s") {
-                            id
-                        }
+    private static final QueryTemplate DELETE_ITEM_UPDATE_TEMPLATE = QueryTemplate.compile("""
+                mutation {
+                    delete_update (id: "%s") {
+                        id
                     }
-                """;
+                }
+            """);
 
-        return DELETE_ITEM_UPDATE_TEMPLATE.formatted(itemId);
+    public static String deleteItemUpdateQuery(String itemId) {
+        return DELETE_ITEM_UPDATE_TEMPLATE.render(itemId);
     }
 
+    private static final QueryTemplate CREATE_COLUMN_TEMPLATE = QueryTemplate.compile("""
+                mutation {
+                    create_column (
+                        board_id: %s,
+                        title: "%s",
+                        column_type: %s
+                    ) {
+                        id,
+                        title,
+                        description
+                    }
+                }
+            """);
+
     public static String createColumnQuery(
             String boardId,
             String columnTitle,
             String columType) {
-        final String CREATE_COLUMN_TEMPLATE = """
-                    mutation {
-                        create_column (
-                            board_id: %s,
-                            title: "%s",
-                            column_type: %s
-                        ) {
-                            id,
-                            title,
-                            description
-                        }
-                    }
-                """;
-
-        return CREATE_COLUMN_TEMPLATE.formatted(
+        return CREATE_COLUMN_TEMPLATE.render(
                 boardId,
                 columnTitle,
                 columType);
     }
+
+    private static final String CREATE_ITEM_DOCUMENT = """
+            mutation CreateItem($boardId: ID!, $groupId: String, $itemName: String!, $columnValues: JSON, $createLabelsIfMissing: Boolean) {
+                create_item (
+                    board_id: $boardId,
+                    group_id: $groupId,
+                    item_name: $itemName,
+                    column_values: $columnValues,
+                    create_labels_if_missing: $createLabelsIfMissing
+                ) {
+                    id
+                }
+            }
+            """;
+
+    /**
+     * Builds the request creating an item, with every value passed as a variable.
+     *
+     * @param boardId              The ID of the board where the item will be created
+     * @param groupId              The ID of the group within the board where the item will be placed
+     * @param itemName             The name/title of the new item
+     * @param columnValues         JSON object text with the column values of the new item
+     * @param createLabelIfMissing Whether to create missing labels automatically
+     * @return The request on the constant {@code CreateItem} document
+     */
+    public static QueryRequest mutateItemRequest(
+            final String boardId,
+            final String groupId,
+            final String itemName,
+            final String columnValues,
+            final Boolean createLabelIfMissing) {
+        return QueryRequest.newBuilder("CreateItem", CREATE_ITEM_DOCUMENT)
+                .variable("boardId", boardId)
+                .variable("groupId", groupId)
+                .variable("itemName", itemName)
+                .variable("columnValues", columnValues)
+                .variable("createLabelsIfMissing", createLabelIfMissing)
+                .build();
+    }
+
+    private static final String CREATE_SUBITEM_DOCUMENT = """
+            mutation CreateSubitem($parentItemId: ID!, $itemName: String!, $columnValues: JSON, $createLabelsIfMissing: Boolean) {
+                create_subitem (
+                    parent_item_id: $parentItemId,
+                    item_name: $itemName,
+                    column_values: $columnValues,
+                    create_labels_if_missing: $createLabelsIfMissing
+                ) {
+                    id,
+                    name,
+                    column_values {
+                        id,
+                        text
+                    },
+                    board {
+                        id,
+                        name
+                    }
+                }
+            }
+            """;
+
+    /**
+     * Builds the request creating a subitem, with every value passed as a variable.
+     *
+     * @param parentItemId         ID of the parent item to which the subitem will be linked
+     * @param subitemName          Name of the subitem to be created
+     * @param columnValues         JSON object text with the column values of the subitem
+     * @param createLabelIfMissing Flag to automatically create missing labels
+     * @return The request on the constant {@code CreateSubitem} document
+     */
+    public static QueryRequest mutateSubitemRequest(
+            final String parentItemId,
+            final String subitemName,
+            final String columnValues,
+            final Boolean createLabelIfMissing) {
+        return QueryRequest.newBuilder("CreateSubitem", CREATE_SUBITEM_DOCUMENT)
+                .variable("parentItemId", parentItemId)
+                .variable("itemName", subitemName)
+                .variable("columnValues", columnValues)
+                .variable("createLabelsIfMissing", createLabelIfMissing)
+                .build();
+    }
+
+    private static final String FETCH_ITEM_BY_ID_DOCUMENT = """
+            query FetchItemById($itemId: ID!) {
+                items(ids: [$itemId]) {
+                    id,
+                    name,
+                    group {
+                        id,
+                        title
+                    }
+                    column_values {
+                        id,
+                        text,
+                        value
+                    }
+                }
+            }
+            """;
+
+    /**
+     * Builds the request fetching an item by ID.
+     *
+     * @param itemId The ID of the item to fetch
+     * @return The request on the constant {@code FetchItemById} document
+     */
+    public static QueryRequest fetchItemByIdRequest(final String itemId) {
+        return QueryRequest.newBuilder("FetchItemById", FETCH_ITEM_BY_ID_DOCUMENT)
+                .variable("itemId", itemId)
+                .build();
+    }
+
+    private static final String FETCH_ITEMS_BY_IDS_DOCUMENT = """
+            query FetchItemsByIds($itemIds: [ID!], $limit: Int) {
+                items(ids: $itemIds, limit: $limit) {
+                    id,
+                    name,
+                    group {
+                        id,
+                        title
+                    }
+                    column_values {
+                        id,
+                        text,
+                        value
+                    }
+                }
+            }
+            """;
+
+    /**
+     * Builds the request fetching several items by ID in one query.
+     * The {@code items} query returns at most 100 items.
+     *
+     * @param itemIds The IDs of the items to fetch
+     * @return The request on the constant {@code FetchItemsByIds} document
+     */
+    public static QueryRequest fetchItemsByIdsRequest(final List<String> itemIds) {
+        return QueryRequest.newBuilder("FetchItemsByIds", FETCH_ITEMS_BY_IDS_DOCUMENT)
+                .variable("itemIds", List.copyOf(itemIds))
+                .variable("limit", itemIds.size())
+                .build();
+    }
+
+    private static final String FETCH_BOARD_BY_ID_DOCUMENT = """
+            query FetchBoardById($boardId: ID!) {
+                boards(ids: [$boardId]) {
+                    id,
+                    name,
+                    permissions,
+                    tags {
+                        id,
+                        name
+                    },
+                    groups {
+                        id,
+                        title
+                    },
+                    columns {
+                        id,
+                        title,
+                        type,
+                        settings_str
+                    }
+                }
+            }
+            """;
+
+    /**
+     * Builds the request fetching a board by ID.
+     *
+     * @param boardId The ID of the board to fetch
+     * @return The request on the constant {@code FetchBoardById} document
+     */
+    public static QueryRequest fetchBoardByIdRequest(final String boardId) {
+        return QueryRequest.newBuilder("FetchBoardById", FETCH_BOARD_BY_ID_DOCUMENT)
+                .variable("boardId", boardId)
+                .build();
+    }
+
+    private static final String ITEMS_BY_COLUMN_VALUE_DOCUMENT = """
+            query ItemsByColumnValue($boardId: ID!, $columns: [ItemsPageByColumnValuesQuery!]) {
+                items_page_by_column_values (board_id: $boardId, columns: $columns) {
+                    cursor
+                    items {
+                        id
+                        name
+                        updates {
+                            id
+                            body
+                        }
+                        group {
+                            id
+                            title
+                        }
+                        column_values {
+                            id
+                            text
+                            value
+                        }
+                    }
+                }
+            }
+            """;
+
+    /**
+     * Builds the request fetching the items whose column holds a value.
+     *
+     * @param boardId  The ID of the board to search
+     * @param columnId The ID of the column to filter by
+     * @param value    The value to filter the column by
+     * @return The request on the constant {@code ItemsByColumnValue} document
+     */
+    public static QueryRequest getItemRequest(final String boardId, final String columnId, final String value) {
+        return QueryRequest.newBuilder("ItemsByColumnValue", ITEMS_BY_COLUMN_VALUE_DOCUMENT)
+                .variable("boardId", boardId)
+                .variable("columns", List.of(Map.of(
+                        "column_id", Objects.requireNonNull(columnId, "Column ID cannot be null"),
+                        "column_values", List.of(Objects.requireNonNull(value, "Value cannot be null")))))
+                .build();
+    }
+
+    private static final String CHANGE_SIMPLE_COLUMN_VALUE_DOCUMENT = """
+            mutation ChangeSimpleColumnValue($boardId: ID!, $itemId: ID!, $columnId: String!, $value: String) {
+                change_simple_column_value (
+                    board_id: $boardId,
+                    item_id: $itemId,
+                    column_id: $columnId,
+                    value: $value
+                ) {
+                    id,
+                    name,
+                    column_values {
+                        id,
+                        text,
+                        value
+                    }
+                }
+            }
+            """;
+
+    /**
+     * Builds the request updating an item's column value.
+     *
+     * @param boardId  The ID of the board containing the item
+     * @param itemId   The ID of the item to update
+     * @param columnId The ID of the column to update
+     * @param value    The new value to set
+     * @return The request on the constant {@code ChangeSimpleColumnValue} document
+     */
+    public static QueryRequest updateItemRequest(
+            final String boardId,
+            final String itemId,
+            final String columnId,
+            final String value) {
+        return QueryRequest.newBuilder("ChangeSimpleColumnValue", CHANGE_SIMPLE_COLUMN_VALUE_DOCUMENT)
+                .variable("boardId", boardId)
+                .variable("itemId", itemId)
+                .variable("columnId", columnId)
+                .variable("value", value)
+                .build();
+    }
+
+    private static final String CHANGE_MULTIPLE_COLUMN_VALUES_DOCUMENT = """
+            mutation ChangeMultipleColumnValues($boardId: ID!, $itemId: ID!, $columnValues: JSON!) {
+                change_multiple_column_values (
+                    board_id: $boardId,
+                    item_id: $itemId,
+                    column_values: $columnValues,
+                    create_labels_if_missing: true
+                ) {
+                    id,
+                    name,
+                    column_values {
+                        id,
+                        text
+                    }
+                }
+            }
+            """;
+
+    /**
+     * Builds the request updating multiple column values of an item.
+     *
+     * @param boardId      The ID of the board containing the item to be updated.
+     * @param itemId       The ID of the item whose column values are to be updated.
+     * @param columnValues JSON object text with the updated column values.
+     * @return The request on the constant {@code ChangeMultipleColumnValues} document
+     */
+    public static QueryRequest updateMultiplesColumnValuesRequest(
+            final String boardId,
+            final String itemId,
+            final String columnValues) {
+        return QueryRequest.newBuilder("ChangeMultipleColumnValues", CHANGE_MULTIPLE_COLUMN_VALUES_DOCUMENT)
+                .variable("boardId", boardId)
+                .variable("itemId", itemId)
+                .variable("columnValues", columnValues)
+                .build();
+    }
+
+    private static final QueryTemplate BATCH_CHANGE_MULTIPLE_COLUMN_VALUES_FIELD_TEMPLATE = QueryTemplate.compile("""
+                u%d: change_multiple_column_values (
+                    board_id: $board%d,
+                    item_id: $item%d,
+                    column_values: $values%d,
+                    create_labels_if_missing: true
+                ) {
+                    id,
+                    name,
+                    column_values {
+                        id,
+                        text
+                    }
+                }
+            """);
+
+    /**
+     * Builds one mutation changing the column values of several items, with one aliased
+     * {@code change_multiple_column_values} field per update, aliased {@code u1} to {@code uN}
+     * in list order. The document only depends on the number of updates.
+     *
+     * @param updates The updates to apply, at least one
+     * @return The request on the {@code BatchChangeMultipleColumnValues} document for that many updates
+     * @throws IllegalArgumentException If there are no updates
+     */
+    public static QueryRequest batchUpdateMultiplesColumnValuesRequest(final List<ColumnValuesUpdate> updates) {
+        if (updates.isEmpty()) {
+            throw new IllegalArgumentException("At least one update is required");
+        }
+        List<String> declarations = new ArrayList<>(updates.size() * 3);
+        StringBuilder fields = new StringBuilder();
+        Map<String, Object> variables = new LinkedHashMap<>();
+        for (int i = 1; i <= updates.size(); i++) {
+            ColumnValuesUpdate update = updates.get(i - 1);
+            declarations.add("$board" + i + ": ID!, $item" + i + ": ID!, $values" + i + ": JSON!");
+            fields.append(BATCH_CHANGE_MULTIPLE_COLUMN_VALUES_FIELD_TEMPLATE.render(i, i, i, i));
+            variables.put("board" + i, update.boardId());
+            variables.put("item" + i, update.itemId());
+            variables.put("values" + i, update.columnValues());
+        }
+        String document = "mutation BatchChangeMultipleColumnValues(" + String.join(", ", declarations) + ") {\n"
+                + fields + "}\n";
+        return new QueryRequest("BatchChangeMultipleColumnValues", document, variables);
+    }
+
+    private static final QueryTemplate BATCH_CREATE_ITEM_FIELD_TEMPLATE = QueryTemplate.compile("""
+                c%d: create_item (
+                    board_id: $boardId,
+                    group_id: $group%d,
+                    item_name: $name%d,
+                    column_values: $values%d,
+                    create_labels_if_missing: true
+                ) {
+                    id
+                }
+            """);
+
+    /**
+     * Builds one mutation creating several items on a board, with one aliased {@code create_item}
+     * field per item, aliased {@code c1} to {@code cN} in list order. The document only depends on the number of items.
+     *
+     * @param boardId The ID of the board to create the items on
+     * @param items   The items to create, at least one
+     * @return The request on the {@code BatchCreateItems} document for that many items
+     * @throws IllegalArgumentException If there are no items
+     */
+    public static QueryRequest batchCreateItemsRequest(final String boardId, final List<ItemCreation> items) {
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("At least one item is required");
+        }
+        List<String> declarations = new ArrayList<>(items.size() * 3 + 1);
+        declarations.add("$boardId: ID!");
+        StringBuilder fields = new StringBuilder();
+        Map<String, Object> variables = new LinkedHashMap<>();
+        variables.put("boardId", Objects.requireNonNull(boardId, "Board ID cannot be null"));
+        for (int i = 1; i <= items.size(); i++) {
+            ItemCreation item = items.get(i - 1);
+            declarations.add("$group" + i + ": String, $name" + i + ": String!, $values" + i + ": JSON");
+            fields.append(BATCH_CREATE_ITEM_FIELD_TEMPLATE.render(i, i, i, i));
+            variables.put("group" + i, item.groupId());
+            variables.put("name" + i, item.itemName());
+            variables.put("values" + i, item.columnValues());
+        }
+        String document = "mutation BatchCreateItems(" + String.join(", ", declarations) + ") {\n"
+                + fields + "}\n";
+        return new QueryRequest("BatchCreateItems", document, variables);
+    }
+
+    private static final QueryTemplate BATCH_CREATE_SUBITEM_FIELD_TEMPLATE = QueryTemplate.compile("""
+                c%d: create_subitem (
+                    parent_item_id: $parent%d,
+                    item_name: $name%d,
+                    column_values: $values%d,
+                    create_labels_if_missing: true
+                ) {
+                    id
+                }
+            """);
+
+    /**
+     * Builds one mutation creating several subitems, with one aliased {@code create_subitem}
+     * field per subitem, aliased {@code c1} to {@code cN} in list order. The document only depends on the number of subitems.
+     *
+     * @param subitems The subitems to create, at least one
+     * @return The request on the {@code BatchCreateSubitems} document for that many subitems
+     * @throws IllegalArgumentException If there are no subitems
+     */
+    public static QueryRequest batchCreateSubitemsRequest(final List<SubitemCreation> subitems) {
+        if (subitems.isEmpty()) {
+            throw new IllegalArgumentException("At least one subitem is required");
+        }
+        List<String> declarations = new ArrayList<>(subitems.size() * 3);
+        StringBuilder fields = new StringBuilder();
+        Map<String, Object> variables = new LinkedHashMap<>();
+        for (int i = 1; i <= subitems.size(); i++) {
+            SubitemCreation subitem = subitems.get(i - 1);
+            declarations.add("$parent" + i + ": ID!, $name" + i + ": String!, $values" + i + ": JSON");
+            fields.append(BATCH_CREATE_SUBITEM_FIELD_TEMPLATE.render(i, i, i, i));
+            variables.put("parent" + i, subitem.parentItemId());
+            variables.put("name" + i, subitem.itemName());
+            variables.put("values" + i, subitem.columnValues());
+        }
+        String document = "mutation BatchCreateSubitems(" + String.join(", ", declarations) + ") {\n"
+                + fields + "}\n";
+        return new QueryRequest("BatchCreateSubitems", document, variables);
+    }
+
+    private static final String MOVE_ITEM_TO_GROUP_DOCUMENT = """
+            mutation MoveItemToGroup($itemId: ID!, $groupId: String!) {
+                move_item_to_group (
+                    item_id: $itemId,
+                    group_id: $groupId
+                ) {
+                    id
+                }
+            }
+            """;
+
+    /**
+     * Builds the request moving an item to a different group.
+     *
+     * @param itemId  The ID of the item to move
+     * @param groupId The ID of the destination group
+     * @return The request on the constant {@code MoveItemToGroup} document
+     */
+    public static QueryRequest moveItemToGroupRequest(final String itemId, final String groupId) {
+        return QueryRequest.newBuilder("MoveItemToGroup", MOVE_ITEM_TO_GROUP_DOCUMENT)
+                .variable("itemId", itemId)
+                .variable("groupId", groupId)
+                .build();
+    }
+
+    private static final String ARCHIVE_ITEM_DOCUMENT = """
+            mutation ArchiveItem($itemId: ID!) {
+                archive_item (
+                    item_id: $itemId
+                ) {
+                    id
+                }
+            }
+            """;
+
+    /**
+     * Builds the request archiving an item.
+     *
+     * @param itemId The ID of the item to archive
+     * @return The request on the constant {@code ArchiveItem} document
+     */
+    public static QueryRequest archiveItemRequest(final String itemId) {
+        return QueryRequest.newBuilder("ArchiveItem", ARCHIVE_ITEM_DOCUMENT)
+                .variable("itemId", itemId)
+                .build();
+    }
+
+    private static final String DELETE_ITEM_DOCUMENT = """
+            mutation DeleteItem($itemId: ID!) {
+                delete_item (
+                    item_id: $itemId
+                ) {
+                    id
+                }
+            }
+            """;
+
+    /**
+     * Builds the request deleting an item.
+     *
+     * @param itemId The ID of the item to delete
+     * @return The request on the constant {@code DeleteItem} document
+     */
+    public static QueryRequest deleteItemRequest(final String itemId) {
+        return QueryRequest.newBuilder("DeleteItem", DELETE_ITEM_DOCUMENT)
+                .variable("itemId", itemId)
+                .build();
+    }
+
+    private static final String FETCH_BOARD_ITEMS_DOCUMENT = """
+            query FetchBoardItems($boardId: ID!) {
+                boards (ids: [$boardId]) {
+                    name,
+                    items_page {
+                        cursor,
+                        items {
+                            group {
+                                id,
+                                title
+                            }
+                            id,
+                            name,
+                            column_values {
+                                id,
+                                text,
+                                type,
+                                value
+                            }
+                        }
+                    }
+                }
+            }
+            """;
+
+    /**
+     * Builds the request fetching the first page of a board's items with the default page size.
+     *
+     * @param boardId The ID of the board whose items are fetched
+     * @return The request on the constant {@code FetchBoardItems} document
+     */
+    public static QueryRequest fetchBoardItemsRequest(final String boardId) {
+        return QueryRequest.newBuilder("FetchBoardItems", FETCH_BOARD_ITEMS_DOCUMENT)
+                .variable("boardId", boardId)
+                .build();
+    }
+
+    private static final String FETCH_BOARD_ITEMS_PAGE_DOCUMENT = """
+            query FetchBoardItemsPage($boardId: ID!, $limit: Int!) {
+                boards (ids: [$boardId]) {
+                    items_page (limit: $limit) {
+                        cursor,
+                        items {
+                            group {
+                                id,
+                                title
+                            }
+                            id,
+                            name,
+                            column_values {
+                                id,
+                                text,
+                                type,
+                                value
+                            }
+                        }
+                    }
+                }
+            }
+            """;
+
+    /**
+     * Builds the request fetching the first page of a board's items.
+     *
+     * @param boardId The ID of the board whose items are fetched
+     * @param limit   Maximum number of items in the page
+     * @return The request on the constant {@code FetchBoardItemsPage} document
+     */
+    public static QueryRequest fetchBoardItemsPageRequest(final String boardId, final int limit) {
+        return QueryRequest.newBuilder("FetchBoardItemsPage", FETCH_BOARD_ITEMS_PAGE_DOCUMENT)
+                .variable("boardId", boardId)
+                .variable("limit", limit)
+                .build();
+    }
+
+    private static final String FETCH_BOARD_ITEMS_UPDATED_SINCE_DOCUMENT = """
+            query FetchBoardItemsUpdatedSince($boardId: ID!, $limit: Int!, $since: CompareValue!) {
+                boards (ids: [$boardId]) {
+                    items_page (
+                        limit: $limit,
+                        query_params: {
+                            rules: [{
+                                column_id: "__last_updated__",
+                                compare_value: $since,
+                                compare_attribute: "UPDATED_AT",
+                                operator: greater_than_or_equals
+                            }]
+                        }
+                    ) {
+                        cursor,
+                        items {
+                            group {
+                                id,
+                                title
+                            }
+                            id,
+                            name,
+                            column_values {
+                                id,
+                                text,
+                                type,
+                                value
+                            }
+                        }
+                    }
+                }
+            }
+            """;
+
+    /**
+     * Builds the request fetching the first page of a board's items updated on or after a day.
+     * Following pages are fetched with {@link #nextItemsPageRequest}, as the cursor keeps the filter.
+     *
+     * @param boardId The ID of the board whose items are fetched
+     * @param since   Earliest update day, as {@code yyyy-MM-dd} in UTC
+     * @param limit   Maximum number of items in the page
+     * @return The request on the constant {@code FetchBoardItemsUpdatedSince} document
+     */
+    public static QueryRequest fetchBoardItemsUpdatedSinceRequest(final String boardId, final String since, final int limit) {
+        return QueryRequest.newBuilder("FetchBoardItemsUpdatedSince", FETCH_BOARD_ITEMS_UPDATED_SINCE_DOCUMENT)
+                .variable("boardId", boardId)
+                .variable("limit", limit)
+                .variable("since", List.of("EXACT", since))
+                .build();
+    }
+
+    private static final String NEXT_ITEMS_PAGE_DOCUMENT = """
+            query NextItemsPage($cursor: String!, $limit: Int!) {
+                next_items_page (cursor: $cursor, limit: $limit) {
+                    cursor,
+                    items {
+                        group {
+                            id,
+                            title
+                        }
+                        id,
+                        name,
+                        column_values {
+                            id,
+                            text,
+                            type,
+                            value
+                        }
+                    }
+                }
+            }
+            """;
+
+    /**
+     * Builds the request fetching the page of items following the given cursor.
+     *
+     * @param cursor Cursor returned with the previous page
+     * @param limit  Maximum number of items in the page
+     * @return The request on the constant {@code NextItemsPage} document
+     */
+    public static QueryRequest nextItemsPageRequest(final String cursor, final int limit) {
+        return QueryRequest.newBuilder("NextItemsPage", NEXT_ITEMS_PAGE_DOCUMENT)
+                .variable("cursor", cursor)
+                .variable("limit", limit)
+                .build();
+    }
+
+    /**
+     * Documents generated for item projections, one per operation and projection shape.
+     */
+    private static final Map<ProjectedDocument, String> PROJECTED_DOCUMENTS = new ConcurrentHashMap<>();
+
+    private record ProjectedDocument(String operationName, ItemProjection.Shape shape) { }
+
+    /**
+     * Builds the request fetching the first page of a board's items, with only the projected fields.
+     *
+     * @param boardId    The ID of the board whose items are fetched
+     * @param limit      Maximum number of items in the page
+     * @param projection The fields of each item to fetch
+     * @return The request on the {@code FetchBoardItemsPage} document generated for the projection's shape
+     */
+    public static QueryRequest fetchBoardItemsPageRequest(
+            final String boardId,
+            final int limit,
+            final ItemProjection projection) {
+        String document = projectedDocument("FetchBoardItemsPage", projection, (declarations, items) -> """
+                query FetchBoardItemsPage($boardId: ID!, $limit: Int!%s) {
+                    boards (ids: [$boardId]) {
+                        items_page (limit: $limit) {
+                            cursor,
+                            items {
+                %s            }
+                        }
+                    }
+                }
+                """.formatted(declarations, items), 4);
+        return projected(QueryRequest.newBuilder("FetchBoardItemsPage", document), projection)
+                .variable("boardId", boardId)
+                .variable("limit", limit)
+                .build();
+    }
+
+    /**
+     * Builds the request fetching the page of items following the given cursor, with only the projected fields.
+     *
+     * @param cursor     Cursor returned with the previous page
+     * @param limit      Maximum number of items in the page
+     * @param projection The fields of each item to fetch
+     * @return The request on the {@code NextItemsPage} document generated for the projection's shape
+     */
+    public static QueryRequest nextItemsPageRequest(
+            final String cursor,
+            final int limit,
+            final ItemProjection projection) {
+        String document = projectedDocument("NextItemsPage", projection, (declarations, items) -> """
+                query NextItemsPage($cursor: String!, $limit: Int!%s) {
+                    next_items_page (cursor: $cursor, limit: $limit) {
+                        cursor,
+                        items {
+                %s        }
+                    }
+                }
+                """.formatted(declarations, items), 3);
+        return projected(QueryRequest.newBuilder("NextItemsPage", document), projection)
+                .variable("cursor", cursor)
+                .variable("limit", limit)
+                .build();
+    }
+
+    /**
+     * Builds the request fetching the items whose column holds a value, with only the projected fields.
+     *
+     * @param boardId    The ID of the board to search
+     * @param columnId   The ID of the column to filter by
+     * @param value      The value to filter the column by
+     * @param projection The fields of each item to fetch
+     * @return The request on the {@code ItemsByColumnValue} document generated for the projection's shape
+     */
+    public static QueryRequest getItemRequest(
+            final String boardId,
+            final String columnId,
+            final String value,
+            final ItemProjection projection) {
+        String document = projectedDocument("ItemsByColumnValue", projection, (declarations, items) -> """
+                query ItemsByColumnValue($boardId: ID!, $columns: [ItemsPageByColumnValuesQuery!]%s) {
+                    items_page_by_column_values (board_id: $boardId, columns: $columns) {
+                        cursor
+                        items {
+                %s        }
+                    }
+                }
+                """.formatted(declarations, items), 3);
+        return projected(QueryRequest.newBuilder("ItemsByColumnValue", document), projection)
+                .variable("boardId", boardId)
+                .variable("columns", List.of(Map.of(
+                        "column_id", Objects.requireNonNull(columnId, "Column ID cannot be null"),
+                        "column_values", List.of(Objects.requireNonNull(value, "Value cannot be null")))))
+                .build();
+    }
+
+    /**
+     * Builds the request fetching several items by ID in one query, with only the projected fields.
+     *
+     * @param itemIds    The IDs of the items to fetch, at most 100
+     * @param projection The fields of each item to fetch
+     * @return The request on the {@code FetchItemsByIds} document generated for the projection's shape
+     */
+    public static QueryRequest fetchItemsByIdsRequest(final List<String> itemIds, final ItemProjection projection) {
+        String document = projectedDocument("FetchItemsByIds", projection, (declarations, items) -> """
+                query FetchItemsByIds($itemIds: [ID!], $limit: Int%s) {
+                    items(ids: $itemIds, limit: $limit) {
+                %s    }
+                }
+                """.formatted(declarations, items), 2);
+        return projected(QueryRequest.newBuilder("FetchItemsByIds", document), projection)
+                .variable("itemIds", List.copyOf(itemIds))
+                .variable("limit", itemIds.size())
+                .build();
+    }
+
+    /**
+     * @return Number of documents generated for item projections so far
+     */
+    static int projectedDocumentCount() {
+        return PROJECTED_DOCUMENTS.size();
+    }
+
+    /**
+     * Returns the document of an operation for the projection's shape, generating it on first use.
+     *
+     * @param template Renders the document from the extra variable declarations and the item selection set
+     * @param depth    Nesting level of the item selection set
+     */
+    private static String projectedDocument(
+            final String operationName,
+            final ItemProjection projection,
+            final BinaryOperator<String> template,
+            final int depth) {
+        ItemProjection.Shape shape = Objects.requireNonNull(projection, "Projection cannot be null").shape();
+        return PROJECTED_DOCUMENTS.computeIfAbsent(new ProjectedDocument(operationName, shape), key ->
+                template.apply(shape.selectedColumns() ? ", $columnIds: [String!]" : "",
+                        ItemProjection.selection(shape, depth)));
+    }
+
+    private static QueryRequest.Builder projected(final QueryRequest.Builder builder, final ItemProjection projection) {
+        return projection.selectsColumns() ? builder.variable("columnIds", projection.columnIds()) : builder;
+    }
+
+    private static final String CREATE_NOTIFICATION_DOCUMENT = """
+            mutation CreateNotification($userId: ID!, $targetId: ID!, $text: String!) {
+                create_notification (
+                    user_id: $userId,
+                    target_id: $targetId,
+                    text: $text,
+                    target_type: Project
+                ) {
+                    text
+                }
+            }
+            """;
+
+    /**
+     * Builds the request sending a notification to a user.
+     *
+     * @param userId   The ID of the user to notify
+     * @param targetId The ID of the item or board the notification points to
+     * @param text     The text of the notification
+     * @return The request on the constant {@code CreateNotification} document
+     */
+    public static QueryRequest createNotificationRequest(final String userId, final String targetId, final String text) {
+        return QueryRequest.newBuilder("CreateNotification", CREATE_NOTIFICATION_DOCUMENT)
+                .variable("userId", userId)
+                .variable("targetId", targetId)
+                .variable("text", text)
+                .build();
+    }
+
+    private static final String CURRENT_USER_DETAILS_DOCUMENT = """
+            query CurrentUserDetails {
+                me {
+                    is_guest
+                    created_at
+                    name
+                    id
+                }
+            }
+            """;
+
+    /**
+     * Builds the request fetching the details of the user owning the token.
+     *
+     * @return The request on the constant {@code CurrentUserDetails} document
+     */
+    public static QueryRequest getCurrentUserDetailsRequest() {
+        return new QueryRequest("CurrentUserDetails", CURRENT_USER_DETAILS_DOCUMENT, Map.of());
+    }
+
+    private static final String CREATE_UPDATE_DOCUMENT = """
+            mutation CreateUpdate($itemId: ID!, $body: String!) {
+                create_update (
+                    item_id: $itemId,
+                    body: $body
+                ) {
+                    id
+                }
+            }
+            """;
+
+    /**
+     * Builds the request posting an update on an item.
+     *
+     * @param itemId      The ID of the item to post on
+     * @param updateValue The body of the update
+     * @return The request on the constant {@code CreateUpdate} document
+     */
+    public static QueryRequest createUpdateRequest(final String itemId, final String updateValue) {
+        return QueryRequest.newBuilder("CreateUpdate", CREATE_UPDATE_DOCUMENT)
+                .variable("itemId", itemId)
+                .variable("body", updateValue)
+                .build();
+    }
+
+    private static final String DELETE_UPDATE_DOCUMENT = """
+            mutation DeleteUpdate($updateId: ID!) {
+                delete_update (
+                    id: $updateId
+                ) {
+                    id
+                }
+            }
+            """;
+
+    /**
+     * Builds the request deleting an update.
+     *
+     * @param updateId The ID of the update to delete
+     * @return The request on the constant {@code DeleteUpdate} document
+     */
+    public static QueryRequest deleteUpdateRequest(final String updateId) {
+        return QueryRequest.newBuilder("DeleteUpdate", DELETE_UPDATE_DOCUMENT)
+                .variable("updateId", updateId)
+                .build();
+    }
+
+    private static final String FETCH_ITEM_UPDATES_DOCUMENT = """
+            query FetchItemUpdates($itemId: ID!, $limit: Int) {
+                items (ids: [$itemId]) {
+                    id,
+                    updates (limit: $limit) {
+                        id,
+                        body
+                    }
+                }
+            }
+            """;
+
+    /**
+     * Builds the request fetching the latest updates of an item.
+     *
+     * @param itemId The ID of the item
+     * @param limit  Maximum number of updates
+     * @return The request on the constant {@code FetchItemUpdates} document
+     */
+    public static QueryRequest fetchItemUpdatesRequest(final String itemId, final int limit) {
+        return QueryRequest.newBuilder("FetchItemUpdates", FETCH_ITEM_UPDATES_DOCUMENT)
+                .variable("itemId", itemId)
+                .variable("limit", limit)
+                .build();
+    }
+
+    private static final String FETCH_ITEMS_UPDATES_DOCUMENT = """
+            query FetchItemsUpdates($itemIds: [ID!], $itemsLimit: Int, $limit: Int) {
+                items (ids: $itemIds, limit: $itemsLimit) {
+                    id,
+                    updates (limit: $limit) {
+                        id,
+                        body
+                    }
+                }
+            }
+            """;
+
+    /**
+     * Builds the request fetching the latest updates of several items in one query.
+     * The {@code items} query returns at most 100 items.
+     *
+     * @param itemIds The IDs of the items
+     * @param limit   Maximum number of updates per item
+     * @return The request on the constant {@code FetchItemsUpdates} document
+     */
+    public static QueryRequest fetchItemsUpdatesRequest(final List<String> itemIds, final int limit) {
+        return QueryRequest.newBuilder("FetchItemsUpdates", FETCH_ITEMS_UPDATES_DOCUMENT)
+                .variable("itemIds", List.copyOf(itemIds))
+                .variable("itemsLimit", itemIds.size())
+                .variable("limit", limit)
+                .build();
+    }
+
+    private static final String CREATE_COLUMN_DOCUMENT = """
+            mutation CreateColumn($boardId: ID!, $title: String!, $columnType: ColumnType!) {
+                create_column (
+                    board_id: $boardId,
+                    title: $title,
+                    column_type: $columnType
+                ) {
+                    id,
+                    title,
+                    description
+                }
+            }
+            """;
+
+    /**
+     * Builds the request adding a column to a board.
+     *
+     * @param boardId     The ID of the board
+     * @param columnTitle The title of the new column
+     * @param columnType  The type of the new column, as named by the {@code ColumnType} enum, e.g. {@code status}
+     * @return The request on the constant {@code CreateColumn} document
+     */
+    public static QueryRequest createColumnRequest(final String boardId, final String columnTitle, final String columnType) {
+        return QueryRequest.newBuilder("CreateColumn", CREATE_COLUMN_DOCUMENT)
+                .variable("boardId", boardId)
+                .variable("title", columnTitle)
+                .variable("columnType", columnType)
+                .build();
+    }
 }
@@ -0,0 +1,89 @@
+package org.query;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A GraphQL request: a fixed query document, the name of the operation it defines and the
+ * variables of one call. Values are passed as variables instead of being written into the
+ * document, so the document text is constant per operation and only the variables change.
+ * <p>
+ * Variable values may be {@code null}, strings, numbers, booleans, collections or maps of these,
+ * and are written to the request body as the corresponding JSON values.
+ *
+ * @param operationName Name of the operation defined by the document, or null for anonymous documents
+ * @param query         The GraphQL document
+ * @param variables     Variable values by name, in declaration order
+ */
+public record QueryRequest(String operationName, String query, Map<String, Object> variables) {
+
+    public QueryRequest {
+        Objects.requireNonNull(query, "Query cannot be null");
+        variables = variables == null || variables.isEmpty()
+                ? Map.of()
+                : Collections.unmodifiableMap(new LinkedHashMap<>(variables));
+    }
+
+    /**
+     * Wraps a complete query document without variables.
+     *
+     * @param query The GraphQL document
+     * @return A request sending the document as is
+     */
+    public static QueryRequest of(final String query) {
+        return new QueryRequest(null, query, Map.of());
+    }
+
+    /**
+     * Creates a builder for a request on the given document.
+     *
+     * @param operationName Name of the operation defined by the document
+     * @param query         The GraphQL document
+     * @return A builder without variables
+     */
+    public static Builder newBuilder(final String operationName, final String query) {
+        return new Builder(operationName, query);
+    }
+
+    /**
+     * @param query Replacement document, e.g. the same document with an extra field selected
+     * @return A request with the same operation name and variables on the given document
+     */
+    public QueryRequest withQuery(final String query) {
+        return new QueryRequest(operationName, query, variables);
+    }
+
+    /**
+     * Builder for {@link QueryRequest} instances.
+     */
+    public static final class Builder {
+
+        private final String operationName;
+        private final String query;
+        private final Map<String, Object> variables = new LinkedHashMap<>();
+
+        private Builder(final String operationName, final String query) {
+            this.operationName = operationName;
+            this.query = Objects.requireNonNull(query, "Query cannot be null");
+        }
+
+        /**
+         * @param name  Name of the variable, without the leading {@code $}
+         * @param value Value of the variable, may be null
+         * @return This builder
+         */
+        public Builder variable(final String name, final Object value) {
+            variables.put(Objects.requireNonNull(name, "Variable name cannot be null"), value);
+            return this;
+        }
+
+        /**
+         * @return A new request with the variables set so far
+         */
+        public QueryRequest build() {
+            return new QueryRequest(operationName, query, variables);
+        }
+    }
+}
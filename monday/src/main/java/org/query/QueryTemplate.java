@@ -0,0 +1,111 @@
+package org.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A GraphQL query template compiled once into literal segments and parameter slots.
+ * Rendering appends the segments and arguments into a builder sized up front instead of
+ * parsing the format string on every call as {@link String#formatted(Object...)} does,
+ * and produces the same text for the {@code %s}, {@code %d} and {@code %b} conversions.
+ * Instances are immutable and safe to share between threads.
+ */
+public final class QueryTemplate {
+
+    private final String source;
+    private final String[] segments;
+    private final char[] slots;
+    private final int literalLength;
+
+    private QueryTemplate(final String source, final String[] segments, final char[] slots) {
+        this.source = source;
+        this.segments = segments;
+        this.slots = slots;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compiles a template using {@code %s}, {@code %d} and {@code %b} placeholders.
+     *
+     * @param template The template text
+     * @return The compiled template
+     * @throws IllegalArgumentException If the template holds any other conversion
+     */
+    public static QueryTemplate compile(final String template) {
+        Objects.requireNonNull(template, "Template cannot be null");
+        List<String> segments = new ArrayList<>();
+        StringBuilder slots = new StringBuilder();
+        int start = 0;
+        int index = template.indexOf('%');
+        while (index >= 0) {
+            if (index + 1 >= template.length() || "sdb".indexOf(template.charAt(index + 1)) < 0) {
+                throw new IllegalArgumentException("Unsupported conversion at index " + index + " of template");
+            }
+            segments.add(template.substring(start, index));
+            slots.append(template.charAt(index + 1));
+            start = index + 2;
+            index = template.indexOf('%', start);
+        }
+        segments.add(template.substring(start));
+        return new QueryTemplate(template, segments.toArray(new String[0]), slots.toString().toCharArray());
+    }
+
+    /**
+     * Renders the template with the given arguments.
+     *
+     * @param args One argument per parameter slot, in order
+     * @return The rendered query
+     * @throws IllegalArgumentException If the number of arguments does not match the slots
+     */
+    public String render(final Object... args) {
+        if (args.length != slots.length) {
+            throw new IllegalArgumentException("Expected " + slots.length + " arguments but got " + args.length);
+        }
+        if (slots.length == 0) {
+            return source;
+        }
+        String[] values = new String[args.length];
+        int length = literalLength;
+        for (int i = 0; i < args.length; i++) {
+            values[i] = convert(slots[i], args[i]);
+            length += values[i].length();
+        }
+
+        StringBuilder query = new StringBuilder(length).append(segments[0]);
+        for (int i = 0; i < values.length; i++) {
+            query.append(values[i]).append(segments[i + 1]);
+        }
+        return query.toString();
+    }
+
+    /**
+     * @return The number of parameter slots
+     */
+    public int parameterCount() {
+        return slots.length;
+    }
+
+    /**
+     * @return The template text this instance was compiled from
+     */
+    public String source() {
+        return source;
+    }
+
+    private static String convert(final char conversion, final Object arg) {
+        if (conversion == 'b') {
+            // Same rule as Formatter: null is false, a Boolean is itself, anything else is true
+            return String.valueOf(arg == null ? false : !(arg instanceof Boolean) || (Boolean) arg);
+        }
+        if (conversion == 'd' && arg != null && !(arg instanceof Integer || arg instanceof Long
+                || arg instanceof Short || arg instanceof Byte)) {
+            throw new IllegalArgumentException("%d expects an integral argument but got " + arg.getClass().getName());
+        }
+        return String.valueOf(arg);
+    }
+}
@@ -0,0 +1,18 @@
+package org.query;
+
+import java.util.Objects;
+
+/**
+ * One subitem to create, as sent in a batched mutation.
+ *
+ * @param parentItemId ID of the parent item
+ * @param itemName     Name of the new subitem
+ * @param columnValues JSON object text with the column values of the new subitem, or null for none
+ */
+public record SubitemCreation(String parentItemId, String itemName, String columnValues) {
+
+    public SubitemCreation {
+        Objects.requireNonNull(parentItemId, "Parent item ID cannot be null");
+        Objects.requireNonNull(itemName, "Item name cannot be null");
+    }
+}
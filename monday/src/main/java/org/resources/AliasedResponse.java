@@ -0,0 +1,69 @@
+package org.resources;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Response to a mutation made of aliased fields, split per alias. Errors whose path starts with
+ * one of the aliases belong to that alias; any other error belongs to the whole document.
+ */
+final class AliasedResponse {
+
+    private final JsonObject data;
+    private final Map<String, String> errors = new HashMap<>();
+    private final List<String> documentErrors = new ArrayList<>();
+
+    private AliasedResponse(final String body, final Set<String> aliases) {
+        JsonObject root = JsonParser.parseString(body).getAsJsonObject();
+        JsonArray errorList = root.has("errors") && root.get("errors").isJsonArray()
+                ? root.getAsJsonArray("errors")
+                : new JsonArray();
+        for (JsonElement element : errorList) {
+            JsonObject error = element.getAsJsonObject();
+            String message = error.has("message") ? error.get("message").getAsString() : error.toString();
+            JsonArray path = error.has("path") && error.get("path").isJsonArray() ? error.getAsJsonArray("path") : null;
+            if (path != null && !path.isEmpty() && aliases.contains(path.get(0).getAsString())) {
+                errors.merge(path.get(0).getAsString(), message, (a, b) -> a + "; " + b);
+            } else {
+                documentErrors.add(message);
+            }
+        }
+        this.data = root.has("data") && root.get("data").isJsonObject() ? root.getAsJsonObject("data") : null;
+    }
+
+    /**
+     * @param body    The response body
+     * @param aliases The aliases of the mutation's fields
+     * @return The response split per alias
+     */
+    static AliasedResponse parse(final String body, final Set<String> aliases) {
+        return new AliasedResponse(body, aliases);
+    }
+
+    /**
+     * @param alias   One of the aliases
+     * @param subject What the field changes, used in the error message, e.g. "Update of item 42"
+     * @return The field's value
+     * @throws IOException if the API reported an error for the alias, or returned no value for it
+     */
+    JsonObject field(final String alias, final String subject) throws IOException {
+        JsonElement field = data == null ? null : data.get(alias);
+        if (errors.containsKey(alias)) {
+            throw new IOException(subject + " failed: " + errors.get(alias));
+        }
+        if (field == null || !field.isJsonObject()) {
+            throw new IOException(subject + " failed: "
+                    + (documentErrors.isEmpty() ? "no data returned" : String.join("; ", documentErrors)));
+        }
+        return field.getAsJsonObject();
+    }
+}
@@ -2,16 +2,17 @@ package org.resources;
 
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
-import org.json.JSONObject;
+import org.http.ApiClient;
+import org.http.Priority;
+import org.http.ResponseDecoder;
+import org.query.QueryRequest;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Base resource class for handling common functionality across Monday.com API resources.
@@ -19,27 +20,33 @@ import java.util.Objects;
  */
 public class BaseResource {
 
-    private static final String API_BASE_URL = "https://api.monday.com/v2/";
-    private static final String CONTENT_TYPE_HEADER = "Content-Type";
-    private static final String CONTENT_TYPE_VALUE = "application/json";
-    private static final String AUTH_HEADER = "Authorization";
-
     private final Gson gson = new Gson();
     private final String token;
-    private final HttpClient client;
+    private final ApiClient apiClient;
 
     /**
-     * Creates a new BaseResource instance.
+     * Creates a new BaseResource instance backed by the process-wide {@link ApiClient#shared()} client.
      *
      * @param apiKey The API authentication token for Monday.com
      * @throws IllegalArgumentException if apiKey is null or empty
      */
     public BaseResource(final String apiKey) {
+        this(apiKey, ApiClient.shared());
+    }
+
+    /**
+     * Creates a new BaseResource instance that sends its requests through the given client.
+     *
+     * @param apiKey    The API authentication token for Monday.com
+     * @param apiClient The shared transport used to reach the API
+     * @throws IllegalArgumentException if apiKey is null or empty
+     */
+    public BaseResource(final String apiKey, final ApiClient apiClient) {
         if (Objects.isNull(apiKey) || apiKey.trim().isEmpty()) {
             throw new IllegalArgumentException("API key cannot be null or empty");
         }
         this.token = apiKey;
-        this.client = HttpClient.newHttpClient();
+        this.apiClient = Objects.requireNonNull(apiClient, "ApiClient cannot be null");
     }
 
     /**
@@ -52,20 +59,164 @@ public class BaseResource {
      * @throws IllegalArgumentException if the query is null or empty
      */
     public String get(final String query) throws IOException, InterruptedException {
-        if (Objects.isNull(query) || query.trim().isEmpty()) {
-            throw new IllegalArgumentException("Query cannot be null or empty");
-        }
+        return get(query, Priority.NORMAL);
+    }
 
-        JSONObject jsonPayload = new JSONObject().put("query", query);
+    /**
+     * Executes a GraphQL query against the Monday.com API with the given admission priority.
+     *
+     * @param query    The GraphQL query to execute
+     * @param priority Order in which the query is admitted while waiting for complexity budget
+     * @return Returns body response as string
+     * @throws IOException              if an I/O error occurs when sending or receiving
+     * @throws InterruptedException     if the operation is interrupted
+     * @throws IllegalArgumentException if the query is null or empty
+     */
+    public String get(final String query, final Priority priority) throws IOException, InterruptedException {
+        requireQuery(query);
+        return apiClient.send(token, query, priority);
+    }
 
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(API_BASE_URL))
-                .header(CONTENT_TYPE_HEADER, CONTENT_TYPE_VALUE)
-                .header(AUTH_HEADER, "Bearer " + token)
-                .POST(HttpRequest.BodyPublishers.ofString(jsonPayload.toString()))
-                .build();
+    /**
+     * Executes a GraphQL query against the Monday.com API without blocking the calling thread.
+     *
+     * @param query The GraphQL query to execute
+     * @return A future completing with the body response as string
+     * @throws IllegalArgumentException if the query is null or empty
+     */
+    public CompletableFuture<String> getAsync(final String query) {
+        return getAsync(query, Priority.NORMAL);
+    }
+
+    /**
+     * Executes a GraphQL query against the Monday.com API without blocking the calling thread,
+     * with the given admission priority.
+     *
+     * @param query    The GraphQL query to execute
+     * @param priority Order in which the query is admitted while waiting for complexity budget
+     * @return A future completing with the body response as string
+     * @throws IllegalArgumentException if the query is null or empty
+     */
+    public CompletableFuture<String> getAsync(final String query, final Priority priority) {
+        requireQuery(query);
+        return apiClient.sendAsync(token, query, priority);
+    }
 
-        return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    /**
+     * Executes a GraphQL query and decodes the response while it is being received,
+     * without materialising the whole body first.
+     *
+     * @param query   The GraphQL query to execute
+     * @param decoder Decoder for the body of the response, see {@link org.models.Responses}
+     * @param <T>     Type of the decoded result
+     * @return The decoded response
+     * @throws IOException              if an I/O error occurs, or the response carries errors instead of data
+     * @throws InterruptedException     if the operation is interrupted
+     * @throws IllegalArgumentException if the query is null or empty
+     */
+    public <T> T get(final String query, final ResponseDecoder<T> decoder) throws IOException, InterruptedException {
+        requireQuery(query);
+        return apiClient.send(token, query, Priority.NORMAL, decoder);
+    }
+
+    /**
+     * Executes a GraphQL query without blocking the calling thread and decodes the response
+     * while it is being received.
+     *
+     * @param query   The GraphQL query to execute
+     * @param decoder Decoder for the body of the response, see {@link org.models.Responses}
+     * @param <T>     Type of the decoded result
+     * @return A future completing with the decoded response
+     * @throws IllegalArgumentException if the query is null or empty
+     */
+    public <T> CompletableFuture<T> getAsync(final String query, final ResponseDecoder<T> decoder) {
+        requireQuery(query);
+        return apiClient.sendAsync(token, query, Priority.NORMAL, decoder);
+    }
+
+    /**
+     * Executes a GraphQL request with its variables against the Monday.com API.
+     *
+     * @param request The GraphQL document and variables to send
+     * @return Returns body response as string
+     * @throws IOException              if an I/O error occurs when sending or receiving
+     * @throws InterruptedException     if the operation is interrupted
+     * @throws IllegalArgumentException if the request is null or its query is empty
+     */
+    public String get(final QueryRequest request) throws IOException, InterruptedException {
+        return get(request, Priority.NORMAL);
+    }
+
+    /**
+     * Executes a GraphQL request with its variables against the Monday.com API with the given admission priority.
+     *
+     * @param request  The GraphQL document and variables to send
+     * @param priority Order in which the request is admitted while waiting for complexity budget
+     * @return Returns body response as string
+     * @throws IOException              if an I/O error occurs when sending or receiving
+     * @throws InterruptedException     if the operation is interrupted
+     * @throws IllegalArgumentException if the request is null or its query is empty
+     */
+    public String get(final QueryRequest request, final Priority priority) throws IOException, InterruptedException {
+        requireRequest(request);
+        return apiClient.send(token, request, priority);
+    }
+
+    /**
+     * Executes a GraphQL request with its variables without blocking the calling thread.
+     *
+     * @param request The GraphQL document and variables to send
+     * @return A future completing with the body response as string
+     * @throws IllegalArgumentException if the request is null or its query is empty
+     */
+    public CompletableFuture<String> getAsync(final QueryRequest request) {
+        return getAsync(request, Priority.NORMAL);
+    }
+
+    /**
+     * Executes a GraphQL request with its variables without blocking the calling thread,
+     * with the given admission priority.
+     *
+     * @param request  The GraphQL document and variables to send
+     * @param priority Order in which the request is admitted while waiting for complexity budget
+     * @return A future completing with the body response as string
+     * @throws IllegalArgumentException if the request is null or its query is empty
+     */
+    public CompletableFuture<String> getAsync(final QueryRequest request, final Priority priority) {
+        requireRequest(request);
+        return apiClient.sendAsync(token, request, priority);
+    }
+
+    /**
+     * Executes a GraphQL request with its variables and decodes the response while it is being received.
+     *
+     * @param request The GraphQL document and variables to send
+     * @param decoder Decoder for the body of the response, see {@link org.models.Responses}
+     * @param <T>     Type of the decoded result
+     * @return The decoded response
+     * @throws IOException              if an I/O error occurs, or the response carries errors instead of data
+     * @throws InterruptedException     if the operation is interrupted
+     * @throws IllegalArgumentException if the request is null or its query is empty
+     */
+    public <T> T get(final QueryRequest request, final ResponseDecoder<T> decoder)
+            throws IOException, InterruptedException {
+        requireRequest(request);
+        return apiClient.send(token, request, Priority.NORMAL, decoder);
+    }
+
+    /**
+     * Executes a GraphQL request with its variables without blocking the calling thread and decodes
+     * the response while it is being received.
+     *
+     * @param request The GraphQL document and variables to send
+     * @param decoder Decoder for the body of the response, see {@link org.models.Responses}
+     * @param <T>     Type of the decoded result
+     * @return A future completing with the decoded response
+     * @throws IllegalArgumentException if the request is null or its query is empty
+     */
+    public <T> CompletableFuture<T> getAsync(final QueryRequest request, final ResponseDecoder<T> decoder) {
+        requireRequest(request);
+        return apiClient.sendAsync(token, request, Priority.NORMAL, decoder);
     }
 
     /**
@@ -84,6 +235,18 @@ public class BaseResource {
         return gson.toJson(jsonObject).replace("/", "//");
     }
 
+    /**
+     * Converts a map to JSON object text, as passed in a {@code JSON} variable.
+     *
+     * @param map Map of column IDs to their values
+     * @return JSON object text representing the map
+     * @throws NullPointerException if the map is null
+     */
+    protected String mapToJson(final Map<String, String> map) {
+        Objects.requireNonNull(map, "Map cannot be null");
+        return gson.toJson(map);
+    }
+
     /**
      * Converts a string to its JSON representation.
      *
@@ -95,4 +258,17 @@ public class BaseResource {
         Objects.requireNonNull(stringInput, "Input string cannot be null");
         return gson.toJson(stringInput);
     }
-}
\ No newline at end of file
+
+    private static void requireQuery(final String query) {
+        if (Objects.isNull(query) || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("Query cannot be null or empty");
+        }
+    }
+
+    private static void requireRequest(final QueryRequest request) {
+        if (Objects.isNull(request)) {
+            throw new IllegalArgumentException("Request cannot be null");
+        }
+        requireQuery(request.query());
+    }
+}
@@ -0,0 +1,109 @@
+package org.resources;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The flush timer, requests on the wire and shutdown shared by the classes collecting calls for a short window
+ * before sending them together: {@link BatchWriter}, {@link IdBatcher} and {@link WriteBehindBuffer}.
+ * <p>
+ * Owners check {@link #requireOpen()} under the lock guarding their pending calls, so that every call accepted
+ * before {@link #close(Runnable)} is flushed by it.
+ */
+final class BatchWindow {
+
+    private final String owner;
+    private final ScheduledExecutorService scheduler;
+    private final Set<CompletableFuture<Void>> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * @param owner      Name of the owning class, for the error of calls made after closing
+     * @param threadName Name of the daemon thread running the flush timer
+     */
+    BatchWindow(final String owner, final String threadName) {
+        this.owner = owner;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @throws IllegalStateException if the window has been closed
+     */
+    void requireOpen() {
+        if (closed.get()) {
+            throw new IllegalStateException(owner + " has been closed");
+        }
+    }
+
+    ScheduledFuture<?> schedule(final Runnable flush, final Duration delay) {
+        return scheduler.schedule(flush, delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Starts a batch request and tracks it until it completes.
+     *
+     * @param request    Starts the request, completing once its callers have been answered
+     * @param onRejected Fails the callers of the batch when the request could not even be started
+     * @return The tracked request, or a failed future if it could not be started
+     */
+    CompletableFuture<Void> send(
+            final Supplier<CompletableFuture<Void>> request,
+            final Consumer<RuntimeException> onRejected) {
+        return track(start(request, onRejected));
+    }
+
+    /**
+     * Tracks a request, or a chain of requests, so that {@link #close(Runnable)} waits for it.
+     *
+     * @return The request
+     */
+    CompletableFuture<Void> track(final CompletableFuture<Void> sent) {
+        inFlight.add(sent);
+        sent.whenComplete((ignored, error) -> inFlight.remove(sent));
+        return sent;
+    }
+
+    /**
+     * @return The started request, or a failed future after failing the callers if it could not be started
+     */
+    static CompletableFuture<Void> start(
+            final Supplier<CompletableFuture<Void>> request,
+            final Consumer<RuntimeException> onRejected) {
+        try {
+            return request.get();
+        } catch (RuntimeException e) {
+            onRejected.accept(e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Flushes the pending calls, waits for every request still on the wire and stops the flush timer.
+     * Only the first call has any effect.
+     *
+     * @param flush Sends the owner's pending calls
+     */
+    void close(final Runnable flush) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        flush.run();
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                .exceptionally(error -> null)
+                .join();
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,246 @@
+package org.resources;
+
+import org.query.ColumnValuesUpdate;
+import org.query.QueryJoins;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Packs many {@code change_multiple_column_values} mutations into one GraphQL document.
+ * <p>
+ * Each update becomes an aliased field ({@code u1: change_multiple_column_values(...)}, {@code u2: ...})
+ * of a single mutation. A batch is sent when it reaches {@link Builder#maxBatchSize(int)}, when adding
+ * another update would exceed {@link Builder#maxComplexity(int)}, or when {@link Builder#flushInterval(Duration)}
+ * has elapsed since its first update. Every caller receives a future completing with its own field of the
+ * response, or failing with the error the API reported for that alias.
+ */
+public final class BatchWriter implements AutoCloseable {
+
+    private final BaseResource resource;
+    private final int maxBatchSize;
+    private final int maxComplexity;
+    private final int complexityPerMutation;
+    private final Duration flushInterval;
+    private final BatchWindow window = new BatchWindow("BatchWriter", "monday-batch-writer");
+
+    private final Object lock = new Object();
+    private List<PendingUpdate> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    private BatchWriter(final Builder builder) {
+        this.resource = builder.resource;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.maxComplexity = builder.maxComplexity;
+        this.complexityPerMutation = builder.complexityPerMutation;
+        this.flushInterval = builder.flushInterval;
+    }
+
+    /**
+     * Creates a builder for a BatchWriter sending its batches through the given resource.
+     *
+     * @param resource Resource whose token and client are used for the batched requests
+     * @return A builder pre-populated with the default configuration
+     */
+    public static Builder newBuilder(final BaseResource resource) {
+        return new Builder(resource);
+    }
+
+    /**
+     * Queues an update of multiple column values for one item.
+     *
+     * @param boardId      ID of the board containing the item
+     * @param itemId       ID of the item to update
+     * @param columnValues JSON-formatted string containing the column IDs and their corresponding new values.
+     * @return A future completing with this update's part of the response as a JSON string
+     * @throws IllegalStateException if the writer has been closed
+     */
+    public CompletableFuture<String> changeMultiplesColumnValues(
+            final String boardId,
+            final String itemId,
+            final String columnValues) {
+        Objects.requireNonNull(boardId, "Board ID cannot be null");
+        Objects.requireNonNull(itemId, "Item ID cannot be null");
+        Objects.requireNonNull(columnValues, "Column values cannot be null");
+
+        PendingUpdate update = new PendingUpdate(new ColumnValuesUpdate(boardId, itemId, columnValues));
+        List<List<PendingUpdate>> ready = new ArrayList<>(2);
+        synchronized (lock) {
+            window.requireOpen();
+            if (!pending.isEmpty() && (long) (pending.size() + 1) * complexityPerMutation > maxComplexity) {
+                ready.add(drainPending());
+            }
+            pending.add(update);
+            if (pending.size() >= maxBatchSize || (long) pending.size() * complexityPerMutation >= maxComplexity) {
+                ready.add(drainPending());
+            } else if (scheduledFlush == null) {
+                scheduledFlush = window.schedule(this::flush, flushInterval);
+            }
+        }
+        ready.forEach(this::send);
+        return update.result;
+    }
+
+    /**
+     * Sends the pending updates now, without waiting for the batch to fill up.
+     *
+     * @return A future completing once the flushed batch has been answered
+     */
+    public CompletableFuture<Void> flush() {
+        List<PendingUpdate> ready;
+        synchronized (lock) {
+            ready = drainPending();
+        }
+        return ready.isEmpty() ? CompletableFuture.completedFuture(null) : send(ready);
+    }
+
+    /**
+     * @return Number of updates waiting to be sent
+     */
+    public int pendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Flushes the pending updates, waits for every batch still on the wire and stops the flush timer.
+     */
+    @Override
+    public void close() {
+        window.close(this::flush);
+    }
+
+    private List<PendingUpdate> drainPending() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<PendingUpdate> ready = pending;
+        pending = new ArrayList<>();
+        return ready;
+    }
+
+    private CompletableFuture<Void> send(final List<PendingUpdate> batch) {
+        List<ColumnValuesUpdate> changes = new ArrayList<>(batch.size());
+        Map<String, PendingUpdate> byAlias = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            PendingUpdate update = batch.get(i);
+            byAlias.put("u" + (i + 1), update);
+            changes.add(update.change);
+        }
+
+        return window.send(() -> resource.getAsync(QueryJoins.batchUpdateMultiplesColumnValuesRequest(changes))
+                        .thenAccept(body -> complete(byAlias, body))
+                        .whenComplete((ignored, error) -> {
+                            if (error != null) {
+                                byAlias.values().forEach(update -> update.result.completeExceptionally(error));
+                            }
+                        }),
+                e -> byAlias.values().forEach(update -> update.result.completeExceptionally(e)));
+    }
+
+    private static void complete(final Map<String, PendingUpdate> byAlias, final String body) {
+        AliasedResponse response = AliasedResponse.parse(body, byAlias.keySet());
+        for (Map.Entry<String, PendingUpdate> entry : byAlias.entrySet()) {
+            PendingUpdate update = entry.getValue();
+            try {
+                update.result.complete(response.field(entry.getKey(), "Update of item " + update.change.itemId())
+                        .toString());
+            } catch (IOException e) {
+                update.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class PendingUpdate {
+        private final ColumnValuesUpdate change;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+
+        private PendingUpdate(final ColumnValuesUpdate change) {
+            this.change = change;
+        }
+    }
+
+    /**
+     * Builder for {@link BatchWriter} instances.
+     */
+    public static final class Builder {
+
+        private final BaseResource resource;
+        private int maxBatchSize = 50;
+        private int maxComplexity = 1_000_000;
+        private int complexityPerMutation = 10_000;
+        private Duration flushInterval = Duration.ofMillis(200);
+
+        private Builder(final BaseResource resource) {
+            this.resource = Objects.requireNonNull(resource, "Resource cannot be null");
+        }
+
+        /**
+         * @param maxBatchSize Number of updates that triggers an immediate flush, defaults to 50
+         * @return This builder
+         * @throws IllegalArgumentException if maxBatchSize is lower than 1
+         */
+        public Builder maxBatchSize(final int maxBatchSize) {
+            if (maxBatchSize < 1) {
+                throw new IllegalArgumentException("Max batch size must be at least 1");
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * @param maxComplexity Complexity budget of one batched request, defaults to 1,000,000
+         * @return This builder
+         * @throws IllegalArgumentException if maxComplexity is lower than 1
+         */
+        public Builder maxComplexity(final int maxComplexity) {
+            if (maxComplexity < 1) {
+                throw new IllegalArgumentException("Max complexity must be at least 1");
+            }
+            this.maxComplexity = maxComplexity;
+            return this;
+        }
+
+        /**
+         * @param complexityPerMutation Estimated complexity of one update, defaults to 10,000
+         * @return This builder
+         * @throws IllegalArgumentException if complexityPerMutation is lower than 1
+         */
+        public Builder complexityPerMutation(final int complexityPerMutation) {
+            if (complexityPerMutation < 1) {
+                throw new IllegalArgumentException("Complexity per mutation must be at least 1");
+            }
+            this.complexityPerMutation = complexityPerMutation;
+            return this;
+        }
+
+        /**
+         * @param flushInterval Longest time an update waits for its batch to fill up, defaults to 200ms
+         * @return This builder
+         */
+        public Builder flushInterval(final Duration flushInterval) {
+            Objects.requireNonNull(flushInterval, "Flush interval cannot be null");
+            if (flushInterval.isNegative() || flushInterval.isZero()) {
+                throw new IllegalArgumentException("Flush interval must be positive");
+            }
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * @return A new BatchWriter
+         */
+        public BatchWriter build() {
+            return new BatchWriter(this);
+        }
+    }
+}
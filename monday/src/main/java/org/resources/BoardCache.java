@@ -0,0 +1,369 @@
+package org.resources;
+
+import org.models.Board;
+import org.models.Responses;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * In-process read-through cache of board metadata (columns, groups, tags and settings), keyed by board id.
+ * <p>
+ * Entries expire a fixed time after they were loaded and are evicted in least-recently-used order once
+ * the cache holds more than {@link Builder#maximumEntries(int)} boards or more than
+ * {@link Builder#maximumBytes(long)} of estimated memory. Concurrent misses for the same board share one
+ * request. Only successful responses are cached; a response carrying errors fails every caller waiting
+ * for it and leaves nothing behind.
+ * <p>
+ * Share one cache between the {@link BoardResource} reading boards and the {@link ColumnsResource}
+ * changing them, so that creating a column invalidates the board it was added to:
+ * <pre>
+ * {@code
+ * BoardCache cache = BoardCache.newBuilder().expireAfterWrite(Duration.ofMinutes(5)).build();
+ * BoardResource boards = new BoardResource(token, apiClient, cache);
+ * ColumnsResource columns = new ColumnsResource(token, apiClient, cache);
+ * }
+ * </pre>
+ * Boards changed by other clients are seen again once their entry expires.
+ */
+public final class BoardCache {
+
+    private final int maximumEntries;
+    private final long maximumBytes;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+    private final BoardCacheStats stats = new BoardCacheStats();
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<Value>> loading = new HashMap<>();
+    private long weight;
+
+    private BoardCache(final Builder builder) {
+        this.maximumEntries = builder.maximumEntries;
+        this.maximumBytes = builder.maximumBytes;
+        this.expireAfterWriteNanos = builder.expireAfterWrite.toNanos();
+        this.ticker = builder.ticker;
+    }
+
+    /**
+     * @return A builder pre-populated with the default configuration
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Drops the cached metadata of a board, and detaches any load in flight for it so that
+     * its result is not stored.
+     *
+     * @param boardId The ID of the board whose metadata changed
+     */
+    public void invalidate(final String boardId) {
+        synchronized (lock) {
+            Entry entry = entries.remove(boardId);
+            if (entry != null) {
+                weight -= entry.weight;
+            }
+            loading.remove(boardId);
+        }
+    }
+
+    /**
+     * Drops every cached board.
+     */
+    public void invalidateAll() {
+        synchronized (lock) {
+            entries.clear();
+            loading.clear();
+            weight = 0;
+        }
+    }
+
+    /**
+     * @return Number of boards currently cached, including expired ones not looked up since
+     */
+    public int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return Estimated memory held by the cached boards, in bytes
+     */
+    public long weightBytes() {
+        synchronized (lock) {
+            return weight;
+        }
+    }
+
+    /**
+     * @return Hit, miss and eviction counters of this cache
+     */
+    public BoardCacheStats stats() {
+        return stats;
+    }
+
+    /**
+     * Returns the cached metadata of a board, loading it on the calling thread on a miss
+     * unless another caller is already loading it.
+     */
+    Value get(final String boardId, final Loader loader) throws IOException, InterruptedException {
+        CompletableFuture<Value> load;
+        boolean owner;
+        synchronized (lock) {
+            Value cached = lookup(boardId);
+            if (cached != null) {
+                return cached;
+            }
+            load = loading.get(boardId);
+            owner = load == null;
+            if (owner) {
+                load = new CompletableFuture<>();
+                loading.put(boardId, load);
+            }
+        }
+        if (!owner) {
+            // Outside the lock: the owner needs it to complete the load
+            return await(load);
+        }
+        try {
+            Value value = Value.of(loader.load());
+            store(boardId, load, value);
+            load.complete(value);
+            return value;
+        } catch (Throwable failure) {
+            abandon(boardId, load);
+            load.completeExceptionally(failure);
+            throw failure;
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #get}: on a miss the loader's request is started,
+     * unless another caller is already loading the board.
+     */
+    CompletableFuture<Value> getAsync(final String boardId, final Supplier<CompletableFuture<String>> loader) {
+        CompletableFuture<Value> load;
+        synchronized (lock) {
+            Value cached = lookup(boardId);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+            load = loading.get(boardId);
+            if (load != null) {
+                return load.copy();
+            }
+            load = new CompletableFuture<>();
+            loading.put(boardId, load);
+        }
+        CompletableFuture<Value> owned = load;
+        CompletableFuture<String> response;
+        try {
+            response = loader.get();
+        } catch (RuntimeException failure) {
+            abandon(boardId, owned);
+            owned.completeExceptionally(failure);
+            return owned.copy();
+        }
+        response.whenComplete((body, failure) -> {
+            if (failure != null) {
+                abandon(boardId, owned);
+                owned.completeExceptionally(failure);
+                return;
+            }
+            try {
+                Value value = Value.of(body);
+                store(boardId, owned, value);
+                owned.complete(value);
+            } catch (IOException | RuntimeException decodeFailure) {
+                abandon(boardId, owned);
+                owned.completeExceptionally(decodeFailure);
+            }
+        });
+        return owned.copy();
+    }
+
+    private Value lookup(final String boardId) {
+        Entry entry = entries.get(boardId);
+        if (entry == null) {
+            stats.recordMiss();
+            return null;
+        }
+        if (ticker.getAsLong() - entry.expiresAt >= 0) {
+            entries.remove(boardId);
+            weight -= entry.weight;
+            stats.recordEviction();
+            stats.recordMiss();
+            return null;
+        }
+        stats.recordHit();
+        return entry.value;
+    }
+
+    private void store(final String boardId, final CompletableFuture<Value> load, final Value value) {
+        synchronized (lock) {
+            if (!loading.remove(boardId, load)) {
+                return;
+            }
+            Entry entry = new Entry(value, value.weight(), ticker.getAsLong() + expireAfterWriteNanos);
+            Entry previous = entries.put(boardId, entry);
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            weight += entry.weight;
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (eldest.hasNext() && (entries.size() > maximumEntries || weight > maximumBytes)) {
+                weight -= eldest.next().weight;
+                eldest.remove();
+                stats.recordEviction();
+            }
+        }
+    }
+
+    private void abandon(final String boardId, final CompletableFuture<Value> load) {
+        synchronized (lock) {
+            loading.remove(boardId, load);
+        }
+    }
+
+    private static Value await(final CompletableFuture<Value> load) throws IOException, InterruptedException {
+        try {
+            return load.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException("Loading the board failed", cause);
+        }
+    }
+
+    /**
+     * Sends the request for a board's metadata and returns the response body.
+     */
+    @FunctionalInterface
+    interface Loader {
+        String load() throws IOException, InterruptedException;
+    }
+
+    /**
+     * A cached response: the body as returned by the API and the board decoded from it.
+     *
+     * @param body  The response body as a JSON string
+     * @param board The decoded board, or empty if no such board is visible
+     */
+    record Value(String body, Optional<Board> board) {
+
+        /**
+         * @throws IOException If the response cannot be decoded or carries errors instead of data
+         */
+        static Value of(final String body) throws IOException {
+            Optional<Board> board = Responses.boards()
+                    .decode(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)))
+                    .stream()
+                    .findFirst();
+            return new Value(body, board);
+        }
+
+        /**
+         * Estimated footprint: the body's characters, and about as much again for the decoded board.
+         */
+        long weight() {
+            return 4L * body.length();
+        }
+    }
+
+    private record Entry(Value value, long weight, long expiresAt) {
+    }
+
+    /**
+     * Builder for {@link BoardCache} instances.
+     */
+    public static final class Builder {
+
+        private int maximumEntries = 1_000;
+        private long maximumBytes = 64L * 1024 * 1024;
+        private Duration expireAfterWrite = Duration.ofMinutes(5);
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * @param maximumEntries Largest number of boards kept, defaults to 1,000
+         * @return This builder
+         * @throws IllegalArgumentException if maximumEntries is lower than 1
+         */
+        public Builder maximumEntries(final int maximumEntries) {
+            if (maximumEntries < 1) {
+                throw new IllegalArgumentException("Maximum entries must be at least 1");
+            }
+            this.maximumEntries = maximumEntries;
+            return this;
+        }
+
+        /**
+         * @param maximumBytes Largest estimated memory held by the cached boards, defaults to 64 MiB
+         * @return This builder
+         * @throws IllegalArgumentException if maximumBytes is lower than 1
+         */
+        public Builder maximumBytes(final long maximumBytes) {
+            if (maximumBytes < 1) {
+                throw new IllegalArgumentException("Maximum bytes must be at least 1");
+            }
+            this.maximumBytes = maximumBytes;
+            return this;
+        }
+
+        /**
+         * @param expireAfterWrite Time after which a loaded board is fetched again, defaults to 5 minutes
+         * @return This builder
+         * @throws IllegalArgumentException if expireAfterWrite is not positive
+         */
+        public Builder expireAfterWrite(final Duration expireAfterWrite) {
+            Objects.requireNonNull(expireAfterWrite, "Expiry cannot be null");
+            if (expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+                throw new IllegalArgumentException("Expiry must be positive");
+            }
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        /**
+         * @param ticker Source of nanosecond timestamps, for tests
+         * @return This builder
+         */
+        Builder ticker(final LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker, "Ticker cannot be null");
+            return this;
+        }
+
+        /**
+         * @return A new BoardCache
+         */
+        public BoardCache build() {
+            return new BoardCache(this);
+        }
+    }
+}
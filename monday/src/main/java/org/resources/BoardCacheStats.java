@@ -0,0 +1,49 @@
+package org.resources;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters maintained by a {@link BoardCache}.
+ */
+public final class BoardCacheStats {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    BoardCacheStats() {
+    }
+
+    /**
+     * @return Number of lookups answered from the cache
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Number of lookups that found no live entry, including those that joined a load already in flight
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return Number of entries dropped to stay within the size bounds or because they expired
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+}
@@ -0,0 +1,134 @@
+package org.resources;
+
+import com.google.gson.stream.JsonWriter;
+import org.models.Column;
+import org.models.ColumnValue;
+import org.models.Item;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes items as rows of an {@link ExportFormat}, one column per board column in board order.
+ * Output is buffered and only flushed by {@link #finish()}; the underlying stream is never closed.
+ */
+final class BoardExportWriter {
+
+    private static final String NAME_COLUMN = "name";
+
+    private final ExportFormat format;
+    private final List<Column> columns;
+    private final Writer out;
+    private final Map<String, ColumnValue> values = new HashMap<>();
+
+    /**
+     * @param columns The board's columns; its {@code name} column is written from the item's name
+     */
+    BoardExportWriter(final ExportFormat format, final List<Column> columns, final OutputStream out) {
+        this.format = format;
+        this.columns = new ArrayList<>(columns.size());
+        for (Column column : columns) {
+            if (!NAME_COLUMN.equals(column.id())) {
+                this.columns.add(column);
+            }
+        }
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    /**
+     * Writes the CSV header row; NDJSON has none.
+     */
+    void header() throws IOException {
+        if (format == ExportFormat.CSV) {
+            List<String> titles = new ArrayList<>(columns.size() + 3);
+            titles.add("ID");
+            titles.add("Name");
+            titles.add("Group");
+            for (Column column : columns) {
+                titles.add(column.title() != null ? column.title() : column.id());
+            }
+            writeCsvRow(titles);
+        }
+    }
+
+    void write(final Item item) throws IOException {
+        values.clear();
+        for (ColumnValue columnValue : item.columnValues()) {
+            values.put(columnValue.id(), columnValue);
+        }
+        String group = item.group() == null ? null : item.group().title();
+        if (format == ExportFormat.CSV) {
+            List<String> row = new ArrayList<>(columns.size() + 3);
+            row.add(item.id());
+            row.add(item.name());
+            row.add(group);
+            for (Column column : columns) {
+                ColumnValue value = values.get(column.id());
+                row.add(value == null ? null : value.text());
+            }
+            writeCsvRow(row);
+        } else {
+            JsonWriter json = new JsonWriter(out);
+            json.beginObject();
+            json.name("id").value(item.id());
+            json.name("name").value(item.name());
+            json.name("group").value(group);
+            json.name("column_values").beginObject();
+            for (Column column : columns) {
+                ColumnValue value = values.get(column.id());
+                json.name(column.id());
+                if (value == null) {
+                    json.nullValue();
+                } else {
+                    json.beginObject();
+                    json.name("text").value(value.text());
+                    json.name("value").value(value.value());
+                    json.endObject();
+                }
+            }
+            json.endObject();
+            json.endObject();
+            out.write('\n');
+        }
+    }
+
+    void finish() throws IOException {
+        out.flush();
+    }
+
+    private void writeCsvRow(final List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeCsvField(fields.get(i));
+        }
+        out.write("\r\n");
+    }
+
+    private void writeCsvField(final String field) throws IOException {
+        if (field == null) {
+            return;
+        }
+        boolean quoted = false;
+        for (int i = 0; i < field.length() && !quoted; i++) {
+            char c = field.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quoted) {
+            out.write(field);
+            return;
+        }
+        out.write('"');
+        out.write(field.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
@@ -1,8 +1,32 @@
 package org.resources;
 
+import org.http.ApiClient;
+import org.models.Board;
+import org.models.Item;
+import org.models.ItemsPage;
+import org.models.Responses;
+import org.query.ItemProjection;
 import org.query.QueryJoins;
+import org.query.QueryRequest;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
@@ -11,12 +35,39 @@ import java.io.IOException;
  */
 public class BoardResource extends BaseResource {
 
+    /**
+     * Largest page size accepted by {@code items_page}.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final BoardCache cache;
+
     public BoardResource(String apiKey) {
         super(apiKey);
+        this.cache = null;
+    }
+
+    public BoardResource(String apiKey, ApiClient apiClient) {
+        super(apiKey, apiClient);
+        this.cache = null;
+    }
+
+    /**
+     * Creates a BoardResource whose board lookups read through the given cache.
+     * With a cache, a board response carrying errors fails with an exception instead of being returned.
+     *
+     * @param apiKey    The API authentication token for Monday.com
+     * @param apiClient The shared transport used to reach the API
+     * @param cache     Cache of board metadata, shared with the {@link ColumnsResource} changing the boards
+     */
+    public BoardResource(String apiKey, ApiClient apiClient, BoardCache cache) {
+        super(apiKey, apiClient);
+        this.cache = Objects.requireNonNull(cache, "BoardCache cannot be null");
     }
 
     /**
      * Fetches the details of a board from the Monday.com API using its ID.
+     * Answered from the {@link BoardCache} when this resource has one.
      *
      * @param boardId The ID of the board to be fetched.
      * @return A JSON string containing the board details, including its columns, groups, and tags.
@@ -25,7 +76,24 @@ public class BoardResource extends BaseResource {
      */
     public String fetchBoardById(String boardId)
             throws IOException, InterruptedException {
-        return get(QueryJoins.fetchBoardByIdQuery(boardId));
+        if (cache == null) {
+            return get(QueryJoins.fetchBoardByIdRequest(boardId));
+        }
+        return cached(boardId).body();
+    }
+
+    /**
+     * Asynchronous variant of {@link #fetchBoardById}.
+     *
+     * @param boardId The ID of the board to be fetched.
+     * @return A future completing with the API response as a JSON string
+     */
+    public CompletableFuture<String> fetchBoardByIdAsync(String boardId) {
+        if (cache == null) {
+            return getAsync(QueryJoins.fetchBoardByIdRequest(boardId));
+        }
+        return cache.getAsync(boardId, () -> getAsync(QueryJoins.fetchBoardByIdRequest(boardId)))
+                .thenApply(BoardCache.Value::body);
     }
 
     /**
@@ -38,6 +106,191 @@ public class BoardResource extends BaseResource {
      */
     public String fetchItemsByBoardId(String boardId)
             throws IOException, InterruptedException {
-        return get(QueryJoins.fetchBoardItemsQuery(boardId));
+        return get(QueryJoins.fetchBoardItemsRequest(boardId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #fetchItemsByBoardId}.
+     *
+     * @param boardId The ID of the board whose items are to be fetched.
+     * @return A future completing with the API response as a JSON string
+     */
+    public CompletableFuture<String> fetchItemsByBoardIdAsync(String boardId) {
+        return getAsync(QueryJoins.fetchBoardItemsRequest(boardId));
+    }
+
+    /**
+     * Fetches a board and decodes it straight from the response stream.
+     * Answered from the {@link BoardCache} when this resource has one.
+     *
+     * @param boardId The ID of the board to be fetched.
+     * @return The board with its tags, groups and columns, or empty if no such board is visible.
+     * @throws IOException If an input or output exception occurs, or the API reports errors.
+     * @throws InterruptedException If the HTTP request is interrupted.
+     */
+    public Optional<Board> fetchBoard(String boardId)
+            throws IOException, InterruptedException {
+        if (cache == null) {
+            return get(QueryJoins.fetchBoardByIdRequest(boardId), Responses.boards()).stream().findFirst();
+        }
+        return cached(boardId).board();
+    }
+
+    /**
+     * Fetches the first page of a board's items and decodes it straight from the response stream.
+     *
+     * @param boardId The ID of the board whose items are to be fetched.
+     * @return The items of the first page, with their groups and column values.
+     * @throws IOException If an input or output exception occurs, or the API reports errors.
+     * @throws InterruptedException If the HTTP request is interrupted.
+     */
+    public List<Item> fetchBoardItems(String boardId)
+            throws IOException, InterruptedException {
+        return get(QueryJoins.fetchBoardItemsRequest(boardId), Responses.boardItemsPage()).items();
+    }
+
+    /**
+     * Streams every item of a board, following {@code next_items_page} cursors lazily.
+     * The next page is requested while the current one is being consumed, and only the
+     * current and the next page are held in memory. Each page is decoded straight from
+     * the response stream. Close the stream to stop an unfinished traversal; request
+     * failures surface as {@link UncheckedIOException}.
+     *
+     * @param boardId The ID of the board whose items are streamed.
+     * @return A sequential stream of items, each with its group and column values.
+     */
+    public Stream<Item> streamItemsByBoardId(String boardId) {
+        return streamItemsByBoardId(boardId, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Streams every item of a board, following {@code next_items_page} cursors lazily.
+     *
+     * @param boardId  The ID of the board whose items are streamed.
+     * @param pageSize Number of items requested per page, between 1 and {@link #MAX_PAGE_SIZE}.
+     * @return A sequential stream of items, each with its group and column values.
+     * @throws IllegalArgumentException If the page size is out of range.
+     */
+    public Stream<Item> streamItemsByBoardId(String boardId, int pageSize) {
+        Objects.requireNonNull(boardId, "Board ID cannot be null");
+        requirePageSize(pageSize);
+        return streamPages(QueryJoins.fetchBoardItemsPageRequest(boardId, pageSize),
+                cursor -> QueryJoins.nextItemsPageRequest(cursor, pageSize));
+    }
+
+    /**
+     * Streams every item of a board like {@link #streamItemsByBoardId(String, int)}, fetching only
+     * the fields of the projection. Fields left out are null or empty in the streamed items.
+     *
+     * @param boardId    The ID of the board whose items are streamed.
+     * @param pageSize   Number of items requested per page, between 1 and {@link #MAX_PAGE_SIZE}.
+     * @param projection The fields of each item to fetch.
+     * @return A sequential stream of items holding the projected fields.
+     * @throws IllegalArgumentException If the page size is out of range.
+     */
+    public Stream<Item> streamItemsByBoardId(String boardId, int pageSize, ItemProjection projection) {
+        Objects.requireNonNull(boardId, "Board ID cannot be null");
+        Objects.requireNonNull(projection, "Projection cannot be null");
+        requirePageSize(pageSize);
+        return streamPages(QueryJoins.fetchBoardItemsPageRequest(boardId, pageSize, projection),
+                cursor -> QueryJoins.nextItemsPageRequest(cursor, pageSize, projection));
+    }
+
+    /**
+     * Streams the items of a board updated on or after the UTC day of the given instant, following
+     * {@code next_items_page} cursors lazily like {@link #streamItemsByBoardId(String, int)}.
+     * The API compares update times by day, so items updated earlier that day are included too.
+     *
+     * @param boardId  The ID of the board whose items are streamed.
+     * @param since    Earliest update time of interest.
+     * @param pageSize Number of items requested per page, between 1 and {@link #MAX_PAGE_SIZE}.
+     * @return A sequential stream of items, each with its group and column values.
+     * @throws IllegalArgumentException If the page size is out of range.
+     */
+    public Stream<Item> streamItemsUpdatedSince(String boardId, Instant since, int pageSize) {
+        Objects.requireNonNull(boardId, "Board ID cannot be null");
+        Objects.requireNonNull(since, "Since cannot be null");
+        requirePageSize(pageSize);
+        LocalDate day = LocalDate.ofInstant(since, ZoneOffset.UTC);
+        return streamPages(QueryJoins.fetchBoardItemsUpdatedSinceRequest(boardId, day.toString(), pageSize),
+                cursor -> QueryJoins.nextItemsPageRequest(cursor, pageSize));
+    }
+
+    /**
+     * Exports every item of a board with its column values, page by page. The board's columns, fetched first,
+     * give the header and the order of the values. Like {@link #streamItemsByBoardId(String)}, the next page
+     * is requested while the current one is written, so memory use does not grow with the board.
+     * The stream is flushed but not closed.
+     *
+     * @param boardId The ID of the board to export.
+     * @param format  The output format.
+     * @param out     Where the export is written.
+     * @return The number of items written.
+     * @throws IOException If the board does not exist, a request fails or the output cannot be written.
+     * @throws InterruptedException If the HTTP request for the board's columns is interrupted.
+     */
+    public long exportItems(String boardId, ExportFormat format, OutputStream out)
+            throws IOException, InterruptedException {
+        Objects.requireNonNull(format, "Format cannot be null");
+        Objects.requireNonNull(out, "Output cannot be null");
+        Board board = fetchBoard(boardId).orElseThrow(() -> new IOException("Board " + boardId + " not found"));
+        BoardExportWriter writer = new BoardExportWriter(format, board.columns(), out);
+        writer.header();
+        long written = 0;
+        try (Stream<Item> items = streamItemsByBoardId(boardId)) {
+            Iterator<Item> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                written++;
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.finish();
+        return written;
+    }
+
+    /**
+     * Exports every item of a board to a channel, as {@link #exportItems(String, ExportFormat, OutputStream)} does.
+     * The channel is not closed.
+     *
+     * @param boardId The ID of the board to export.
+     * @param format  The output format.
+     * @param channel Where the export is written.
+     * @return The number of items written.
+     * @throws IOException If the board does not exist, a request fails or the channel cannot be written.
+     * @throws InterruptedException If the HTTP request for the board's columns is interrupted.
+     */
+    public long exportItems(String boardId, ExportFormat format, WritableByteChannel channel)
+            throws IOException, InterruptedException {
+        Objects.requireNonNull(channel, "Channel cannot be null");
+        return exportItems(boardId, format, Channels.newOutputStream(channel));
+    }
+
+    private Stream<Item> streamPages(QueryRequest firstPage, Function<String, QueryRequest> nextPage) {
+        CursorPager<Item> pager = new CursorPager<>(cursor -> (cursor == null
+                ? getAsync(firstPage, Responses.boardItemsPage())
+                : getAsync(nextPage.apply(cursor), Responses.nextItemsPage()))
+                .thenApply(BoardResource::toPage));
+
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(pager, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(pager::close);
+    }
+
+    private BoardCache.Value cached(String boardId) throws IOException, InterruptedException {
+        Objects.requireNonNull(boardId, "Board ID cannot be null");
+        return cache.get(boardId, () -> get(QueryJoins.fetchBoardByIdRequest(boardId)));
+    }
+
+    private static void requirePageSize(int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private static CursorPager.Page<Item> toPage(ItemsPage page) {
+        return new CursorPager.Page<>(page.cursor(), page.items());
     }
 }
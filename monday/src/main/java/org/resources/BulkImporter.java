@@ -0,0 +1,424 @@
+package org.resources;
+
+import com.google.gson.Gson;
+import org.query.ItemCreation;
+import org.query.QueryJoins;
+import org.query.QueryRequest;
+import org.query.SubitemCreation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Creates many items and their subitems with as few requests as the complexity budget allows.
+ * <p>
+ * Items are created in batches of aliased {@code create_item} fields, one mutation per batch. As soon as a
+ * batch returns the new item ids, the subitems of those items are queued and created in batches of aliased
+ * {@code create_subitem} fields, while later item batches are still being sent. Up to
+ * {@link Builder#maxConcurrentRequests(int)} requests are on the wire at once. A batch holds at most
+ * {@link Builder#batchSize(int)} creations and at most as many as fit in {@link Builder#maxComplexity(int)};
+ * pacing against the per-minute budget is left to the {@code ApiClient}'s complexity scheduler, if enabled.
+ * <p>
+ * With {@link Builder#checkpoint(Path)} every acknowledged creation is appended to a checkpoint file before
+ * the next request is sent. Running the same import again with the same file skips whatever the file records,
+ * so an import that crashed resumes after its last acknowledged batch. Creations that failed are not recorded
+ * and are retried by the next run.
+ */
+public final class BulkImporter {
+
+    private static final Gson GSON = new Gson();
+
+    private final BaseResource resource;
+    private final Path checkpointFile;
+    private final int batchSize;
+    private final int maxConcurrentRequests;
+
+    private BulkImporter(final Builder builder) {
+        this.resource = builder.resource;
+        this.checkpointFile = builder.checkpointFile;
+        this.batchSize = Math.max(1, Math.min(builder.batchSize, builder.maxComplexity / builder.complexityPerMutation));
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+    }
+
+    /**
+     * Creates a builder for a BulkImporter sending its batches through the given resource.
+     *
+     * @param resource Resource whose token and client are used for the batched requests
+     * @return A builder pre-populated with the default configuration
+     */
+    public static Builder newBuilder(final BaseResource resource) {
+        return new Builder(resource);
+    }
+
+    /**
+     * Creates the items and their subitems on a board, returning once every creation has been answered.
+     * The stream is consumed lazily, as batches are sent.
+     *
+     * @param boardId ID of the board to create the items on
+     * @param items   The items to create, each with a key unique within the import
+     * @return What was created, skipped and failed
+     * @throws IOException              if the checkpoint file cannot be read or written
+     * @throws InterruptedException     if interrupted while waiting for a batch to be answered
+     * @throws IllegalArgumentException if two item specs share a key, once the batches already sent are answered
+     *                                  and recorded in the checkpoint
+     */
+    public Result importItems(final String boardId, final Stream<ItemSpec> items)
+            throws IOException, InterruptedException {
+        Objects.requireNonNull(boardId, "Board ID cannot be null");
+        try (ImportCheckpoint checkpoint = ImportCheckpoint.open(checkpointFile)) {
+            return new Run(boardId, items.iterator(), checkpoint).execute();
+        }
+    }
+
+    /**
+     * State of one {@link #importItems} call, only touched by the calling thread. Answered batches are
+     * handed back to that thread through {@code completions}.
+     */
+    private final class Run {
+
+        private final String boardId;
+        private final Iterator<ItemSpec> specs;
+        private final ImportCheckpoint checkpoint;
+        private final Set<String> keys = new HashSet<>();
+        private final Deque<PendingSubitem> subitems = new ArrayDeque<>();
+        private final BlockingQueue<Completion> completions = new LinkedBlockingQueue<>();
+        private final List<Failure> failures = new ArrayList<>();
+        private int inFlight;
+        private int itemsCreated;
+        private int subitemsCreated;
+        private int skipped;
+
+        private Run(final String boardId, final Iterator<ItemSpec> specs, final ImportCheckpoint checkpoint) {
+            this.boardId = boardId;
+            this.specs = specs;
+            this.checkpoint = checkpoint;
+        }
+
+        private Result execute() throws IOException, InterruptedException {
+            while (true) {
+                try {
+                    while (inFlight < maxConcurrentRequests && sendNext()) {
+                        inFlight++;
+                    }
+                } catch (RuntimeException e) {
+                    drain();
+                    throw e;
+                }
+                if (inFlight == 0) {
+                    return new Result(itemsCreated, subitemsCreated, skipped, List.copyOf(failures));
+                }
+                awaitCompletion();
+            }
+        }
+
+        /**
+         * Records the answers of every batch in flight, so that what they created is in the checkpoint
+         * before the import is aborted.
+         */
+        private void drain() throws IOException, InterruptedException {
+            while (inFlight > 0) {
+                awaitCompletion();
+            }
+        }
+
+        private void awaitCompletion() throws IOException, InterruptedException {
+            completions.take().handle();
+            inFlight--;
+            checkpoint.commit();
+        }
+
+        /**
+         * Sends a full batch of subitems, else a batch of items, else whatever subitems are left.
+         *
+         * @return Whether a batch was sent
+         */
+        private boolean sendNext() {
+            if (subitems.size() >= batchSize) {
+                sendSubitems();
+                return true;
+            }
+            Map<String, ItemSpec> batch = new LinkedHashMap<>();
+            while (batch.size() < batchSize && specs.hasNext()) {
+                ItemSpec spec = specs.next();
+                if (!keys.add(spec.key())) {
+                    throw new IllegalArgumentException("Duplicate item key: " + spec.key());
+                }
+                String itemId = checkpoint.itemId(spec.key());
+                if (itemId == null) {
+                    batch.put("c" + (batch.size() + 1), spec);
+                } else {
+                    skipped++;
+                    queueSubitems(spec, itemId);
+                }
+            }
+            if (!batch.isEmpty()) {
+                sendItems(batch);
+                return true;
+            }
+            if (!subitems.isEmpty()) {
+                sendSubitems();
+                return true;
+            }
+            return false;
+        }
+
+        private void sendItems(final Map<String, ItemSpec> batch) {
+            List<ItemCreation> creations = new ArrayList<>(batch.size());
+            for (ItemSpec spec : batch.values()) {
+                creations.add(new ItemCreation(spec.groupId(), spec.name(), toJson(spec.columnValues())));
+            }
+            send(QueryJoins.batchCreateItemsRequest(boardId, creations), batch.keySet(), response -> {
+                for (Map.Entry<String, ItemSpec> entry : batch.entrySet()) {
+                    ItemSpec spec = entry.getValue();
+                    try {
+                        String itemId = response.field(entry.getKey(), "Creation of item " + spec.key())
+                                .get("id").getAsString();
+                        checkpoint.itemCreated(spec.key(), itemId);
+                        itemsCreated++;
+                        queueSubitems(spec, itemId);
+                    } catch (IOException | RuntimeException e) {
+                        failures.add(new Failure(spec.key(), -1, e.getMessage()));
+                    }
+                }
+            }, error -> batch.values().forEach(spec -> failures.add(new Failure(spec.key(), -1, error))));
+        }
+
+        private void sendSubitems() {
+            Map<String, PendingSubitem> batch = new LinkedHashMap<>();
+            while (batch.size() < batchSize && !subitems.isEmpty()) {
+                batch.put("c" + (batch.size() + 1), subitems.poll());
+            }
+            List<SubitemCreation> creations = batch.values().stream().map(PendingSubitem::creation).toList();
+            send(QueryJoins.batchCreateSubitemsRequest(creations), batch.keySet(), response -> {
+                for (Map.Entry<String, PendingSubitem> entry : batch.entrySet()) {
+                    PendingSubitem subitem = entry.getValue();
+                    try {
+                        String subitemId = response.field(entry.getKey(), "Creation of subitem " + subitem.index()
+                                + " of item " + subitem.key()).get("id").getAsString();
+                        checkpoint.subitemCreated(subitem.key(), subitem.index(), subitemId);
+                        subitemsCreated++;
+                    } catch (IOException | RuntimeException e) {
+                        failures.add(new Failure(subitem.key(), subitem.index(), e.getMessage()));
+                    }
+                }
+            }, error -> batch.values().forEach(subitem ->
+                    failures.add(new Failure(subitem.key(), subitem.index(), error))));
+        }
+
+        private void queueSubitems(final ItemSpec spec, final String itemId) {
+            for (int index = 0; index < spec.subitems().size(); index++) {
+                if (checkpoint.hasSubitem(spec.key(), index)) {
+                    skipped++;
+                } else {
+                    SubitemSpec subitem = spec.subitems().get(index);
+                    subitems.add(new PendingSubitem(spec.key(), index,
+                            new SubitemCreation(itemId, subitem.name(), toJson(subitem.columnValues()))));
+                }
+            }
+        }
+
+        private void send(
+                final QueryRequest request,
+                final Set<String> aliases,
+                final AnswerHandler onAnswer,
+                final Consumer<String> onFailure) {
+            CompletableFuture<String> answer;
+            try {
+                answer = resource.getAsync(request);
+            } catch (RuntimeException e) {
+                answer = CompletableFuture.failedFuture(e);
+            }
+            answer.whenComplete((body, error) -> completions.add(() -> {
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error;
+                    onFailure.accept(String.valueOf(cause.getMessage()));
+                    return;
+                }
+                AliasedResponse response;
+                try {
+                    response = AliasedResponse.parse(body, aliases);
+                } catch (RuntimeException e) {
+                    onFailure.accept("Malformed response: " + e.getMessage());
+                    return;
+                }
+                onAnswer.handle(response);
+            }));
+        }
+    }
+
+    private static String toJson(final Map<String, String> columnValues) {
+        return columnValues.isEmpty() ? null : GSON.toJson(columnValues);
+    }
+
+    @FunctionalInterface
+    private interface Completion {
+        void handle();
+    }
+
+    @FunctionalInterface
+    private interface AnswerHandler {
+        void handle(AliasedResponse response);
+    }
+
+    private record PendingSubitem(String key, int index, SubitemCreation creation) { }
+
+    /**
+     * One item to create.
+     *
+     * @param key          Identifies the item within the import and in the checkpoint, e.g. the source row id;
+     *                     cannot contain tabs or line breaks
+     * @param groupId      ID of the group to add the item to, or null for the board's top group
+     * @param name         Name of the new item
+     * @param columnValues Column IDs mapped to their values
+     * @param subitems     Subitems to create under the item once it exists
+     */
+    public record ItemSpec(String key, String groupId, String name, Map<String, String> columnValues,
+                           List<SubitemSpec> subitems) {
+
+        public ItemSpec {
+            Objects.requireNonNull(key, "Key cannot be null");
+            if (key.isEmpty() || key.indexOf('\t') >= 0 || key.indexOf('\n') >= 0 || key.indexOf('\r') >= 0) {
+                throw new IllegalArgumentException("Key must be non-empty without tabs or line breaks");
+            }
+            Objects.requireNonNull(name, "Name cannot be null");
+            columnValues = columnValues == null ? Map.of() : Map.copyOf(columnValues);
+            subitems = subitems == null ? List.of() : List.copyOf(subitems);
+        }
+    }
+
+    /**
+     * One subitem to create under an {@link ItemSpec}.
+     *
+     * @param name         Name of the new subitem
+     * @param columnValues Column IDs of the subitems board mapped to their values
+     */
+    public record SubitemSpec(String name, Map<String, String> columnValues) {
+
+        public SubitemSpec {
+            Objects.requireNonNull(name, "Name cannot be null");
+            columnValues = columnValues == null ? Map.of() : Map.copyOf(columnValues);
+        }
+    }
+
+    /**
+     * A creation the API did not acknowledge.
+     *
+     * @param key          Key of the item spec
+     * @param subitemIndex Position of the subitem in the spec, or -1 if the item itself failed
+     * @param message      The reported error
+     */
+    public record Failure(String key, int subitemIndex, String message) { }
+
+    /**
+     * Outcome of one import.
+     *
+     * @param itemsCreated    Number of items created by this run
+     * @param subitemsCreated Number of subitems created by this run
+     * @param skipped         Number of items and subitems the checkpoint recorded as already created
+     * @param failures        Creations that failed; the subitems of a failed item are not attempted
+     */
+    public record Result(int itemsCreated, int subitemsCreated, int skipped, List<Failure> failures) { }
+
+    /**
+     * Builder for {@link BulkImporter} instances.
+     */
+    public static final class Builder {
+
+        private final BaseResource resource;
+        private Path checkpointFile;
+        private int batchSize = 50;
+        private int maxComplexity = 1_000_000;
+        private int complexityPerMutation = 10_000;
+        private int maxConcurrentRequests = 4;
+
+        private Builder(final BaseResource resource) {
+            this.resource = Objects.requireNonNull(resource, "Resource cannot be null");
+        }
+
+        /**
+         * @param checkpointFile File recording acknowledged creations, created if missing; resumes the import it records
+         * @return This builder
+         */
+        public Builder checkpoint(final Path checkpointFile) {
+            this.checkpointFile = Objects.requireNonNull(checkpointFile, "Checkpoint file cannot be null");
+            return this;
+        }
+
+        /**
+         * @param batchSize Largest number of creations in one request, defaults to 50
+         * @return This builder
+         * @throws IllegalArgumentException if batchSize is lower than 1
+         */
+        public Builder batchSize(final int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("Batch size must be at least 1");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param maxComplexity Complexity budget of one batched request, defaults to 1,000,000
+         * @return This builder
+         * @throws IllegalArgumentException if maxComplexity is lower than 1
+         */
+        public Builder maxComplexity(final int maxComplexity) {
+            if (maxComplexity < 1) {
+                throw new IllegalArgumentException("Max complexity must be at least 1");
+            }
+            this.maxComplexity = maxComplexity;
+            return this;
+        }
+
+        /**
+         * @param complexityPerMutation Estimated complexity of one creation, defaults to 10,000
+         * @return This builder
+         * @throws IllegalArgumentException if complexityPerMutation is lower than 1
+         */
+        public Builder complexityPerMutation(final int complexityPerMutation) {
+            if (complexityPerMutation < 1) {
+                throw new IllegalArgumentException("Complexity per mutation must be at least 1");
+            }
+            this.complexityPerMutation = complexityPerMutation;
+            return this;
+        }
+
+        /**
+         * @param maxConcurrentRequests Largest number of batches on the wire at once, defaults to 4
+         * @return This builder
+         * @throws IllegalArgumentException if maxConcurrentRequests is lower than 1
+         */
+        public Builder maxConcurrentRequests(final int maxConcurrentRequests) {
+            if (maxConcurrentRequests < 1) {
+                throw new IllegalArgumentException("Max concurrent requests must be at least 1");
+            }
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * @return A new BulkImporter
+         */
+        public BulkImporter build() {
+            return new BulkImporter(this);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package org.resources;
 
+import org.http.ApiClient;
 import org.query.QueryJoins;
 
 import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -11,6 +14,8 @@ import java.io.IOException;
  */
 public class ColumnsResource extends BaseResource {
 
+    private final BoardCache cache;
+
     /**
      * Creates a new ColumnsResource instance.
      *
@@ -19,10 +24,37 @@ public class ColumnsResource extends BaseResource {
      */
     public ColumnsResource(final String token) {
         super(token);
+        this.cache = null;
+    }
+
+    /**
+     * Creates a new ColumnsResource instance sharing the given client.
+     *
+     * @param token     The API authentication token for Monday.com
+     * @param apiClient The shared transport used to reach the API
+     * @throws IllegalArgumentException if the token is null or empty
+     */
+    public ColumnsResource(final String token, final ApiClient apiClient) {
+        super(token, apiClient);
+        this.cache = null;
+    }
+
+    /**
+     * Creates a new ColumnsResource instance that invalidates the boards it changes in the given cache.
+     *
+     * @param token     The API authentication token for Monday.com
+     * @param apiClient The shared transport used to reach the API
+     * @param cache     Cache of board metadata, shared with the {@link BoardResource} reading the boards
+     * @throws IllegalArgumentException if the token is null or empty
+     */
+    public ColumnsResource(final String token, final ApiClient apiClient, final BoardCache cache) {
+        super(token, apiClient);
+        this.cache = Objects.requireNonNull(cache, "BoardCache cannot be null");
     }
 
     /**
      * Creates a new column in a specified board.
+     * The board is invalidated in the {@link BoardCache} of this resource, if it has one.
      *
      * @param boardId     The ID of the board to add the column to
      * @param columnTitle The title/name of the new column
@@ -36,7 +68,27 @@ public class ColumnsResource extends BaseResource {
             final String columnTitle,
             final String columnType)
             throws IOException, InterruptedException {
-        return get(QueryJoins.createColumnQuery(boardId, columnTitle, columnType));
+        try {
+            return get(QueryJoins.createColumnRequest(boardId, columnTitle, columnType));
+        } finally {
+            invalidate(boardId);
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #createColumn}.
+     *
+     * @param boardId     The ID of the board to add the column to
+     * @param columnTitle The title/name of the new column
+     * @param columnType  The type of column to create (e.g., "text", "numeric", etc.)
+     * @return A future completing with the API response as a JSON string
+     */
+    public CompletableFuture<String> createColumnAsync(
+            final String boardId,
+            final String columnTitle,
+            final String columnType) {
+        return getAsync(QueryJoins.createColumnRequest(boardId, columnTitle, columnType))
+                .whenComplete((response, failure) -> invalidate(boardId));
     }
 
     /**
@@ -60,9 +112,53 @@ public class ColumnsResource extends BaseResource {
             String itemId,
             String columnValues)
             throws IOException, InterruptedException {
-        return get(QueryJoins.updateMultiplesColumnValuesQuery(
+        return get(QueryJoins.updateMultiplesColumnValuesRequest(
+                boardId,
+                itemId,
+                columnValues));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateMultipleColumns}.
+     *
+     * @param boardId      ID of the board containing the item
+     * @param itemId       ID of the item to update
+     * @param columnValues JSON-formatted string containing the column IDs and their corresponding new values.
+     *                     Example:
+     * <pre>
+     * {@code
+     * "{\"status\": \"Done\", \"text\": \"Updated text\"}"
+     * }
+     * </pre>
+     * @return A future completing with the API response as a JSON string
+     */
+    public CompletableFuture<String> updateMultipleColumnsAsync(
+            String boardId,
+            String itemId,
+            String columnValues) {
+        return getAsync(QueryJoins.updateMultiplesColumnValuesRequest(
                 boardId,
                 itemId,
-                stringTOJson(columnValues)));
+                columnValues));
+    }
+
+    /**
+     * Creates a BatchWriter that packs {@link #updateMultipleColumns} calls
+     * into aliased multi-mutation requests, using the default batching limits.
+     *
+     * @return A new BatchWriter sending through this resource; close it to flush pending updates
+     */
+    public BatchWriter newBatchWriter() {
+        return BatchWriter.newBuilder(this).build();
+    }
+
+    /**
+     * Drops the board from the cache whether or not the change succeeded,
+     * as a failed response does not prove the board was left unchanged.
+     */
+    private void invalidate(final String boardId) {
+        if (cache != null) {
+            cache.invalidate(boardId);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,103 @@
+package org.resources;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Iterates over a cursor-paginated collection one page at a time.
+ * <p>
+ * As soon as a page is handed to the caller, the request for the following page is sent,
+ * so the next page downloads while the current one is being consumed. At most two pages
+ * are held at any time, whatever the size of the collection.
+ *
+ * @param <T> Type of the elements in each page
+ */
+final class CursorPager<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * One page of results and the cursor pointing at the next one.
+     *
+     * @param cursor Cursor of the following page, or null on the last page
+     * @param items  Elements of this page
+     * @param <T>    Type of the elements
+     */
+    record Page<T>(String cursor, List<T> items) {
+    }
+
+    /**
+     * Loads the page for a cursor; a null cursor requests the first page.
+     *
+     * @param <T> Type of the elements in each page
+     */
+    @FunctionalInterface
+    interface PageLoader<T> {
+        CompletableFuture<Page<T>> load(String cursor);
+    }
+
+    private final PageLoader<T> loader;
+    private Iterator<T> current = Collections.emptyIterator();
+    private CompletableFuture<Page<T>> next;
+
+    CursorPager(final PageLoader<T> loader) {
+        this.loader = Objects.requireNonNull(loader, "Page loader cannot be null");
+        this.next = loader.load(null);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (next == null) {
+                return false;
+            }
+            Page<T> page = await(next);
+            next = page.cursor() == null || page.cursor().isEmpty() ? null : loader.load(page.cursor());
+            current = page.items().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Discards the prefetch of the next page, if one is pending. Its request is not cancelled: it still
+     * completes in the background, holding its in-flight slot and complexity until then, and the page is dropped.
+     */
+    @Override
+    public void close() {
+        next = null;
+        current = Collections.emptyIterator();
+    }
+
+    private Page<T> await(final CompletableFuture<Page<T>> page) {
+        try {
+            return page.join();
+        } catch (CompletionException | CancellationException e) {
+            next = null;
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            if (cause instanceof UncheckedIOException unchecked) {
+                throw unchecked;
+            }
+            if (cause instanceof IOException io) {
+                throw new UncheckedIOException(io);
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new UncheckedIOException(new IOException("Failed to fetch page", cause));
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package org.resources;
 
+import org.http.ApiClient;
+
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class CustomResource extends BaseResource {
 
@@ -8,8 +11,16 @@ public class CustomResource extends BaseResource {
         super(apiKey);
     }
 
+    public CustomResource(String apiKey, ApiClient apiClient) {
+        super(apiKey, apiClient);
+    }
+
     public String executeCustomQuery(String customQuery)
             throws IOException, InterruptedException {
         return get(customQuery);
     }
+
+    public CompletableFuture<String> executeCustomQueryAsync(String customQuery) {
+        return getAsync(customQuery);
+    }
 }
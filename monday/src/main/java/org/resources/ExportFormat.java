@@ -0,0 +1,18 @@
+package org.resources;
+
+/**
+ * Output formats of {@link BoardResource#exportItems}.
+ */
+public enum ExportFormat {
+    /**
+     * One JSON object per line with the item's {@code id}, {@code name}, {@code group} and its
+     * {@code column_values}: an object keyed by column id, in board order, holding each column's {@code text}
+     * and its raw JSON {@code value} as the API returns it, or null when the item has none.
+     */
+    NDJSON,
+    /**
+     * RFC 4180 rows of the item's id, name, group title and the text of every board column,
+     * after a header row naming the columns by title.
+     */
+    CSV
+}
@@ -0,0 +1,188 @@
+package org.resources;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
+
+/**
+ * Merges lookups by id made within a short window into one multi-id request, in the manner of a DataLoader.
+ * <p>
+ * Ids passed to {@link #load(String)} are collected until {@link Builder#maxBatchSize(int)} distinct ids are
+ * pending or {@link Builder#flushInterval(Duration)} has elapsed since the first of them, then handed to the
+ * batch loader in one call. Each caller receives a future completing with the value the loader returned for
+ * its id. An id requested again while pending shares the pending future. A failed batch fails every future
+ * of that batch.
+ *
+ * @param <V> Type of the value loaded for each id
+ */
+public final class IdBatcher<V> implements AutoCloseable {
+
+    private final Function<List<String>, CompletableFuture<Map<String, V>>> batchLoader;
+    private final int maxBatchSize;
+    private final Duration flushInterval;
+    private final BatchWindow window = new BatchWindow("IdBatcher", "monday-id-batcher");
+
+    private final Object lock = new Object();
+    private Map<String, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    private IdBatcher(final Builder<V> builder) {
+        this.batchLoader = builder.batchLoader;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.flushInterval = builder.flushInterval;
+    }
+
+    /**
+     * Creates a builder for an IdBatcher loading its batches with the given function.
+     *
+     * @param batchLoader Loads the values of up to {@link Builder#maxBatchSize(int)} distinct ids in one request,
+     *                    completing with a map from id to value; ids missing from the map complete with null
+     * @param <V>         Type of the value loaded for each id
+     * @return A builder pre-populated with the default configuration
+     */
+    public static <V> Builder<V> newBuilder(final Function<List<String>, CompletableFuture<Map<String, V>>> batchLoader) {
+        return new Builder<>(batchLoader);
+    }
+
+    /**
+     * Queues the lookup of one id.
+     *
+     * @param id The id to look up
+     * @return A future completing with the value loaded for the id
+     * @throws IllegalStateException if the batcher has been closed
+     */
+    public CompletableFuture<V> load(final String id) {
+        Objects.requireNonNull(id, "ID cannot be null");
+
+        CompletableFuture<V> result;
+        Map<String, CompletableFuture<V>> ready = null;
+        synchronized (lock) {
+            window.requireOpen();
+            result = pending.get(id);
+            if (result != null) {
+                return result.copy();
+            }
+            result = new CompletableFuture<>();
+            pending.put(id, result);
+            if (pending.size() >= maxBatchSize) {
+                ready = drainPending();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = window.schedule(this::flush, flushInterval);
+            }
+        }
+        if (ready != null) {
+            send(ready);
+        }
+        return result.copy();
+    }
+
+    /**
+     * Sends the pending lookups now, without waiting for the batch to fill up.
+     *
+     * @return A future completing once the flushed batch has been answered
+     */
+    public CompletableFuture<Void> flush() {
+        Map<String, CompletableFuture<V>> ready;
+        synchronized (lock) {
+            ready = drainPending();
+        }
+        return ready.isEmpty() ? CompletableFuture.completedFuture(null) : send(ready);
+    }
+
+    /**
+     * @return Number of distinct ids waiting to be sent
+     */
+    public int pendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Flushes the pending lookups, waits for every batch still on the wire and stops the flush timer.
+     */
+    @Override
+    public void close() {
+        window.close(this::flush);
+    }
+
+    private Map<String, CompletableFuture<V>> drainPending() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        Map<String, CompletableFuture<V>> ready = pending;
+        pending = new LinkedHashMap<>();
+        return ready;
+    }
+
+    private CompletableFuture<Void> send(final Map<String, CompletableFuture<V>> batch) {
+        return window.send(() -> batchLoader.apply(new ArrayList<>(batch.keySet()))
+                        .handle((values, error) -> {
+                            batch.forEach((id, result) -> {
+                                if (error != null) {
+                                    result.completeExceptionally(error);
+                                } else {
+                                    result.complete(values.get(id));
+                                }
+                            });
+                            return null;
+                        }),
+                e -> batch.values().forEach(result -> result.completeExceptionally(e)));
+    }
+
+    /**
+     * Builder for {@link IdBatcher} instances.
+     *
+     * @param <V> Type of the value loaded for each id
+     */
+    public static final class Builder<V> {
+
+        private final Function<List<String>, CompletableFuture<Map<String, V>>> batchLoader;
+        private int maxBatchSize = 100;
+        private Duration flushInterval = Duration.ofMillis(10);
+
+        private Builder(final Function<List<String>, CompletableFuture<Map<String, V>>> batchLoader) {
+            this.batchLoader = Objects.requireNonNull(batchLoader, "Batch loader cannot be null");
+        }
+
+        /**
+         * @param maxBatchSize Number of distinct ids that triggers an immediate flush, defaults to 100
+         * @return This builder
+         * @throws IllegalArgumentException if maxBatchSize is lower than 1
+         */
+        public Builder<V> maxBatchSize(final int maxBatchSize) {
+            if (maxBatchSize < 1) {
+                throw new IllegalArgumentException("Max batch size must be at least 1");
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * @param flushInterval Longest time a lookup waits for its batch to fill up, defaults to 10ms
+         * @return This builder
+         */
+        public Builder<V> flushInterval(final Duration flushInterval) {
+            Objects.requireNonNull(flushInterval, "Flush interval cannot be null");
+            if (flushInterval.isNegative() || flushInterval.isZero()) {
+                throw new IllegalArgumentException("Flush interval must be positive");
+            }
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * @return A new IdBatcher
+         */
+        public IdBatcher<V> build() {
+            return new IdBatcher<>(this);
+        }
+    }
+}
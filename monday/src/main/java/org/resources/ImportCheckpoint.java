@@ -0,0 +1,117 @@
+package org.resources;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Append-only record of what a {@link BulkImporter} has created, one line per acknowledged item
+ * ({@code item <key> <id>}) or subitem ({@code subitem <key> <index> <id>}), tab separated.
+ * Lines are forced to disk once per answered batch. A line cut short by a crash is dropped from the file
+ * on reopening, before anything is appended.
+ * Without a file the record is only kept in memory.
+ */
+final class ImportCheckpoint implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final Map<String, String> items = new HashMap<>();
+    private final Set<String> subitems = new HashSet<>();
+    private final StringBuilder unwritten = new StringBuilder();
+
+    private ImportCheckpoint(final FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * @param file The checkpoint file, created if missing, or null to keep the record in memory
+     * @return The checkpoint with every complete line of the file loaded, and any line cut short truncated
+     * @throws IOException if the file cannot be read or opened for writing
+     */
+    static ImportCheckpoint open(final Path file) throws IOException {
+        if (file == null) {
+            return new ImportCheckpoint(null);
+        }
+        byte[] content = Files.exists(file) ? Files.readAllBytes(file) : new byte[0];
+        int complete = content.length;
+        while (complete > 0 && content[complete - 1] != '\n') {
+            complete--;
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        ImportCheckpoint checkpoint = new ImportCheckpoint(channel);
+        try {
+            channel.truncate(complete);
+            channel.position(complete);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        String lines = new String(content, 0, complete, StandardCharsets.UTF_8);
+        for (String line : lines.split("\n")) {
+            String[] fields = line.split("\t", -1);
+            if (fields.length == 3 && fields[0].equals("item") && !fields[2].isEmpty()) {
+                checkpoint.items.put(fields[1], fields[2]);
+            } else if (fields.length == 4 && fields[0].equals("subitem") && !fields[3].isEmpty()) {
+                checkpoint.subitems.add(fields[1] + '\t' + fields[2]);
+            }
+        }
+        return checkpoint;
+    }
+
+    /**
+     * @param key The key of the item spec
+     * @return The ID the item was created with, or null if it has not been created
+     */
+    String itemId(final String key) {
+        return items.get(key);
+    }
+
+    /**
+     * @param key   The key of the parent item spec
+     * @param index Position of the subitem in the spec
+     * @return Whether the subitem has been created
+     */
+    boolean hasSubitem(final String key, final int index) {
+        return subitems.contains(key + '\t' + index);
+    }
+
+    void itemCreated(final String key, final String itemId) {
+        items.put(key, itemId);
+        unwritten.append("item\t").append(key).append('\t').append(itemId).append('\n');
+    }
+
+    void subitemCreated(final String key, final int index, final String subitemId) {
+        subitems.add(key + '\t' + index);
+        unwritten.append("subitem\t").append(key).append('\t').append(index).append('\t').append(subitemId).append('\n');
+    }
+
+    /**
+     * Writes the lines recorded since the last call and forces them to disk.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    void commit() throws IOException {
+        if (channel != null && !unwritten.isEmpty()) {
+            ByteBuffer bytes = ByteBuffer.wrap(unwritten.toString().getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+        unwritten.setLength(0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
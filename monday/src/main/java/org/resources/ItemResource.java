@@ -1,9 +1,26 @@
 package org.resources;
 
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import org.http.ApiClient;
+import org.mirror.ColumnValueIndex;
+import org.models.Item;
+import org.models.Responses;
+import org.query.ItemProjection;
 import org.query.QueryJoins;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Resource class for interacting with Monday.com items.
@@ -11,6 +28,21 @@ import java.util.HashMap;
  */
 public class ItemResource extends BaseResource {
 
+    /**
+     * Largest number of items returned by one {@code items} query.
+     */
+    public static final int MAX_ITEMS_PER_QUERY = 100;
+
+    private static final Gson SNAKE_CASE = new GsonBuilder()
+            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .serializeNulls()
+            .create();
+
+    private static final String CHANGE_SIMPLE_COLUMN_VALUE = "change_simple_column_value";
+    private static final String CHANGE_MULTIPLE_COLUMN_VALUES = "change_multiple_column_values";
+
+    private final ColumnValueIndex index;
+
     /**
      * Creates a new ItemResource instance.
      *
@@ -18,6 +50,32 @@ public class ItemResource extends BaseResource {
      */
     public ItemResource(final String token) {
         super(token);
+        this.index = null;
+    }
+
+    /**
+     * Creates a new ItemResource instance sharing the given client.
+     *
+     * @param token     API authentication token for Monday.com
+     * @param apiClient Shared transport used to reach the API
+     */
+    public ItemResource(final String token, final ApiClient apiClient) {
+        super(token, apiClient);
+        this.index = null;
+    }
+
+    /**
+     * Creates a new ItemResource instance answering lookups by column value from a local index.
+     * Lookups on columns the index {@link ColumnValueIndex#covers covers} never reach the API, and
+     * the column values this resource writes are applied to the index once the mutation returns.
+     *
+     * @param token     API authentication token for Monday.com
+     * @param apiClient Shared transport used to reach the API
+     * @param index     Index answering lookups on the columns it covers
+     */
+    public ItemResource(final String token, final ApiClient apiClient, final ColumnValueIndex index) {
+        super(token, apiClient);
+        this.index = Objects.requireNonNull(index, "ColumnValueIndex cannot be null");
     }
 
     /**
@@ -38,9 +96,30 @@ public class ItemResource extends BaseResource {
                              final HashMap<String, String> columnValues,
                              final Boolean createLabelIfMissing)
             throws IOException, InterruptedException {
-        return get(QueryJoins.mutateItemQuery(
+        return get(QueryJoins.mutateItemRequest(
                 boardId, groupId, itemName,
-                hashMapToJson(columnValues),
+                mapToJson(columnValues),
+                createLabelIfMissing));
+    }
+
+    /**
+     * Asynchronous variant of {@link #createItem}.
+     *
+     * @param boardId              ID of the board to create the item in
+     * @param groupId              ID of the group to add the item to
+     * @param itemName             Name of the new item
+     * @param columnValues         Map of column IDs to their values
+     * @param createLabelIfMissing Whether to create missing labels
+     * @return A future completing with the API response as a JSON string
+     */
+    public CompletableFuture<String> createItemAsync(final String boardId,
+                                                     final String groupId,
+                                                     final String itemName,
+                                                     final HashMap<String, String> columnValues,
+                                                     final Boolean createLabelIfMissing) {
+        return getAsync(QueryJoins.mutateItemRequest(
+                boardId, groupId, itemName,
+                mapToJson(columnValues),
                 createLabelIfMissing));
     }
 
@@ -61,15 +140,38 @@ public class ItemResource extends BaseResource {
             final HashMap<String, String> columnValues,
             final Boolean createLabelIfMissing)
             throws IOException, InterruptedException {
-        return get(QueryJoins.mutateSubitemQuery(
+        return get(QueryJoins.mutateSubitemRequest(
+                parentId,
+                subitemName,
+                mapToJson(columnValues),
+                createLabelIfMissing));
+    }
+
+    /**
+     * Asynchronous variant of {@link #createSubitem}.
+     *
+     * @param parentId             ID of the parent item
+     * @param subitemName          Name of the subitem to create
+     * @param columnValues         Map of column IDs to their values
+     * @param createLabelIfMissing Whether to create missing labels
+     * @return A future completing with the API response as a JSON string
+     */
+    public CompletableFuture<String> createSubitemAsync(
+            final String parentId,
+            final String subitemName,
+            final HashMap<String, String> columnValues,
+            final Boolean createLabelIfMissing) {
+        return getAsync(QueryJoins.mutateSubitemRequest(
                 parentId,
                 subitemName,
-                hashMapToJson(columnValues),
+                mapToJson(columnValues),
                 createLabelIfMissing));
     }
 
     /**
      * Fetches items by column value from a Monday.com board.
+     * Answered from the {@link ColumnValueIndex} when it covers the column, as a response of the same
+     * shape whose items have no updates.
      *
      * @param boardId  ID of the board to fetch items from
      * @param columnId ID of the column to filter by
@@ -83,13 +185,28 @@ public class ItemResource extends BaseResource {
             final String columnId,
             final String value)
             throws IOException, InterruptedException {
-        String columnValuesFilter = String.format(
-                "board_id: %s, columns: [{column_id: \"%s\", column_values: [\"%s\"]}]",
-                boardId,
-                columnId,
-                value);
+        if (isIndexed(boardId, columnId)) {
+            return toResponse(index.find(boardId, columnId, value));
+        }
+        return get(QueryJoins.getItemRequest(boardId, columnId, value));
+    }
 
-        return get(QueryJoins.getItemQuery(columnValuesFilter));
+    /**
+     * Asynchronous variant of {@link #fetchItemsByColumnValue}.
+     *
+     * @param boardId  ID of the board to fetch items from
+     * @param columnId ID of the column to filter by
+     * @param value    Value to filter the column by
+     * @return A future completing with the API response as a JSON string
+     */
+    public CompletableFuture<String> fetchItemsByColumnValueAsync(
+            final String boardId,
+            final String columnId,
+            final String value) {
+        if (isIndexed(boardId, columnId)) {
+            return index.findAsync(boardId, columnId, value).thenApply(ItemResource::toResponse);
+        }
+        return getAsync(QueryJoins.getItemRequest(boardId, columnId, value));
     }
 
     /**
@@ -102,7 +219,181 @@ public class ItemResource extends BaseResource {
      */
     public String fetchItemById(final String itemId)
             throws IOException, InterruptedException {
-        return get(QueryJoins.fetchItemByIdQuery(itemId));
+        return get(QueryJoins.fetchItemByIdRequest(itemId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #fetchItemById}.
+     *
+     * @param itemId ID of the item to fetch
+     * @return A future completing with the API response as a JSON string
+     */
+    public CompletableFuture<String> fetchItemByIdAsync(final String itemId) {
+        return getAsync(QueryJoins.fetchItemByIdRequest(itemId));
+    }
+
+    /**
+     * Fetches an item by its ID and decodes it straight from the response stream.
+     *
+     * @param itemId ID of the item to fetch
+     * @return The item with its group and column values, or empty if no such item is visible
+     * @throws IOException          if there is an error making the API request, or the API reports errors
+     * @throws InterruptedException if the API request is interrupted
+     */
+    public Optional<Item> fetchItem(final String itemId)
+            throws IOException, InterruptedException {
+        return get(QueryJoins.fetchItemByIdRequest(itemId), Responses.items()).stream().findFirst();
+    }
+
+    /**
+     * Fetches several items by their IDs in one request and decodes them straight from the response stream.
+     *
+     * @param itemIds IDs of the items to fetch, at most {@link #MAX_ITEMS_PER_QUERY}
+     * @return A future completing with every requested ID mapped to its item, or to empty if no such item is visible
+     * @throws IllegalArgumentException if more than {@link #MAX_ITEMS_PER_QUERY} IDs are given
+     */
+    public CompletableFuture<Map<String, Optional<Item>>> fetchItemsAsync(final List<String> itemIds) {
+        requireBatchSize(itemIds);
+        return getAsync(QueryJoins.fetchItemsByIdsRequest(itemIds), Responses.items())
+                .thenApply(items -> byId(itemIds, items, Optional::of, Optional.empty()));
+    }
+
+    /**
+     * Fetches several items by their IDs in one request, with only the fields of the projection.
+     *
+     * @param itemIds    IDs of the items to fetch, at most {@link #MAX_ITEMS_PER_QUERY}
+     * @param projection The fields of each item to fetch
+     * @return A future completing with every requested ID mapped to its item, or to empty if no such item is visible
+     * @throws IllegalArgumentException if more than {@link #MAX_ITEMS_PER_QUERY} IDs are given
+     */
+    public CompletableFuture<Map<String, Optional<Item>>> fetchItemsAsync(
+            final List<String> itemIds,
+            final ItemProjection projection) {
+        requireBatchSize(itemIds);
+        return getAsync(QueryJoins.fetchItemsByIdsRequest(itemIds, projection), Responses.items())
+                .thenApply(items -> byId(itemIds, items, Optional::of, Optional.empty()));
+    }
+
+    /**
+     * Creates an IdBatcher merging the item lookups made within a few milliseconds of each other
+     * into one {@link #fetchItemsAsync} request of up to {@link #MAX_ITEMS_PER_QUERY} items.
+     * Use {@link IdBatcher#newBuilder} with {@code this::fetchItemsAsync} for other batching limits.
+     *
+     * @return A new IdBatcher loading through this resource; close it to flush pending lookups
+     */
+    public IdBatcher<Optional<Item>> newItemBatcher() {
+        return IdBatcher.newBuilder(this::fetchItemsAsync).maxBatchSize(MAX_ITEMS_PER_QUERY).build();
+    }
+
+    private boolean isIndexed(final String boardId, final String columnId) {
+        return index != null && index.covers(boardId, columnId);
+    }
+
+    /**
+     * Applies the item returned by a column value mutation to the index. Responses without an item,
+     * such as errors, are left for the index's next sync to reconcile.
+     *
+     * @return The response, unchanged
+     */
+    private String applyToIndex(final String boardId, final String mutation, final String response) {
+        if (index == null) {
+            return response;
+        }
+        try {
+            Item changed = Responses.mutatedItem(mutation)
+                    .decode(new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)));
+            if (changed != null) {
+                index.apply(boardId, changed);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Not applied; the next sync picks up whatever the API holds
+        }
+        return response;
+    }
+
+    /**
+     * Renders items in the shape of an {@code items_page_by_column_values} response.
+     */
+    private static String toResponse(final List<Item> items) {
+        JsonObject page = new JsonObject();
+        page.add("cursor", null);
+        page.add("items", SNAKE_CASE.toJsonTree(items));
+        JsonObject data = new JsonObject();
+        data.add("items_page_by_column_values", page);
+        JsonObject response = new JsonObject();
+        response.add("data", data);
+        return SNAKE_CASE.toJson(response);
+    }
+
+    static void requireBatchSize(final List<String> itemIds) {
+        if (itemIds.size() > MAX_ITEMS_PER_QUERY) {
+            throw new IllegalArgumentException("At most " + MAX_ITEMS_PER_QUERY + " items can be fetched at once");
+        }
+    }
+
+    /**
+     * Maps every requested ID to the value extracted from its item, or to the fallback when the item is missing.
+     */
+    static <V> Map<String, V> byId(
+            final List<String> itemIds,
+            final List<Item> items,
+            final Function<Item, V> value,
+            final V missing) {
+        Map<String, V> values = new HashMap<>(itemIds.size() * 2);
+        for (String itemId : itemIds) {
+            values.put(itemId, missing);
+        }
+        for (Item item : items) {
+            if (item.id() != null) {
+                values.put(item.id(), value.apply(item));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Finds the items whose column holds a value, decoded straight from the response stream.
+     * Answered from the {@link ColumnValueIndex} when it covers the column, without updates.
+     *
+     * @param boardId  ID of the board to fetch items from
+     * @param columnId ID of the column to filter by
+     * @param value    Value to filter the column by
+     * @return The matching items of the first page, with their updates, group and column values
+     * @throws IOException          if there is an error making the API request, or the API reports errors
+     * @throws InterruptedException if the API request is interrupted
+     */
+    public List<Item> findItemsByColumnValue(
+            final String boardId,
+            final String columnId,
+            final String value)
+            throws IOException, InterruptedException {
+        if (isIndexed(boardId, columnId)) {
+            return index.find(boardId, columnId, value);
+        }
+        return get(QueryJoins.getItemRequest(boardId, columnId, value),
+                Responses.itemsPageByColumnValues()).items();
+    }
+
+    /**
+     * Finds the items whose column holds a value, fetching only the fields of the projection.
+     * Always asks the API, so the projection is honoured even on columns a {@link ColumnValueIndex} covers.
+     *
+     * @param boardId    ID of the board to fetch items from
+     * @param columnId   ID of the column to filter by
+     * @param value      Value to filter the column by
+     * @param projection The fields of each item to fetch
+     * @return The matching items of the first page, holding the projected fields
+     * @throws IOException          if there is an error making the API request, or the API reports errors
+     * @throws InterruptedException if the API request is interrupted
+     */
+    public List<Item> findItemsByColumnValue(
+            final String boardId,
+            final String columnId,
+            final String value,
+            final ItemProjection projection)
+            throws IOException, InterruptedException {
+        return get(QueryJoins.getItemRequest(boardId, columnId, value, projection),
+                Responses.itemsPageByColumnValues()).items();
     }
 
     /**
@@ -122,7 +413,27 @@ public class ItemResource extends BaseResource {
             final String columnId,
             final String value)
             throws IOException, InterruptedException {
-        return get(QueryJoins.updateItemQuery(boardId, itemId, columnId, value));
+        String response = get(QueryJoins.updateItemRequest(boardId, itemId, columnId, value));
+        applyToIndex(boardId, CHANGE_SIMPLE_COLUMN_VALUE, response);
+        return response;
+    }
+
+    /**
+     * Asynchronous variant of {@link #changeItemValue}.
+     *
+     * @param boardId  ID of the board containing the item
+     * @param itemId   ID of the item to update
+     * @param columnId ID of the column to update
+     * @param value    New value to set for the column
+     * @return A future completing with the API response as a JSON string
+     */
+    public CompletableFuture<String> changeItemValueAsync(
+            final String boardId,
+            final String itemId,
+            final String columnId,
+            final String value) {
+        return getAsync(QueryJoins.updateItemRequest(boardId, itemId, columnId, value))
+                .thenApply(response -> applyToIndex(boardId, CHANGE_SIMPLE_COLUMN_VALUE, response));
     }
 
     /**
@@ -146,11 +457,38 @@ public class ItemResource extends BaseResource {
             final String itemId,
             final String columnValues)
             throws IOException, InterruptedException {
-        return get(QueryJoins.updateMultiplesColumnValuesQuery(
+        String response = get(QueryJoins.updateMultiplesColumnValuesRequest(
                 boardId,
                 itemId,
-                stringTOJson(columnValues)
+                columnValues
         ));
+        applyToIndex(boardId, CHANGE_MULTIPLE_COLUMN_VALUES, response);
+        return response;
+    }
+
+    /**
+     * Asynchronous variant of {@link #changeMultiplesColumnValues}.
+     *
+     * @param boardId      ID of the board containing the item
+     * @param itemId       ID of the item to update
+     * @param columnValues JSON-formatted string containing the column IDs and their corresponding new values.
+     *                     Example:
+     * <pre>
+     * {@code
+     * "{\"status\": \"Done\", \"text\": \"Updated text\"}"
+     * }
+     * </pre>
+     * @return A future completing with the API response as a JSON string
+     */
+    public CompletableFuture<String> changeMultiplesColumnValuesAsync(
+            final String boardId,
+            final String itemId,
+            final String columnValues) {
+        return getAsync(QueryJoins.updateMultiplesColumnValuesRequest(
+                boardId,
+                itemId,
+                columnValues
+        )).thenApply(response -> applyToIndex(boardId, CHANGE_MULTIPLE_COLUMN_VALUES, response));
     }
 
     /**
@@ -164,7 +502,18 @@ public class ItemResource extends BaseResource {
      */
     public String moveItemToGroup(final String itemId, final String groupId)
             throws IOException, InterruptedException {
-        return get(QueryJoins.moveItemToGroupQuery(itemId, groupId));
+        return get(QueryJoins.moveItemToGroupRequest(itemId, groupId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #moveItemToGroup}.
+     *
+     * @param itemId  ID of the item to move
+     * @param groupId ID of the destination group
+     * @return A future completing with the API response as a JSON string
+     */
+    public CompletableFuture<String> moveItemToGroupAsync(final String itemId, final String groupId) {
+        return getAsync(QueryJoins.moveItemToGroupRequest(itemId, groupId));
     }
 
     /**
@@ -177,7 +526,17 @@ public class ItemResource extends BaseResource {
      */
     public String archiveItem(final String itemId)
             throws IOException, InterruptedException {
-        return get(QueryJoins.archiveItemQuery(itemId));
+        return get(QueryJoins.archiveItemRequest(itemId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #archiveItem}.
+     *
+     * @param itemId ID of the item to archive
+     * @return A future completing with the API response as a JSON string
+     */
+    public CompletableFuture<String> archiveItemAsync(final String itemId) {
+        return getAsync(QueryJoins.archiveItemRequest(itemId));
     }
 
     /**
@@ -190,6 +549,36 @@ public class ItemResource extends BaseResource {
      */
     public String deleteItem(final String itemId)
             throws IOException, InterruptedException {
-        return get(QueryJoins.deleteItemQuery(itemId));
+        return get(QueryJoins.deleteItemRequest(itemId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteItem}.
+     *
+     * @param itemId ID of the item to delete
+     * @return A future completing with the API response as a JSON string
+     */
+    public CompletableFuture<String> deleteItemAsync(final String itemId) {
+        return getAsync(QueryJoins.deleteItemRequest(itemId));
+    }
+
+    /**
+     * Creates a BatchWriter that packs {@link #changeMultiplesColumnValues} calls
+     * into aliased multi-mutation requests, using the default batching limits.
+     *
+     * @return A new BatchWriter sending through this resource; close it to flush pending updates
+     */
+    public BatchWriter newBatchWriter() {
+        return BatchWriter.newBuilder(this).build();
+    }
+
+    /**
+     * Creates a WriteBehindBuffer merging the column writes made to the same item within 200ms
+     * into one {@link #changeMultiplesColumnValuesAsync} call.
+     *
+     * @return A new WriteBehindBuffer writing through this resource; close it to flush pending writes
+     */
+    public WriteBehindBuffer newWriteBehindBuffer() {
+        return WriteBehindBuffer.newBuilder(this).build();
     }
-}
\ No newline at end of file
+}
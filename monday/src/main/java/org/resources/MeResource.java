@@ -1,8 +1,10 @@
 package org.resources;
 
+import org.http.ApiClient;
 import org.query.QueryJoins;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class MeResource extends BaseResource{
 
@@ -10,8 +12,16 @@ public class MeResource extends BaseResource{
         super(token);
     }
 
+    public MeResource(String token, ApiClient apiClient) {
+        super(token, apiClient);
+    }
+
     public String getDetails()
             throws IOException, InterruptedException {
-        return get(QueryJoins.getCurrentUserDetails());
+        return get(QueryJoins.getCurrentUserDetailsRequest());
+    }
+
+    public CompletableFuture<String> getDetailsAsync() {
+        return getAsync(QueryJoins.getCurrentUserDetailsRequest());
     }
 }
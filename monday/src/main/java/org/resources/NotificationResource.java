@@ -1,8 +1,10 @@
 package org.resources;
 
+import org.http.ApiClient;
 import org.query.QueryJoins;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Provides functionality for managing and creating notifications within the application.
@@ -20,6 +22,16 @@ public class NotificationResource extends BaseResource {
         super(apiKey);
     }
 
+    /**
+     * Constructs a new instance of NotificationResource sharing the given client.
+     *
+     * @param apiKey    API authentication key for accessing the notification-related API operations
+     * @param apiClient shared transport used to reach the API
+     */
+    public NotificationResource(String apiKey, ApiClient apiClient) {
+        super(apiKey, apiClient);
+    }
+
     /**
      * Creates a notification based on the provided details and sends a request to the external API.
      *
@@ -32,6 +44,18 @@ public class NotificationResource extends BaseResource {
      */
     public String createNotification(String userId, String targetId, String text)
             throws IOException, InterruptedException {
-        return get(QueryJoins.createNotificationQuery(userId, targetId, text));
+        return get(QueryJoins.createNotificationRequest(userId, targetId, text));
+    }
+
+    /**
+     * Asynchronous variant of {@link #createNotification}.
+     *
+     * @param userId the unique identifier of the user creating the notification
+     * @param targetId the unique id of the element related to notification
+     * @param text the content of the notification message
+     * @return A future completing with the API response as a JSON string
+     */
+    public CompletableFuture<String> createNotificationAsync(String userId, String targetId, String text) {
+        return getAsync(QueryJoins.createNotificationRequest(userId, targetId, text));
     }
 }
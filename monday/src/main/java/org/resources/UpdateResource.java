@@ -1,8 +1,15 @@
 package org.resources;
 
+import org.http.ApiClient;
+import org.models.Item;
+import org.models.Responses;
+import org.models.Update;
 import org.query.QueryJoins;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class UpdateResource extends BaseResource {
 
@@ -10,18 +17,65 @@ public class UpdateResource extends BaseResource {
         super(api_key);
     }
 
+    public UpdateResource(String api_key, ApiClient apiClient) {
+        super(api_key, apiClient);
+    }
+
     public String createUpdate(String itemId, String updateValue)
             throws IOException, InterruptedException {
-        return get(QueryJoins.createUpdateQuery(itemId, updateValue));
+        return get(QueryJoins.createUpdateRequest(itemId, updateValue));
+    }
+
+    public CompletableFuture<String> createUpdateAsync(String itemId, String updateValue) {
+        return getAsync(QueryJoins.createUpdateRequest(itemId, updateValue));
     }
 
     public String fetchItemUpdates(String itemId, int limit)
             throws IOException, InterruptedException {
-        return get(QueryJoins.fetchItemUpdatesQuery(itemId, limit));
+        return get(QueryJoins.fetchItemUpdatesRequest(itemId, limit));
+    }
+
+    public CompletableFuture<String> fetchItemUpdatesAsync(String itemId, int limit) {
+        return getAsync(QueryJoins.fetchItemUpdatesRequest(itemId, limit));
+    }
+
+    public List<Update> fetchItemUpdateList(String itemId, int limit)
+            throws IOException, InterruptedException {
+        return get(QueryJoins.fetchItemUpdatesRequest(itemId, limit), Responses.itemUpdates());
+    }
+
+    /**
+     * Fetches the latest updates of several items in one request.
+     *
+     * @param itemIds IDs of the items, at most {@link ItemResource#MAX_ITEMS_PER_QUERY}
+     * @param limit   Maximum number of updates per item
+     * @return A future completing with every requested ID mapped to its updates, empty if no such item is visible
+     */
+    public CompletableFuture<Map<String, List<Update>>> fetchItemsUpdatesAsync(List<String> itemIds, int limit) {
+        ItemResource.requireBatchSize(itemIds);
+        return getAsync(QueryJoins.fetchItemsUpdatesRequest(itemIds, limit), Responses.items())
+                .thenApply(items -> ItemResource.byId(itemIds, items, Item::updates, List.of()));
+    }
+
+    /**
+     * Creates an IdBatcher merging the update lookups made within a few milliseconds of each other
+     * into one {@link #fetchItemsUpdatesAsync} request.
+     *
+     * @param limit Maximum number of updates per item
+     * @return A new IdBatcher loading through this resource; close it to flush pending lookups
+     */
+    public IdBatcher<List<Update>> newUpdatesBatcher(int limit) {
+        return IdBatcher.<List<Update>>newBuilder(itemIds -> fetchItemsUpdatesAsync(itemIds, limit))
+                .maxBatchSize(ItemResource.MAX_ITEMS_PER_QUERY)
+                .build();
     }
 
     public String deleteItemUpdate(String itemId)
             throws IOException, InterruptedException {
-        return get(QueryJoins.deleteItemUpdateQuery(itemId));
+        return get(QueryJoins.deleteUpdateRequest(itemId));
+    }
+
+    public CompletableFuture<String> deleteItemUpdateAsync(String itemId) {
+        return getAsync(QueryJoins.deleteUpdateRequest(itemId));
     }
 }
@@ -0,0 +1,318 @@
+package org.resources;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.models.Responses;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Collects the column writes made to the same item within a short window and sends them as one
+ * {@code change_multiple_column_values} mutation.
+ * <p>
+ * The first write to an item opens its window of {@link Builder#window(Duration)}. Writes to the same item
+ * until the window closes are merged into one column values object, a later write to a column replacing the
+ * earlier one. Every write receives a future completing with the response of the mutation that carried it,
+ * or failing with the error the API reported. Writes to different items are sent independently; the mutations
+ * of one item are sent one at a time, in order, each waiting for the previous one to be answered, retries
+ * included, so that a later write to a column always reaches the API last.
+ * <p>
+ * At most {@link Builder#maxBufferedWrites(int)} writes are held, counting those pending and those on the
+ * wire. A write arriving when the buffer is full sends every pending item at once and blocks until enough
+ * writes have been answered.
+ */
+public final class WriteBehindBuffer implements AutoCloseable {
+
+    private static final String CHANGE_MULTIPLE_COLUMN_VALUES = "change_multiple_column_values";
+
+    private final ItemResource resource;
+    private final Duration window;
+    private final int maxBufferedWrites;
+    private final BatchWindow batchWindow = new BatchWindow("WriteBehindBuffer", "monday-write-behind");
+
+    private final Object lock = new Object();
+    private final Map<ItemKey, PendingItem> pending = new LinkedHashMap<>();
+    private final Map<ItemKey, CompletableFuture<Void>> lastSent = new HashMap<>();
+    private int bufferedWrites;
+
+    private WriteBehindBuffer(final Builder builder) {
+        this.resource = builder.resource;
+        this.window = builder.window;
+        this.maxBufferedWrites = builder.maxBufferedWrites;
+    }
+
+    /**
+     * Creates a builder for a WriteBehindBuffer sending its mutations through the given resource.
+     *
+     * @param resource Resource used for the merged mutations
+     * @return A builder pre-populated with the default configuration
+     */
+    public static Builder newBuilder(final ItemResource resource) {
+        return new Builder(resource);
+    }
+
+    /**
+     * Queues a write of one column value, in the simple string form accepted by {@code change_simple_column_value}.
+     *
+     * @param boardId  ID of the board containing the item
+     * @param itemId   ID of the item to update
+     * @param columnId ID of the column to update
+     * @param value    New value to set for the column
+     * @return A future completing with the response of the mutation carrying this write, as a JSON string
+     * @throws InterruptedException  if interrupted while waiting for room in a full buffer
+     * @throws IllegalStateException if the buffer has been closed
+     */
+    public CompletableFuture<String> changeItemValue(
+            final String boardId,
+            final String itemId,
+            final String columnId,
+            final String value) throws InterruptedException {
+        Objects.requireNonNull(columnId, "Column ID cannot be null");
+        JsonObject columnValues = new JsonObject();
+        columnValues.addProperty(columnId, value);
+        return enqueue(boardId, itemId, columnValues);
+    }
+
+    /**
+     * Queues a write of several column values.
+     *
+     * @param boardId      ID of the board containing the item
+     * @param itemId       ID of the item to update
+     * @param columnValues JSON object text mapping column IDs to their new values
+     * @return A future completing with the response of the mutation carrying this write, as a JSON string
+     * @throws InterruptedException  if interrupted while waiting for room in a full buffer
+     * @throws IllegalStateException if the buffer has been closed
+     */
+    public CompletableFuture<String> changeMultiplesColumnValues(
+            final String boardId,
+            final String itemId,
+            final String columnValues) throws InterruptedException {
+        Objects.requireNonNull(columnValues, "Column values cannot be null");
+        return enqueue(boardId, itemId, JsonParser.parseString(columnValues).getAsJsonObject());
+    }
+
+    /**
+     * Sends every pending item now, without waiting for its window to close.
+     *
+     * @return A future completing once the flushed writes have been answered
+     */
+    public CompletableFuture<Void> flush() {
+        List<PendingItem> ready;
+        synchronized (lock) {
+            ready = takePending();
+        }
+        return CompletableFuture.allOf(ready.stream().map(this::send).toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * @return Number of writes not answered yet, pending or on the wire
+     */
+    public int bufferedWrites() {
+        synchronized (lock) {
+            return bufferedWrites;
+        }
+    }
+
+    /**
+     * Flushes the pending writes, waits for every mutation still on the wire and stops the window timer.
+     */
+    @Override
+    public void close() {
+        batchWindow.close(this::flush);
+    }
+
+    private CompletableFuture<String> enqueue(
+            final String boardId,
+            final String itemId,
+            final JsonObject columnValues) throws InterruptedException {
+        ItemKey key = new ItemKey(
+                Objects.requireNonNull(boardId, "Board ID cannot be null"),
+                Objects.requireNonNull(itemId, "Item ID cannot be null"));
+        CompletableFuture<String> result = new CompletableFuture<>();
+        while (true) {
+            List<PendingItem> ready;
+            synchronized (lock) {
+                batchWindow.requireOpen();
+                if (bufferedWrites < maxBufferedWrites) {
+                    PendingItem item = pending.get(key);
+                    if (item == null) {
+                        item = new PendingItem(key);
+                        pending.put(key, item);
+                        PendingItem scheduled = item;
+                        batchWindow.schedule(() -> flush(scheduled), window);
+                    }
+                    for (Map.Entry<String, JsonElement> entry : columnValues.entrySet()) {
+                        item.columnValues.add(entry.getKey(), entry.getValue());
+                    }
+                    item.results.add(result);
+                    bufferedWrites++;
+                    return result.copy();
+                }
+                if (pending.isEmpty()) {
+                    lock.wait();
+                    continue;
+                }
+                ready = takePending();
+            }
+            ready.forEach(this::send);
+        }
+    }
+
+    private void flush(final PendingItem item) {
+        synchronized (lock) {
+            if (pending.get(item.key) != item) {
+                return;
+            }
+            pending.remove(item.key);
+            take(item);
+        }
+        send(item);
+    }
+
+    /**
+     * Removes every pending item, to be sent by the caller once it releases the lock.
+     */
+    private List<PendingItem> takePending() {
+        List<PendingItem> ready = new ArrayList<>(pending.values());
+        pending.clear();
+        ready.forEach(this::take);
+        return ready;
+    }
+
+    /**
+     * Queues the item's mutation behind the previous one of the same item; called under the lock,
+     * in the order the items leave {@code pending}.
+     */
+    private void take(final PendingItem item) {
+        item.previous = lastSent.put(item.key, item.answered);
+    }
+
+    private CompletableFuture<Void> send(final PendingItem item) {
+        CompletableFuture<Void> sent = item.previous == null
+                ? mutate(item)
+                : item.previous.thenCompose(ignored -> mutate(item));
+        batchWindow.track(sent);
+        sent.whenComplete((ignored, error) -> {
+            synchronized (lock) {
+                lastSent.remove(item.key, item.answered);
+            }
+            item.answered.complete(null);
+        });
+        return sent;
+    }
+
+    private CompletableFuture<Void> mutate(final PendingItem item) {
+        return BatchWindow.start(() -> resource.changeMultiplesColumnValuesAsync(item.key.boardId(),
+                                item.key.itemId(), item.columnValues.toString())
+                        .handle((body, error) -> {
+                            Throwable failure = error != null ? error : errorIn(body);
+                            for (CompletableFuture<String> result : item.results) {
+                                if (failure != null) {
+                                    result.completeExceptionally(failure);
+                                } else {
+                                    result.complete(body);
+                                }
+                            }
+                            release(item.results.size());
+                            return null;
+                        }),
+                e -> {
+                    item.results.forEach(result -> result.completeExceptionally(e));
+                    release(item.results.size());
+                });
+    }
+
+    private void release(final int writes) {
+        synchronized (lock) {
+            bufferedWrites -= writes;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * @return The error the API reported instead of the changed item, or null if the item was changed
+     */
+    private static IOException errorIn(final String body) {
+        try {
+            Responses.mutatedItem(CHANGE_MULTIPLE_COLUMN_VALUES)
+                    .decode(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+            return null;
+        } catch (IOException e) {
+            return e;
+        } catch (RuntimeException e) {
+            return new IOException("Malformed response to change_multiple_column_values", e);
+        }
+    }
+
+    private record ItemKey(String boardId, String itemId) { }
+
+    private static final class PendingItem {
+        private final ItemKey key;
+        private final JsonObject columnValues = new JsonObject();
+        private final List<CompletableFuture<String>> results = new ArrayList<>();
+        private final CompletableFuture<Void> answered = new CompletableFuture<>();
+        private CompletableFuture<Void> previous;
+
+        private PendingItem(final ItemKey key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Builder for {@link WriteBehindBuffer} instances.
+     */
+    public static final class Builder {
+
+        private final ItemResource resource;
+        private Duration window = Duration.ofMillis(200);
+        private int maxBufferedWrites = 10_000;
+
+        private Builder(final ItemResource resource) {
+            this.resource = Objects.requireNonNull(resource, "Resource cannot be null");
+        }
+
+        /**
+         * @param window Time the writes to an item are collected for after its first pending write, defaults to 200ms
+         * @return This builder
+         */
+        public Builder window(final Duration window) {
+            Objects.requireNonNull(window, "Window cannot be null");
+            if (window.isNegative() || window.isZero()) {
+                throw new IllegalArgumentException("Window must be positive");
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * @param maxBufferedWrites Number of unanswered writes beyond which new writes block, defaults to 10,000
+         * @return This builder
+         * @throws IllegalArgumentException if maxBufferedWrites is lower than 1
+         */
+        public Builder maxBufferedWrites(final int maxBufferedWrites) {
+            if (maxBufferedWrites < 1) {
+                throw new IllegalArgumentException("Max buffered writes must be at least 1");
+            }
+            this.maxBufferedWrites = maxBufferedWrites;
+            return this;
+        }
+
+        /**
+         * @return A new WriteBehindBuffer
+         */
+        public WriteBehindBuffer build() {
+            return new WriteBehindBuffer(this);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package org.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApiClientRetryTest {
+
+    private static final String QUERY = "query { me { id } }";
+    private static final String MUTATION = "mutation { archive_item (item_id: 1) { id } }";
+    private static final String OK = "{\"data\":{\"me\":{\"id\":\"1\"}}}";
+
+    private ScriptedServer server;
+    private ApiClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new ScriptedServer();
+        client = ApiClient.newBuilder()
+                .endpoint(server.endpoint())
+                .retryPolicy(RetryPolicy.newBuilder()
+                        .maxAttempts(3)
+                        .baseDelay(Duration.ofMillis(1))
+                        .maxDelay(Duration.ofMillis(5))
+                        .maxTotalTime(Duration.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    void testSend_RetriesServerErrorsUntilSuccess() throws IOException, InterruptedException {
+        // Arrange
+        server.then(ScriptedServer.Response.of(503, "unavailable"))
+                .then(ScriptedServer.Response.of(502, "bad gateway"))
+                .then(ScriptedServer.Response.of(200, OK));
+
+        // Act
+        String result = client.send("token", QUERY, Priority.NORMAL);
+
+        // Assert
+        assertEquals(OK, result);
+        assertEquals(3, server.requests().size());
+        assertEquals(2, client.retryStats().retries());
+        assertEquals(0, client.retryStats().giveUps());
+    }
+
+    @Test
+    void testSend_GivesUpAfterMaxAttempts() {
+        // Arrange
+        server.otherwise(ScriptedServer.Response.of(500, "boom"));
+
+        // Act
+        MondayApiException error = assertThrows(MondayApiException.class,
+                () -> client.send("token", QUERY, Priority.NORMAL));
+
+        // Assert
+        assertEquals(500, error.statusCode());
+        assertEquals("boom", error.body());
+        assertEquals(3, server.requests().size());
+        assertEquals(1, client.retryStats().giveUps());
+    }
+
+    @Test
+    void testSend_GivesUpWhenRetryAfterExceedsTotalTime() {
+        // Arrange
+        server.then(new ScriptedServer.Response(429, Map.of("Retry-After", "60"), "slow down"));
+
+        // Act
+        MondayApiException error = assertThrows(MondayApiException.class,
+                () -> client.send("token", QUERY, Priority.NORMAL));
+
+        // Assert
+        assertEquals(429, error.statusCode());
+        assertEquals(1, server.requests().size());
+        assertEquals(1, client.retryStats().giveUps());
+    }
+
+    @Test
+    void testSend_HonoursRetryAfter() throws IOException, InterruptedException {
+        // Arrange
+        server.then(new ScriptedServer.Response(429, Map.of("Retry-After", "1"), "slow down"))
+                .then(ScriptedServer.Response.of(200, OK));
+        long start = System.nanoTime();
+
+        // Act
+        String result = client.send("token", QUERY, Priority.NORMAL);
+
+        // Assert
+        assertEquals(OK, result);
+        assertTrue(System.nanoTime() - start >= Duration.ofSeconds(1).toNanos());
+    }
+
+    @Test
+    void testSend_DoesNotRetryMutationsByDefault() {
+        // Arrange
+        server.otherwise(ScriptedServer.Response.of(503, "unavailable"));
+
+        // Act
+        assertThrows(MondayApiException.class, () -> client.send("token", MUTATION, Priority.NORMAL));
+
+        // Assert
+        assertEquals(1, server.requests().size());
+        assertEquals(0, client.retryStats().retries());
+    }
+
+    @Test
+    void testSend_DoesNotRetryClientErrors() {
+        // Arrange
+        server.otherwise(ScriptedServer.Response.of(401, "unauthorized"));
+
+        // Act
+        MondayApiException error = assertThrows(MondayApiException.class,
+                () -> client.send("token", QUERY, Priority.NORMAL));
+
+        // Assert
+        assertEquals(401, error.statusCode());
+        assertEquals(1, server.requests().size());
+    }
+
+    @Test
+    void testSendAsync_RetriesWithoutBlocking() {
+        // Arrange
+        server.then(ScriptedServer.Response.of(504, "timeout"))
+                .then(ScriptedServer.Response.of(200, OK));
+
+        // Act
+        String result = client.sendAsync("token", QUERY, Priority.NORMAL).join();
+
+        // Assert
+        assertEquals(OK, result);
+        assertEquals(1, client.retryStats().retries());
+    }
+
+    @Test
+    void testSendAsync_FailsWithApiException() {
+        // Arrange
+        server.otherwise(ScriptedServer.Response.of(503, "unavailable"));
+
+        // Act
+        CompletionException error = assertThrows(CompletionException.class,
+                () -> client.sendAsync("token", QUERY, Priority.NORMAL).join());
+
+        // Assert
+        assertTrue(error.getCause() instanceof MondayApiException);
+        assertEquals(3, server.requests().size());
+    }
+}
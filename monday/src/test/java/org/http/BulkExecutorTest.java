@@ -0,0 +1,73 @@
+package org.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkExecutorTest {
+
+    @Test
+    void testInvokeAll_ReturnsResultsInCallOrder() throws IOException, InterruptedException {
+        // Arrange
+        BulkExecutor executor = new BulkExecutor(3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<ResourceCall<Integer>> calls = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int value = i;
+            calls.add(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20 - value);
+                running.decrementAndGet();
+                return value;
+            });
+        }
+
+        // Act
+        List<Integer> results = executor.invokeAll(calls);
+
+        // Assert
+        for (int i = 0; i < 20; i++) {
+            assertEquals(Integer.valueOf(i), results.get(i));
+        }
+        assertTrue(peak.get() <= 3);
+    }
+
+    @Test
+    void testInvokeAll_StopsStartingCallsAfterAFailure() {
+        // Arrange
+        BulkExecutor executor = new BulkExecutor(2);
+        AtomicInteger started = new AtomicInteger();
+        List<ResourceCall<String>> calls = new ArrayList<>();
+        calls.add(() -> {
+            started.incrementAndGet();
+            Thread.sleep(60_000);
+            return "slow";
+        });
+        calls.add(() -> {
+            started.incrementAndGet();
+            throw new IOException("Failed");
+        });
+        for (int i = 0; i < 1_000; i++) {
+            calls.add(() -> {
+                started.incrementAndGet();
+                Thread.sleep(60_000);
+                return "later";
+            });
+        }
+
+        // Act
+        IOException failure = assertThrows(IOException.class, () -> executor.invokeAll(calls));
+
+        // Assert
+        assertEquals("Failed", failure.getMessage());
+        assertTrue(started.get() <= 2, "Calls started: " + started.get());
+    }
+}
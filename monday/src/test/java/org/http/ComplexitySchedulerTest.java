@@ -0,0 +1,85 @@
+package org.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComplexitySchedulerTest {
+
+    @Test
+    void testInstrument_AddsComplexityAsFirstRootField() {
+        // Arrange
+        ComplexityScheduler scheduler = new ComplexityScheduler(1_000, 10);
+
+        // Act
+        String result = scheduler.instrument("query ($ids: [ID!]) { items(ids: $ids) { id } }");
+
+        // Assert
+        assertEquals("query ($ids: [ID!]) { " + ComplexityScheduler.COMPLEXITY_FIELD + "  items(ids: $ids) { id } }", result);
+        assertEquals(result, scheduler.instrument(result));
+        scheduler.close();
+    }
+
+    @Test
+    void testOperationKey_UsesFieldNameBehindAlias() {
+        assertEquals("items", ComplexityScheduler.operationKey("query { items(ids: 1) { id } }"));
+        assertEquals("change_multiple_column_values",
+                ComplexityScheduler.operationKey("mutation {\n u1: change_multiple_column_values (board_id: 1) { id } }"));
+    }
+
+    @Test
+    void testAcquire_AdmitsQueuedRequestsByPriority() {
+        // Arrange
+        ComplexityScheduler scheduler = new ComplexityScheduler(100, 60);
+        ComplexityScheduler.Ticket first = scheduler.acquire("query { items { id } }", Priority.NORMAL).join();
+
+        // Act
+        CompletableFuture<ComplexityScheduler.Ticket> low = scheduler.acquire("query { items { id } }", Priority.LOW);
+        CompletableFuture<ComplexityScheduler.Ticket> high = scheduler.acquire("query { items { id } }", Priority.HIGH);
+        assertEquals(2, scheduler.queued());
+        scheduler.release(first);
+
+        // Assert
+        assertTrue(high.isDone());
+        assertFalse(low.isDone());
+        scheduler.close();
+        assertTrue(low.isCompletedExceptionally());
+    }
+
+    @Test
+    void testComplete_LearnsCostAndClampsToReportedBudget() {
+        // Arrange
+        ComplexityScheduler scheduler = new ComplexityScheduler(1_000_000, 5_000);
+        ComplexityScheduler.Ticket ticket = scheduler.acquire("query { boards { id } }", Priority.NORMAL).join();
+
+        // Act
+        scheduler.complete(ticket, """
+                {"data":{"complexity":{"before":20000,"after":19000,"reset_in_x_seconds":30},"boards":[]}}""");
+
+        // Assert
+        assertTrue(scheduler.available() <= 19_000);
+        ComplexityScheduler.Ticket next = scheduler.acquire("query { boards { id } }", Priority.NORMAL).join();
+        assertTrue(next.estimate() < 5_000);
+        scheduler.close();
+    }
+
+    @Test
+    void testComplete_CheaperThanEstimatedNeverExceedsBudget() throws InterruptedException {
+        // Arrange
+        ComplexityScheduler scheduler = new ComplexityScheduler(1_000_000, 5_000);
+        ComplexityScheduler.Ticket ticket = scheduler.acquire("query { boards { id } }", Priority.NORMAL).join();
+        Thread.sleep(50);
+
+        // Act
+        scheduler.complete(ticket, """
+                {"data":{"complexity":{"before":10000000,"after":10000000,"reset_in_x_seconds":30},"boards":[]}}""");
+
+        // Assert
+        assertEquals(1_000_000, scheduler.available());
+        scheduler.close();
+    }
+}
@@ -0,0 +1,110 @@
+package org.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.models.Item;
+import org.models.Responses;
+import org.query.QueryJoins;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressionTest {
+
+    private static final String ITEMS = "{\"data\":{\"items\":[" + "{\"id\":\"1\",\"name\":\"First\"},".repeat(200)
+            + "{\"id\":\"2\",\"name\":\"Last\"}]}}";
+
+    private ScriptedServer server;
+    private ApiClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new ScriptedServer();
+        client = ApiClient.newBuilder().endpoint(server.endpoint()).compressResponses().compressRequestsOver(1024)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    void testSend_InflatesGzipResponseAsItIsRead() throws IOException, InterruptedException {
+        // Arrange
+        server.then(new ScriptedServer.Response(200, Map.of("Content-Encoding", "gzip"), ITEMS));
+
+        // Act
+        List<Item> items = client.send("token", QueryJoins.fetchItemByIdRequest("1"), Priority.NORMAL,
+                Responses.items());
+
+        // Assert
+        assertEquals(201, items.size());
+        assertEquals("Last", items.get(200).name());
+        assertEquals("gzip, deflate", server.requestHeaders().get(0).getFirst("Accept-Encoding"));
+        assertEquals(ITEMS.length(), client.compressionStats().responseBytes());
+        assertTrue(client.compressionStats().responseWireBytes() < ITEMS.length() / 10);
+    }
+
+    @Test
+    void testDecode_CorruptGzipHeaderFailsEveryRead() throws IOException {
+        // Arrange
+        HttpHeaders headers = HttpHeaders.of(Map.of("Content-Encoding", List.of("gzip")), (name, value) -> true);
+        byte[] corrupt = "not gzip at all".getBytes(StandardCharsets.UTF_8);
+        InputStream body = new Compression(true, 0)
+                .decode(new Transport.Response(200, headers, new ByteArrayInputStream(corrupt))).body();
+
+        // Act
+        IOException first = assertThrows(IOException.class, body::read);
+        IOException second = assertThrows(IOException.class, body::read);
+        IOException third = assertThrows(IOException.class, body::available);
+        body.close();
+
+        // Assert
+        assertSame(first, second.getCause());
+        assertSame(first, third.getCause());
+    }
+
+    @Test
+    void testSendAsync_ReadsUncompressedResponseAsBefore() {
+        // Arrange
+        server.then(ScriptedServer.Response.of(200, ITEMS));
+
+        // Act
+        List<Item> items = client.sendAsync("token", QueryJoins.fetchItemByIdRequest("1"), Priority.NORMAL,
+                Responses.items()).join();
+
+        // Assert
+        assertEquals(201, items.size());
+        assertEquals(client.compressionStats().responseBytes(), client.compressionStats().responseWireBytes());
+    }
+
+    @Test
+    void testSend_GzipsOnlyRequestBodiesOverTheThreshold() throws IOException, InterruptedException {
+        // Arrange
+        String large = "x".repeat(2048);
+
+        // Act
+        client.send("token", QueryJoins.fetchItemByIdRequest("1"), Priority.NORMAL);
+        client.send("token", QueryJoins.fetchItemByIdRequest(large), Priority.NORMAL);
+
+        // Assert
+        assertNull(server.requestHeaders().get(0).getFirst("Content-Encoding"));
+        assertEquals("gzip", server.requestHeaders().get(1).getFirst("Content-Encoding"));
+        assertTrue(server.requests().get(1).contains(large));
+        assertTrue(client.compressionStats().requestWireBytes() < client.compressionStats().requestBytes());
+    }
+}
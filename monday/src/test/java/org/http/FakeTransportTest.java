@@ -0,0 +1,108 @@
+package org.http;
+
+import org.junit.jupiter.api.Test;
+import org.models.Item;
+import org.models.Responses;
+import org.query.QueryJoins;
+import org.resources.ItemResource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FakeTransportTest {
+
+    private static final String ITEMS = "{\"data\":{\"items\":[{\"id\":\"1\",\"name\":\"First\"}]}}";
+
+    @Test
+    void testResource_SendsThroughTheTransportWithoutNetwork() throws IOException, InterruptedException {
+        // Arrange
+        FakeTransport transport = FakeTransport.newBuilder()
+                .respond(body -> body.contains("FetchItemById") ? ITEMS : FakeTransport.DEFAULT_BODY)
+                .build();
+
+        try (ApiClient client = ApiClient.newBuilder().transport(transport).build()) {
+            ItemResource items = new ItemResource("token", client);
+
+            // Act
+            String body = items.fetchItemById("1");
+            List<Item> decoded = client.sendAsync("token", QueryJoins.fetchItemByIdRequest("1"), Priority.NORMAL,
+                    Responses.items()).join();
+
+            // Assert
+            assertEquals(ITEMS, body);
+            assertEquals("First", decoded.get(0).name());
+            assertEquals(2, transport.exchanges());
+        }
+    }
+
+    @Test
+    void testSend_RetriesScriptedFailuresAndDisconnects() throws IOException, InterruptedException {
+        // Arrange
+        FakeTransport transport = FakeTransport.newBuilder()
+                .respond(ITEMS)
+                .latency(Duration.ofMillis(1), Duration.ofMillis(2))
+                .disconnectEvery(2)
+                .failEvery(3, 503)
+                .build();
+        ApiClient client = ApiClient.newBuilder()
+                .transport(transport)
+                .retryPolicy(RetryPolicy.newBuilder()
+                        .maxAttempts(4)
+                        .baseDelay(Duration.ofMillis(1))
+                        .maxDelay(Duration.ofMillis(5))
+                        .build())
+                .build();
+
+        // Act
+        String first = client.send("token", QueryJoins.fetchItemByIdRequest("1"), Priority.NORMAL);
+        CompletableFuture<String> second = client.sendAsync("token", QueryJoins.fetchItemByIdRequest("1"),
+                Priority.NORMAL);
+
+        // Assert
+        assertEquals(ITEMS, first);
+        assertEquals(ITEMS, second.join());
+        assertEquals(5, transport.exchanges());
+        assertEquals(3, client.retryStats().retries());
+        client.close();
+    }
+
+    @Test
+    void testSend_ReportsAndEnforcesComplexityBudget() throws IOException, InterruptedException {
+        // Arrange
+        FakeTransport transport = FakeTransport.newBuilder()
+                .respond(ITEMS)
+                .complexityBudget(10_000, 4_000)
+                .build();
+        Transport.Request request = new Transport.Request(URI.create("http://localhost/v2/"), Map.of(),
+                "{\"query\":\"query { complexity { before after reset_in_x_seconds } items { id } }\"}"
+                        .getBytes(StandardCharsets.UTF_8), null);
+
+        // Act
+        Transport.Response first = transport.send(request);
+        transport.send(request);
+        Transport.Response exhausted = transport.send(request);
+
+        // Assert
+        String body = new String(first.body().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(body.startsWith("{\"data\":{\"complexity\":{\"before\":10000,\"after\":6000,\"reset_in_x_seconds\":"));
+        assertTrue(body.endsWith("\"items\":[{\"id\":\"1\",\"name\":\"First\"}]}}"));
+        assertEquals(429, exhausted.statusCode());
+        assertTrue(exhausted.headers().firstValue("Retry-After").isPresent());
+        assertTrue(new String(exhausted.body().readAllBytes(), StandardCharsets.UTF_8)
+                .contains("COMPLEXITY_BUDGET_EXHAUSTED"));
+    }
+
+    @Test
+    void testBuilder_RejectsNonErrorFailureStatus() {
+        assertThrows(IllegalArgumentException.class, () -> FakeTransport.newBuilder().failEvery(10, 200));
+    }
+}
@@ -0,0 +1,79 @@
+package org.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InFlightLimiterTest {
+
+    @Test
+    void testSubmit_QueuesTasksAboveTheCap() {
+        // Arrange
+        InFlightLimiter limiter = new InFlightLimiter(2);
+        List<CompletableFuture<String>> exchanges = new ArrayList<>();
+        List<CompletableFuture<String>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            results.add(limiter.submit(() -> {
+                CompletableFuture<String> exchange = new CompletableFuture<>();
+                exchanges.add(exchange);
+                return exchange;
+            }));
+        }
+
+        // Assert
+        assertEquals(2, exchanges.size());
+        assertEquals(2, limiter.inFlight());
+        assertEquals(3, limiter.queued());
+
+        exchanges.get(0).complete("first");
+        assertEquals("first", results.get(0).join());
+        assertEquals(3, exchanges.size());
+        assertEquals(2, limiter.inFlight());
+    }
+
+    @Test
+    void testSubmit_DrainsLongQueueOfInlineCompletionsWithoutRecursing() {
+        // Arrange
+        InFlightLimiter limiter = new InFlightLimiter(1);
+        CompletableFuture<String> first = new CompletableFuture<>();
+        limiter.submit(() -> first);
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            results.add(limiter.submit(() -> CompletableFuture.completedFuture("done")));
+        }
+
+        // Act
+        first.complete("first");
+
+        // Assert
+        assertTrue(results.stream().allMatch(result -> "done".equals(result.join())));
+        assertEquals(0, limiter.inFlight());
+        assertEquals(0, limiter.queued());
+    }
+
+    @Test
+    void testSubmit_PropagatesFailuresAndReleasesTheSlot() {
+        // Arrange
+        InFlightLimiter limiter = new InFlightLimiter(1);
+
+        // Act
+        CompletableFuture<String> failed = limiter.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<String> next = limiter.submit(() -> CompletableFuture.completedFuture("ok"));
+
+        // Assert
+        assertTrue(failed.isCompletedExceptionally());
+        assertFalse(next.isCompletedExceptionally());
+        assertEquals("ok", next.join());
+        assertEquals(0, limiter.inFlight());
+    }
+}
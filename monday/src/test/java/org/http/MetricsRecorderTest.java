@@ -0,0 +1,81 @@
+package org.http;
+
+import org.junit.jupiter.api.Test;
+import org.query.QueryJoins;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsRecorderTest {
+
+    private static final String ITEMS = "{\"data\":{\"items\":[{\"id\":\"1\",\"name\":\"First\"}]}}";
+    private static final String FAILURE = "{\"error_message\":\"Scripted failure\",\"status_code\":503}";
+
+    @Test
+    void testSend_RecordsCallsAttemptsAndSpansPerOperation() throws IOException, InterruptedException {
+        // Arrange
+        List<MetricsRecorder.Span> spans = new CopyOnWriteArrayList<>();
+        MetricsRecorder metrics = MetricsRecorder.newBuilder().traceSpans(spans::add).build();
+        FakeTransport transport = FakeTransport.newBuilder()
+                .respond(ITEMS)
+                .failEvery(2, 503)
+                .build();
+        ApiClient client = ApiClient.newBuilder()
+                .transport(transport)
+                .instrumentation(metrics)
+                .retryPolicy(RetryPolicy.newBuilder()
+                        .maxAttempts(3)
+                        .baseDelay(Duration.ofMillis(1))
+                        .maxDelay(Duration.ofMillis(5))
+                        .build())
+                .build();
+
+        // Act
+        client.send("token", QueryJoins.fetchItemByIdRequest("1"), Priority.NORMAL);
+        client.sendAsync("token", QueryJoins.fetchItemByIdRequest("1"), Priority.NORMAL).join();
+        client.close();
+
+        // Assert
+        OperationStats stats = metrics.operation("FetchItemById");
+        assertEquals(2, stats.calls());
+        assertEquals(0, stats.failures());
+        assertEquals(0, metrics.inFlight());
+        assertEquals(3, stats.attempts());
+        assertEquals(1, stats.retries());
+        assertEquals(Map.of(200, 2L, 503, 1L), stats.statusCodes());
+        assertEquals(2L * ITEMS.length() + FAILURE.length(), stats.responseBytes());
+        assertTrue(stats.requestBytes() > 0);
+        assertEquals(2, stats.latency().count());
+        assertEquals(3, stats.attemptLatency().count());
+        assertTrue(stats.latency().valueAtPercentile(100) >= stats.attemptLatency().valueAtPercentile(0));
+        assertEquals(2, spans.size());
+        assertEquals(2, spans.get(1).attempts().size());
+        assertEquals(503, spans.get(1).attempts().get(0).statusCode());
+        assertNull(spans.get(1).error());
+    }
+
+    @Test
+    void testValueAtPercentile_StaysWithinBucketPrecision() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        // Assert
+        assertEquals(10_000, histogram.count());
+        assertEquals(10_000_000, histogram.max());
+        assertEquals(5_000_000, histogram.valueAtPercentile(50), 5_000_000 / 64.0);
+        assertEquals(9_900_000, histogram.valueAtPercentile(99), 9_900_000 / 64.0);
+        assertEquals(10_000_000, histogram.valueAtPercentile(100));
+    }
+}
@@ -0,0 +1,157 @@
+package org.http;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.models.Item;
+import org.models.Responses;
+import org.query.QueryJoins;
+import org.query.QueryRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistedQueriesTest {
+
+    private static final String ITEMS = "{\"data\":{\"items\":[{\"id\":\"1\",\"name\":\"First\"}]}}";
+    private static final String NOT_FOUND = """
+            {"errors":[{"message":"PersistedQueryNotFound","extensions":{"code":"PERSISTED_QUERY_NOT_FOUND"}}]}""";
+    private static final String NOT_SUPPORTED = """
+            {"errors":[{"message":"PersistedQueryNotSupported","extensions":{"code":"PERSISTED_QUERY_NOT_SUPPORTED"}}]}""";
+
+    private ScriptedServer server;
+    private ApiClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new ScriptedServer();
+        client = ApiClient.newBuilder().endpoint(server.endpoint()).persistedQueries().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    void testSend_RegistersOnMissThenSendsOnlyTheHash() throws IOException, InterruptedException {
+        // Arrange
+        server.otherwise(new ApqStub()::answer);
+        QueryRequest request = QueryJoins.fetchItemByIdRequest("1");
+
+        // Act
+        List<Item> first = client.send("token", request, Priority.NORMAL, Responses.items());
+        client.send("token", request, Priority.NORMAL, Responses.items());
+        List<Item> third = client.sendAsync("token", request, Priority.NORMAL, Responses.items()).join();
+
+        // Assert
+        assertEquals("First", first.get(0).name());
+        assertEquals("First", third.get(0).name());
+        assertEquals(4, server.requests().size());
+        assertFalse(parse(server.requests().get(0)).has("query"));
+        assertTrue(parse(server.requests().get(1)).has("query"));
+        assertFalse(parse(server.requests().get(3)).has("query"));
+        assertEquals(2, client.persistedQueryStats().hits());
+        assertEquals(1, client.persistedQueryStats().misses());
+    }
+
+    @Test
+    void testSend_ReducesRequestBytesOnceRegistered() throws IOException, InterruptedException {
+        // Arrange
+        server.otherwise(new ApqStub()::answer);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            client.send("token", QueryJoins.fetchBoardItemsRequest(String.valueOf(i % 3)), Priority.NORMAL);
+        }
+
+        // Assert
+        PersistedQueryStats stats = client.persistedQueryStats();
+        assertEquals(19, stats.hits());
+        assertTrue(stats.requestBytes() * 2 < stats.fullRequestBytes(),
+                stats.requestBytes() + " bytes sent for " + stats.fullRequestBytes() + " bytes of full requests");
+    }
+
+    @Test
+    void testSend_RemembersEndpointsWithoutSupport() throws IOException, InterruptedException {
+        // Arrange
+        server.then(ScriptedServer.Response.of(200, NOT_SUPPORTED)).otherwise(ScriptedServer.Response.of(200, ITEMS));
+        QueryRequest request = QueryJoins.fetchItemByIdRequest("1");
+
+        // Act
+        client.send("token", request, Priority.NORMAL);
+        client.send("token", request, Priority.NORMAL);
+
+        // Assert
+        assertEquals(3, server.requests().size());
+        assertFalse(server.requests().get(1).contains("persistedQuery"));
+        assertFalse(server.requests().get(2).contains("persistedQuery"));
+    }
+
+    @Test
+    void testSend_SendsAnonymousQueriesInFull() throws IOException, InterruptedException {
+        // Arrange
+        server.otherwise(ScriptedServer.Response.of(200, ITEMS));
+
+        // Act
+        client.send("token", QueryJoins.fetchItemByIdQuery("1"), Priority.NORMAL);
+
+        // Assert
+        assertEquals(1, server.requests().size());
+        assertFalse(server.requests().get(0).contains("persistedQuery"));
+        assertEquals(0, client.persistedQueryStats().hits() + client.persistedQueryStats().misses());
+    }
+
+    private static JsonObject parse(final String body) {
+        return JsonParser.parseString(body).getAsJsonObject();
+    }
+
+    /**
+     * Server side of the automatic persisted query handshake, answering every known query with {@link #ITEMS}.
+     */
+    private static final class ApqStub {
+
+        private final Map<String, String> documents = new ConcurrentHashMap<>();
+
+        ScriptedServer.Response answer(final String body) {
+            JsonObject request = parse(body);
+            if (!request.has("extensions")) {
+                return ScriptedServer.Response.of(200, ITEMS);
+            }
+            String hash = request.getAsJsonObject("extensions").getAsJsonObject("persistedQuery")
+                    .get("sha256Hash").getAsString();
+            if (request.has("query")) {
+                String query = request.get("query").getAsString();
+                if (!sha256(query).equals(hash)) {
+                    return ScriptedServer.Response.of(400, "{\"errors\":[{\"message\":\"provided sha does not match query\"}]}");
+                }
+                documents.put(hash, query);
+            }
+            return documents.containsKey(hash)
+                    ? ScriptedServer.Response.of(200, ITEMS)
+                    : ScriptedServer.Response.of(200, NOT_FOUND);
+        }
+
+        private static String sha256(final String query) {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                        .digest(query.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.http;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+import org.query.QueryJoins;
+import org.query.QueryRequest;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RequestBodiesTest {
+
+    @Test
+    void testQuery_EscapesAndEncodesAsUtf8() {
+        // Arrange
+        String query = "mutation {\n\tcreate_update (body: \"Café \\\\ — 🚀\u0001 \") { id }\r\n}";
+
+        // Act
+        byte[] body = RequestBodies.query(query);
+
+        // Assert
+        JsonObject parsed = JsonParser.parseString(new String(body, StandardCharsets.UTF_8)).getAsJsonObject();
+        assertEquals(query, parsed.get("query").getAsString());
+        assertEquals(1, parsed.size());
+    }
+
+    @Test
+    void testQuery_WritesPlainQueriesVerbatim() {
+        // Act
+        byte[] body = RequestBodies.query("query { me { id } }");
+
+        // Assert
+        assertEquals("{\"query\":\"query { me { id } }\"}", new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testOf_WritesOperationNameAndVariables() {
+        // Arrange
+        QueryRequest request = QueryJoins.getItemRequest("10", "status", "Done \"now\"");
+
+        // Act
+        byte[] body = RequestBodies.of(request);
+
+        // Assert
+        JsonObject parsed = JsonParser.parseString(new String(body, StandardCharsets.UTF_8)).getAsJsonObject();
+        assertEquals(request.query(), parsed.get("query").getAsString());
+        assertEquals("ItemsByColumnValue", parsed.get("operationName").getAsString());
+        JsonObject column = parsed.getAsJsonObject("variables").getAsJsonArray("columns").get(0).getAsJsonObject();
+        assertEquals("Done \"now\"", column.getAsJsonArray("column_values").get(0).getAsString());
+        assertEquals("10", parsed.getAsJsonObject("variables").get("boardId").getAsString());
+    }
+
+    @Test
+    void testOf_WritesNumbersBooleansAndNulls() {
+        // Arrange
+        QueryRequest request = QueryRequest.newBuilder("Op", "query Op { me { id } }")
+                .variable("limit", 25)
+                .variable("flag", false)
+                .variable("cursor", null)
+                .build();
+
+        // Act
+        String body = new String(RequestBodies.of(request), StandardCharsets.UTF_8);
+
+        // Assert
+        assertEquals("{\"query\":\"query Op { me { id } }\",\"operationName\":\"Op\","
+                + "\"variables\":{\"limit\":25,\"flag\":false,\"cursor\":null}}", body);
+    }
+}
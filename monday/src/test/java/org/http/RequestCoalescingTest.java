@@ -0,0 +1,124 @@
+package org.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.models.Item;
+import org.models.Responses;
+import org.query.QueryJoins;
+import org.query.QueryRequest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestCoalescingTest {
+
+    private static final String ITEMS = "{\"data\":{\"items\":[{\"id\":\"1\",\"name\":\"Hot item\"}]}}";
+
+    private ScriptedServer server;
+    private ApiClient client;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new ScriptedServer().otherwise(request -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ScriptedServer.Response.of(200, ITEMS);
+        });
+        client = ApiClient.newBuilder().endpoint(server.endpoint()).coalesceReads().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        client.close();
+        server.close();
+    }
+
+    @Test
+    void testSend_ConcurrentIdenticalReadsShareOneRequest() throws Exception {
+        // Arrange
+        int callers = 8;
+        QueryRequest request = QueryJoins.fetchItemByIdRequest("1");
+        ExecutorService workers = Executors.newFixedThreadPool(callers);
+        List<Future<List<Item>>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < callers; i++) {
+            results.add(workers.submit(() -> client.send("token", request, Priority.NORMAL, Responses.items())));
+        }
+        awaitCoalesced(callers - 1);
+        release.countDown();
+
+        // Assert
+        for (Future<List<Item>> result : results) {
+            assertEquals("Hot item", result.get(10, TimeUnit.SECONDS).get(0).name());
+        }
+        assertEquals(1, server.requests().size());
+        assertEquals(1, client.coalescingStats().exchanges());
+        assertEquals(callers - 1, client.coalescingStats().coalesced());
+        workers.shutdown();
+    }
+
+    @Test
+    void testSendAsync_CoalescesWithBlockingCallersAndKeepsDifferentVariablesApart() throws Exception {
+        // Arrange
+        QueryRequest first = QueryJoins.fetchItemByIdRequest("1");
+        QueryRequest second = QueryJoins.fetchItemByIdRequest("2");
+
+        // Act
+        CompletableFuture<String> asString = client.sendAsync("token", first, Priority.NORMAL);
+        CompletableFuture<List<Item>> decoded = client.sendAsync("token", first, Priority.NORMAL, Responses.items());
+        CompletableFuture<String> other = client.sendAsync("token", second, Priority.NORMAL);
+        CompletableFuture<String> otherToken = client.sendAsync("another-token", first, Priority.NORMAL);
+        awaitCoalesced(1);
+        release.countDown();
+
+        // Assert
+        assertEquals(ITEMS, asString.get(10, TimeUnit.SECONDS));
+        assertEquals("Hot item", decoded.get(10, TimeUnit.SECONDS).get(0).name());
+        assertEquals(ITEMS, other.get(10, TimeUnit.SECONDS));
+        assertEquals(ITEMS, otherToken.get(10, TimeUnit.SECONDS));
+        assertEquals(3, server.requests().size());
+    }
+
+    @Test
+    void testSendAsync_NeverCoalescesMutations() throws Exception {
+        // Arrange
+        QueryRequest mutation = QueryJoins.archiveItemRequest("1");
+        release.countDown();
+
+        // Act
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(client.sendAsync("token", mutation, Priority.NORMAL));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(3, server.requests().size());
+        assertEquals(0, client.coalescingStats().coalesced());
+        assertTrue(server.requests().stream().allMatch(body -> body.contains("archive_item")));
+    }
+
+    private void awaitCoalesced(final long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (client.coalescingStats().coalesced() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.http;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local HTTP server answering with a scripted sequence of responses, for tests of the request path.
+ * Once the script is exhausted, every request gets the fallback response.
+ * <p>
+ * Like a real server, it inflates gzip-encoded request bodies and gzips the body of responses scripted
+ * with a {@code Content-Encoding: gzip} header.
+ */
+final class ScriptedServer implements AutoCloseable {
+
+    record Response(int status, Map<String, String> headers, String body) {
+        static Response of(final int status, final String body) {
+            return new Response(status, Map.of(), body);
+        }
+    }
+
+    private final HttpServer server;
+    private final Queue<Response> script = new ConcurrentLinkedQueue<>();
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final List<Headers> requestHeaders = new CopyOnWriteArrayList<>();
+    private volatile Function<String, Response> fallback = request -> Response.of(200, "{\"data\":{}}");
+
+    ScriptedServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    URI endpoint() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/v2/");
+    }
+
+    ScriptedServer then(final Response response) {
+        script.add(response);
+        return this;
+    }
+
+    ScriptedServer otherwise(final Response response) {
+        fallback = request -> response;
+        return this;
+    }
+
+    /**
+     * Answers every request after the script from its body, e.g. to emulate a protocol.
+     */
+    ScriptedServer otherwise(final Function<String, Response> responder) {
+        fallback = responder;
+        return this;
+    }
+
+    List<String> requests() {
+        return requests;
+    }
+
+    List<Headers> requestHeaders() {
+        return requestHeaders;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        String request;
+        boolean gzipped = "gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+        try (InputStream in = gzipped
+                ? new GZIPInputStream(exchange.getRequestBody())
+                : exchange.getRequestBody()) {
+            request = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        requestHeaders.add(new Headers(exchange.getRequestHeaders()));
+        requests.add(request);
+        Response response = script.poll();
+        if (response == null) {
+            response = fallback.apply(request);
+        }
+        byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+        if ("gzip".equals(response.headers().get("Content-Encoding"))) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(body);
+            }
+            body = compressed.toByteArray();
+        }
+        response.headers().forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+        exchange.sendResponseHeaders(response.status(), body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
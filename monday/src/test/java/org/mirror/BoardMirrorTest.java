@@ -0,0 +1,134 @@
+package org.mirror;
+
+import org.junit.jupiter.api.Test;
+import org.models.ColumnValue;
+import org.models.Group;
+import org.models.Item;
+import org.resources.BoardResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoardMirrorTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+
+    @Test
+    void testSync_LoadsOnceThenMergesUpdatedItems() throws Exception {
+        // Arrange
+        FakeBoards boards = new FakeBoards();
+        boards.all = List.of(item("1", "todo", "ext-1"), item("2", "todo", "ext-2"));
+        boards.updated = List.of(item("2", "done", "ext-2"), item("3", "todo", "ext-3"));
+        BoardMirror mirror = BoardMirror.newBuilder(boards, "10")
+                .clock(Clock.fixed(NOW, ZoneOffset.UTC))
+                .build();
+
+        // Act
+        int loaded = mirror.sync();
+        int merged = mirror.sync();
+
+        // Assert
+        assertEquals(2, loaded);
+        assertEquals(2, merged);
+        assertEquals(List.of("full", "since " + NOW.minusSeconds(300)), boards.calls);
+        assertEquals(3, mirror.size());
+        assertEquals("done", mirror.item("2").orElseThrow().group().id());
+        assertEquals(List.of("1", "3"), ids(mirror.itemsInGroup("todo")));
+        assertEquals(List.of("2"), ids(mirror.itemsInGroup("done")));
+        assertEquals(List.of("3"), ids(mirror.itemsByColumnValue("external_id", "ext-3")));
+        assertTrue(mirror.itemsByColumnValue("external_id", "missing").isEmpty());
+    }
+
+    @Test
+    void testSync_RestoresFromFileAndOnlyFetchesUpdates() throws Exception {
+        // Arrange
+        Path file = Files.createTempFile("board-mirror", ".bin");
+        Files.delete(file);
+        FakeBoards boards = new FakeBoards();
+        boards.all = List.of(item("1", "todo", "ext-1"), item("2", "todo", null));
+        BoardMirror.newBuilder(boards, "10").file(file).clock(Clock.fixed(NOW, ZoneOffset.UTC)).build().sync();
+        FakeBoards restarted = new FakeBoards();
+        restarted.updated = List.of(item("1", "done", "ext-1"));
+
+        // Act
+        BoardMirror mirror = BoardMirror.newBuilder(restarted, "10").file(file).build();
+        mirror.sync();
+
+        // Assert
+        assertEquals(List.of("since " + NOW.minusSeconds(300)), restarted.calls);
+        assertEquals(2, mirror.size());
+        assertEquals("done", mirror.item("1").orElseThrow().group().id());
+        assertEquals(List.of("2"), ids(mirror.itemsInGroup("todo")));
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void testSync_FailedPageLeavesMirrorUnchanged() throws Exception {
+        // Arrange
+        FakeBoards boards = new FakeBoards();
+        boards.all = List.of(item("1", "todo", "ext-1"));
+        boards.updated = List.of(item("1", "done", "ext-1"), item("2", "todo", "ext-2"));
+        boards.failAfterUpdates = 1;
+        BoardMirror mirror = BoardMirror.newBuilder(boards, "10").clock(Clock.fixed(NOW, ZoneOffset.UTC)).build();
+        mirror.sync();
+
+        // Act
+        IOException failure = assertThrows(IOException.class, mirror::sync);
+
+        // Assert
+        assertEquals("Page failed", failure.getMessage());
+        assertEquals(1, mirror.size());
+        assertEquals("todo", mirror.item("1").orElseThrow().group().id());
+        assertEquals(NOW, mirror.lastSync().orElseThrow());
+    }
+
+    private static Item item(String id, String groupId, String externalId) {
+        return new Item(id, "Item " + id, new Group(groupId, groupId.toUpperCase()),
+                List.of(new ColumnValue("external_id", externalId, "text", null)), List.of());
+    }
+
+    private static List<String> ids(List<Item> items) {
+        return items.stream().map(Item::id).toList();
+    }
+
+    private static final class FakeBoards extends BoardResource {
+
+        private final List<String> calls = new ArrayList<>();
+        private List<Item> all = List.of();
+        private List<Item> updated = List.of();
+        private int failAfterUpdates = -1;
+
+        private FakeBoards() {
+            super("mockToken");
+        }
+
+        @Override
+        public Stream<Item> streamItemsByBoardId(String boardId, int pageSize) {
+            calls.add("full");
+            return all.stream();
+        }
+
+        @Override
+        public Stream<Item> streamItemsUpdatedSince(String boardId, Instant since, int pageSize) {
+            calls.add("since " + since);
+            if (failAfterUpdates < 0) {
+                return updated.stream();
+            }
+            return Stream.concat(updated.stream().limit(failAfterUpdates), Stream.<Item>generate(() -> {
+                throw new UncheckedIOException(new IOException("Page failed"));
+            }).limit(1));
+        }
+    }
+}
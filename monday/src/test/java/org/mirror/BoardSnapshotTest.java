@@ -0,0 +1,80 @@
+package org.mirror;
+
+import org.junit.jupiter.api.Test;
+import org.models.ColumnValue;
+import org.models.Group;
+import org.models.Item;
+import org.resources.BoardResource;
+
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BoardSnapshotTest {
+
+    @Test
+    void testCapture_WritesColumnsReadBackFromMapping() throws Exception {
+        // Arrange
+        Path file = Files.createTempFile("board", ".snapshot");
+        BoardResource boards = new BoardResource("mockToken") {
+            @Override
+            public Stream<Item> streamItemsByBoardId(String boardId, int pageSize) {
+                return Stream.of(
+                        new Item("101", "Café", new Group("topics", "Topics"),
+                                List.of(new ColumnValue("status", "Done", "status", null)), List.of()),
+                        new Item("102", "Second", null,
+                                List.of(new ColumnValue("text", "naïve ✓", "text", null),
+                                        new ColumnValue("status", null, "status", null)), List.of()));
+            }
+        };
+
+        // Act
+        int captured = BoardSnapshot.capture(boards, "10", file);
+
+        // Assert
+        try (BoardSnapshot snapshot = BoardSnapshot.open(file)) {
+            assertEquals(2, captured);
+            assertEquals(2, snapshot.size());
+            assertEquals(List.of("status", "text"), snapshot.columnIds());
+            assertEquals("101", snapshot.itemId(0));
+            assertEquals("Café", snapshot.name(0));
+            assertEquals("topics", snapshot.groupId(0));
+            assertNull(snapshot.groupId(1));
+            assertEquals("Done", snapshot.text(0, "status"));
+            assertNull(snapshot.text(0, "text"));
+            assertNull(snapshot.text(1, "status"));
+            assertEquals("naïve ✓", snapshot.text(1, "text"));
+            assertNull(snapshot.text(1, "unknown"));
+            assertEquals("102", new String(snapshot.itemIdBytes(1).toArray(ValueLayout.JAVA_BYTE), StandardCharsets.UTF_8));
+            assertEquals(1, snapshot.rowOf("102"));
+            assertEquals(-1, snapshot.rowOf("10"));
+        }
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void testClose_DiscardsUnfinishedWriter() throws Exception {
+        // Arrange
+        Path directory = Files.createTempDirectory("snapshots");
+        Path file = directory.resolve("board.snapshot");
+
+        // Act
+        try (BoardSnapshotWriter writer = BoardSnapshotWriter.create(file)) {
+            writer.append(new Item("1", "Only", null, List.of(), List.of()));
+        }
+
+        // Assert
+        assertFalse(Files.exists(file));
+        try (Stream<Path> left = Files.list(directory)) {
+            assertEquals(0, left.count());
+        }
+        Files.delete(directory);
+    }
+}
@@ -0,0 +1,140 @@
+package org.mirror;
+
+import org.http.ApiClient;
+import org.junit.jupiter.api.Test;
+import org.models.ColumnValue;
+import org.models.Group;
+import org.models.Item;
+import org.query.QueryRequest;
+import org.resources.BoardResource;
+import org.resources.ItemResource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnValueIndexTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+
+    @Test
+    void testFindItemsByColumnValue_AnsweredLocallyAndSeesOwnWrites() throws Exception {
+        // Arrange
+        FakeBoards boards = new FakeBoards();
+        boards.all = List.of(item("1", "Working on it"), item("2", "Done"));
+        ColumnValueIndex index = ColumnValueIndex.newBuilder(boards)
+                .index("10", "status")
+                .clock(Clock.fixed(NOW, ZoneOffset.UTC))
+                .build();
+        List<String> sent = new ArrayList<>();
+        ItemResource items = new ItemResource("mockToken", ApiClient.shared(), index) {
+            @Override
+            public String get(QueryRequest request) {
+                sent.add(request.query());
+                return """
+                        {"data":{"change_simple_column_value":{"id":"1","name":"Item 1",
+                          "column_values":[{"id":"status","text":"Done","value":"{\\"index\\":1}"}]}}}""";
+            }
+        };
+
+        // Act
+        String response = items.fetchItemsByColumnValue("10", "status", "Working on it");
+        items.changeItemValue("10", "1", "status", "Done");
+        List<Item> done = items.findItemsByColumnValue("10", "status", "Done");
+
+        // Assert
+        assertTrue(response.startsWith("{\"data\":{\"items_page_by_column_values\":{\"cursor\":null,\"items\":[{\"id\":\"1\""));
+        assertTrue(response.contains("\"column_values\":[{\"id\":\"status\",\"text\":\"Working on it\""));
+        assertEquals(List.of("2", "1"), done.stream().map(Item::id).toList());
+        assertEquals("todo", done.get(1).group().id());
+        assertTrue(items.findItemsByColumnValue("10", "status", "Working on it").isEmpty());
+        assertEquals(1, sent.size());
+        assertTrue(sent.get(0).contains("change_simple_column_value"));
+        assertEquals(List.of("full"), boards.calls);
+    }
+
+    @Test
+    void testFind_SyncsOnceStalenessBoundIsReached() throws Exception {
+        // Arrange
+        FakeBoards boards = new FakeBoards();
+        boards.all = List.of(item("1", "Working on it"));
+        boards.updated = List.of(item("1", "Stuck"));
+        ColumnValueIndex index = ColumnValueIndex.newBuilder(boards)
+                .index("10", "status")
+                .maxStaleness(Duration.ZERO)
+                .clock(Clock.fixed(NOW, ZoneOffset.UTC))
+                .build();
+
+        // Act
+        List<Item> before = index.find("10", "status", "Working on it");
+        List<Item> after = index.find("10", "status", "Stuck");
+
+        // Assert
+        assertEquals(1, before.size());
+        assertEquals(1, after.size());
+        assertEquals(List.of("full", "since " + NOW.minusSeconds(300)), boards.calls);
+        assertTrue(index.covers("10", "status"));
+        assertTrue(!index.covers("10", "person") && !index.covers("20", "status"));
+    }
+
+    @Test
+    void testFindAsync_SyncsOnVirtualThreadAndAnswersFreshBoardAtOnce() {
+        // Arrange
+        FakeBoards boards = new FakeBoards();
+        boards.all = List.of(item("1", "Working on it"));
+        ColumnValueIndex index = ColumnValueIndex.newBuilder(boards)
+                .index("10", "status")
+                .clock(Clock.fixed(NOW, ZoneOffset.UTC))
+                .build();
+
+        // Act
+        List<Item> first = index.findAsync("10", "status", "Working on it").join();
+        CompletableFuture<List<Item>> second = index.findAsync("10", "status", "Working on it");
+
+        // Assert
+        assertEquals(1, first.size());
+        assertTrue(second.isDone());
+        assertEquals(1, second.join().size());
+        assertEquals(List.of("full"), boards.calls);
+        assertTrue(boards.virtual.get(0));
+    }
+
+    private static Item item(String id, String status) {
+        return new Item(id, "Item " + id, new Group("todo", "To do"), List.of(
+                new ColumnValue("status", status, "status", null),
+                new ColumnValue("person", "Ada", "people", null)), List.of());
+    }
+
+    private static final class FakeBoards extends BoardResource {
+
+        private final List<String> calls = new ArrayList<>();
+        private List<Item> all = List.of();
+        private List<Item> updated = List.of();
+        private final List<Boolean> virtual = new ArrayList<>();
+
+        private FakeBoards() {
+            super("mockToken");
+        }
+
+        @Override
+        public Stream<Item> streamItemsByBoardId(String boardId, int pageSize) {
+            calls.add("full");
+            virtual.add(Thread.currentThread().isVirtual());
+            return all.stream();
+        }
+
+        @Override
+        public Stream<Item> streamItemsUpdatedSince(String boardId, Instant since, int pageSize) {
+            calls.add("since " + since);
+            return updated.stream();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.models;
+
+import org.http.MondayApiException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponsesTest {
+
+    @Test
+    void testBoardItemsPage_DecodesItemsAndSkipsUnknownFields() throws IOException {
+        // Arrange
+        String body = "{\"data\":{\"complexity\":{\"before\":100,\"after\":90,\"reset_in_x_seconds\":30},"
+                + "\"boards\":[{\"id\":\"1\",\"items_page\":{\"cursor\":\"abc\",\"items\":["
+                + "{\"id\":\"10\",\"name\":\"First\",\"state\":\"active\",\"group\":{\"id\":\"topics\",\"title\":\"Topics\"},"
+                + "\"column_values\":[{\"id\":\"status\",\"text\":\"Done\",\"type\":\"status\",\"value\":\"{\\\"index\\\":1}\"}]},"
+                + "{\"id\":\"11\",\"name\":\"Second\",\"group\":null,\"column_values\":[]}]}}]},"
+                + "\"account_id\":42}";
+
+        // Act
+        ItemsPage page = Responses.boardItemsPage().decode(stream(body));
+
+        // Assert
+        assertEquals("abc", page.cursor());
+        assertEquals(2, page.items().size());
+        Item first = page.items().get(0);
+        assertEquals("First", first.name());
+        assertEquals(new Group("topics", "Topics"), first.group());
+        assertEquals("{\"index\":1}", first.columnValue("status").orElseThrow().value());
+        assertNull(page.items().get(1).group());
+    }
+
+    @Test
+    void testItems_ReturnsEmptyListWhenDataIsNull() throws IOException {
+        // Act
+        List<Item> items = Responses.items().decode(stream("{\"data\":{\"items\":null}}"));
+
+        // Assert
+        assertTrue(items.isEmpty());
+    }
+
+    @Test
+    void testItems_ThrowsWhenResponseCarriesOnlyErrors() {
+        // Arrange
+        String body = "{\"errors\":[{\"message\":\"Field 'foo' doesn't exist\"}],\"account_id\":42}";
+
+        // Act
+        MondayApiException exception = assertThrows(MondayApiException.class,
+                () -> Responses.items().decode(stream(body)));
+
+        // Assert
+        assertEquals(200, exception.statusCode());
+        assertTrue(exception.getMessage().contains("Field 'foo' doesn't exist"));
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,65 @@
+package org.query;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ItemProjectionTest {
+
+    @Test
+    void testFetchBoardItemsPageRequest_SelectsOnlyProjectedColumnsAsVariable() {
+        // Arrange
+        ItemProjection projection = ItemProjection.newBuilder()
+                .name()
+                .columns("status", "date")
+                .build();
+
+        // Act
+        QueryRequest request = QueryJoins.fetchBoardItemsPageRequest("10", 100, projection);
+
+        // Assert
+        assertTrue(request.query().contains("$columnIds: [String!]"));
+        assertTrue(request.query().contains("column_values (ids: $columnIds) {"));
+        assertEquals(List.of("status", "date"), request.variables().get("columnIds"));
+        assertFalse(request.query().contains("updates"));
+        assertFalse(request.query().contains("group"));
+        assertFalse(request.query().contains(" value"));
+    }
+
+    @Test
+    void testProjectedDocuments_AreCachedPerShape() {
+        // Arrange
+        ItemProjection statusOnly = ItemProjection.newBuilder().group().columns("status").build();
+        ItemProjection dateOnly = ItemProjection.newBuilder().group().columns("date").build();
+        ItemProjection withUpdates = ItemProjection.newBuilder().group().columns("status").updates().build();
+
+        // Act
+        QueryRequest first = QueryJoins.fetchItemsByIdsRequest(List.of("1"), statusOnly);
+        int generated = QueryJoins.projectedDocumentCount();
+        QueryRequest second = QueryJoins.fetchItemsByIdsRequest(List.of("2", "3"), dateOnly);
+        QueryRequest third = QueryJoins.fetchItemsByIdsRequest(List.of("1"), withUpdates);
+
+        // Assert
+        assertSame(first.query(), second.query());
+        assertEquals(generated + 1, QueryJoins.projectedDocumentCount());
+        assertEquals(List.of("date"), second.variables().get("columnIds"));
+        assertTrue(third.query().contains("updates {"));
+    }
+
+    @Test
+    void testGetItemRequest_WithoutColumnsRequestsIdOnly() {
+        // Act
+        QueryRequest request = QueryJoins.getItemRequest("10", "email", "a@b.c", ItemProjection.newBuilder().build());
+
+        // Assert
+        assertFalse(request.query().contains("column_values {"));
+        assertFalse(request.query().contains("$columnIds"));
+        assertFalse(request.variables().containsKey("columnIds"));
+        assertTrue(request.query().contains("items_page_by_column_values (board_id: $boardId, columns: $columns)"));
+    }
+}
@@ -2,7 +2,11 @@ package org.query;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class QueryJoinsTest {
 
@@ -215,4 +219,37 @@ class QueryJoinsTest {
                 """;
         assertEquals(expected, result);
     }
+
+    @Test
+    void testMutateItemRequest_KeepsValuesOutOfTheDocument() {
+        // Act
+        QueryRequest first = QueryJoins.mutateItemRequest("1", "topics", "Say \"hi\"", "{}", true);
+        QueryRequest second = QueryJoins.mutateItemRequest("2", "done", "Other", "{\"text\":\"x\"}", false);
+
+        // Assert
+        assertEquals(first.query(), second.query());
+        assertEquals("CreateItem", first.operationName());
+        assertFalse(first.query().contains("Say"));
+        assertEquals("Say \"hi\"", first.variables().get("itemName"));
+        assertEquals(true, first.variables().get("createLabelsIfMissing"));
+    }
+
+    @Test
+    void testBatchUpdateMultiplesColumnValuesRequest_AliasesEveryUpdate() {
+        // Arrange
+        List<ColumnValuesUpdate> updates = List.of(
+                new ColumnValuesUpdate("10", "1", "{\"text\":\"a\"}"),
+                new ColumnValuesUpdate("10", "2", "{\"text\":\"b\"}"));
+
+        // Act
+        QueryRequest request = QueryJoins.batchUpdateMultiplesColumnValuesRequest(updates);
+
+        // Assert
+        assertTrue(request.query().startsWith(
+                "mutation BatchChangeMultipleColumnValues($board1: ID!, $item1: ID!, $values1: JSON!, "
+                        + "$board2: ID!, $item2: ID!, $values2: JSON!) {"));
+        assertTrue(request.query().contains("u2: change_multiple_column_values"));
+        assertEquals("{\"text\":\"b\"}", request.variables().get("values2"));
+        assertEquals(6, request.variables().size());
+    }
 }
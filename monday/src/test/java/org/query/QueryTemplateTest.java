@@ -0,0 +1,47 @@
+package org.query;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class QueryTemplateTest {
+
+    @Test
+    void testRender_MatchesFormattedForEveryConversion() {
+        // Arrange
+        String source = "mutation { f(a: %s, b: \"%s\", c: %d, d: %b, e: %b) { id } }";
+        QueryTemplate template = QueryTemplate.compile(source);
+
+        // Act
+        String result = template.render("1", null, 500, null, Boolean.TRUE);
+
+        // Assert
+        assertEquals(source.formatted("1", null, 500, null, Boolean.TRUE), result);
+        assertEquals(5, template.parameterCount());
+    }
+
+    @Test
+    void testRender_WithoutSlotsReturnsSource() {
+        // Arrange
+        QueryTemplate template = QueryTemplate.compile("query { me { id } }");
+
+        // Act & Assert
+        assertEquals("query { me { id } }", template.render());
+    }
+
+    @Test
+    void testCompile_RejectsUnsupportedConversions() {
+        assertThrows(IllegalArgumentException.class, () -> QueryTemplate.compile("query { items(limit: %x) }"));
+        assertThrows(IllegalArgumentException.class, () -> QueryTemplate.compile("query { items }%"));
+    }
+
+    @Test
+    void testRender_RejectsWrongArgumentCount() {
+        // Arrange
+        QueryTemplate template = QueryTemplate.compile("query { items(ids: %s) { id } }");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> template.render("1", "2"));
+    }
+}
@@ -0,0 +1,101 @@
+package org.resources;
+
+import org.junit.jupiter.api.Test;
+import org.query.QueryRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchWriterTest {
+
+    @Test
+    void testFlushOnSize_SendsOneAliasedMutation() {
+        // Arrange
+        List<QueryRequest> sent = new ArrayList<>();
+        ItemResource itemResource = new ItemResource("mockToken") {
+            @Override
+            public CompletableFuture<String> getAsync(QueryRequest request) {
+                sent.add(request);
+                return CompletableFuture.completedFuture("""
+                        {"data":{"u1":{"id":"1"},"u2":{"id":"2"}}}""");
+            }
+        };
+        BatchWriter writer = BatchWriter.newBuilder(itemResource)
+                .maxBatchSize(2)
+                .flushInterval(Duration.ofHours(1))
+                .build();
+
+        // Act
+        CompletableFuture<String> first = writer.changeMultiplesColumnValues("10", "1", "{\"text\":\"a\"}");
+        CompletableFuture<String> second = writer.changeMultiplesColumnValues("10", "2", "{\"text\":\"b\"}");
+
+        // Assert
+        assertEquals(1, sent.size());
+        assertTrue(sent.get(0).query().contains("u1: change_multiple_column_values"));
+        assertTrue(sent.get(0).query().contains("u2: change_multiple_column_values"));
+        assertEquals("2", sent.get(0).variables().get("item2"));
+        assertEquals("{\"text\":\"b\"}", sent.get(0).variables().get("values2"));
+        assertEquals("{\"id\":\"1\"}", first.join());
+        assertEquals("{\"id\":\"2\"}", second.join());
+        writer.close();
+    }
+
+    @Test
+    void testFlushOnComplexity_SplitsBatches() {
+        // Arrange
+        List<QueryRequest> sent = new ArrayList<>();
+        ItemResource itemResource = new ItemResource("mockToken") {
+            @Override
+            public CompletableFuture<String> getAsync(QueryRequest request) {
+                sent.add(request);
+                return CompletableFuture.completedFuture("{\"data\":{\"u1\":{\"id\":\"1\"},\"u2\":{\"id\":\"2\"}}}");
+            }
+        };
+        BatchWriter writer = BatchWriter.newBuilder(itemResource)
+                .maxComplexity(25)
+                .complexityPerMutation(10)
+                .flushInterval(Duration.ofHours(1))
+                .build();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            writer.changeMultiplesColumnValues("10", String.valueOf(i), "{}");
+        }
+        writer.close();
+
+        // Assert
+        assertEquals(3, sent.size());
+        assertEquals(0, writer.pendingCount());
+    }
+
+    @Test
+    void testAliasErrors_FailOnlyTheMatchingUpdate() {
+        // Arrange
+        ItemResource itemResource = new ItemResource("mockToken") {
+            @Override
+            public CompletableFuture<String> getAsync(QueryRequest request) {
+                return CompletableFuture.completedFuture("""
+                        {"data":{"u1":{"id":"1"},"u2":null},\
+                        "errors":[{"message":"Item not found","path":["u2"]}]}""");
+            }
+        };
+        BatchWriter writer = BatchWriter.newBuilder(itemResource).flushInterval(Duration.ofHours(1)).build();
+
+        // Act
+        CompletableFuture<String> first = writer.changeMultiplesColumnValues("10", "1", "{}");
+        CompletableFuture<String> second = writer.changeMultiplesColumnValues("10", "2", "{}");
+        writer.close();
+
+        // Assert
+        assertEquals("{\"id\":\"1\"}", first.join());
+        CompletionException error = assertThrows(CompletionException.class, second::join);
+        assertTrue(error.getCause().getMessage().contains("Item not found"));
+    }
+}
@@ -0,0 +1,198 @@
+package org.resources;
+
+import org.http.ApiClient;
+import org.http.MondayApiException;
+import org.junit.jupiter.api.Test;
+import org.query.QueryRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoardCacheTest {
+
+    private static final String BOARD = """
+            {"data":{"boards":[{"id":"10","name":"Roadmap","columns":[{"id":"status","title":"Status","type":"status"}]}]}}""";
+
+    @Test
+    void testConcurrentMisses_ShareOneRequest() {
+        // Arrange
+        BoardCache cache = BoardCache.newBuilder().build();
+        CompletableFuture<String> response = new CompletableFuture<>();
+        List<QueryRequest> sent = new CopyOnWriteArrayList<>();
+        BoardResource boards = new BoardResource("mockToken", ApiClient.shared(), cache) {
+            @Override
+            public CompletableFuture<String> getAsync(QueryRequest request) {
+                sent.add(request);
+                return response;
+            }
+        };
+
+        // Act
+        CompletableFuture<String> first = boards.fetchBoardByIdAsync("10");
+        CompletableFuture<String> second = boards.fetchBoardByIdAsync("10");
+        CompletableFuture<String> third = boards.fetchBoardByIdAsync("10");
+        response.complete(BOARD);
+
+        // Assert
+        assertEquals(1, sent.size());
+        assertEquals(BOARD, first.join());
+        assertEquals(BOARD, second.join());
+        assertEquals(BOARD, third.join());
+        assertEquals(BOARD, boards.fetchBoardByIdAsync("10").join());
+        assertEquals(1, sent.size());
+        assertEquals(1, cache.stats().hits());
+        assertEquals(3, cache.stats().misses());
+    }
+
+    @Test
+    void testConcurrentSyncMisses_ShareOneRequest() throws Exception {
+        // Arrange
+        BoardCache cache = BoardCache.newBuilder().build();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch respond = new CountDownLatch(1);
+        List<QueryRequest> sent = new CopyOnWriteArrayList<>();
+        BoardResource boards = new BoardResource("mockToken", ApiClient.shared(), cache) {
+            @Override
+            public String get(QueryRequest request) throws InterruptedException {
+                sent.add(request);
+                loading.countDown();
+                respond.await();
+                return BOARD;
+            }
+        };
+
+        // Act
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> fetch(boards));
+        loading.await();
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> fetch(boards));
+        while (cache.stats().misses() < 2) {
+            Thread.onSpinWait();
+        }
+        respond.countDown();
+
+        // Assert
+        assertEquals(BOARD, first.get(5, TimeUnit.SECONDS));
+        assertEquals(BOARD, second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, sent.size());
+    }
+
+    @Test
+    void testFetchBoard_ExpiresAfterWrite() throws Exception {
+        // Arrange
+        AtomicLong now = new AtomicLong();
+        BoardCache cache = BoardCache.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(30))
+                .ticker(now::get)
+                .build();
+        CountingBoards boards = new CountingBoards(cache);
+
+        // Act
+        String columnType = boards.fetchBoard("10").orElseThrow().columns().get(0).type();
+        boards.fetchBoard("10");
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        boards.fetchBoard("10");
+
+        // Assert
+        assertEquals("status", columnType);
+        assertEquals(2, boards.sent.size());
+        assertEquals(1, cache.stats().hits());
+        assertEquals(2, cache.stats().misses());
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    void testMaximumEntries_EvictsLeastRecentlyUsed() throws Exception {
+        // Arrange
+        BoardCache cache = BoardCache.newBuilder().maximumEntries(2).build();
+        CountingBoards boards = new CountingBoards(cache);
+        boards.fetchBoardById("1");
+        boards.fetchBoardById("2");
+        boards.fetchBoardById("1");
+
+        // Act
+        boards.fetchBoardById("3");
+        boards.fetchBoardById("1");
+        boards.fetchBoardById("2");
+
+        // Assert
+        assertEquals(List.of("1", "2", "3", "2"), boards.sent);
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.stats().evictions());
+    }
+
+    @Test
+    void testCreateColumn_InvalidatesBoard() throws Exception {
+        // Arrange
+        BoardCache cache = BoardCache.newBuilder().build();
+        CountingBoards boards = new CountingBoards(cache);
+        ColumnsResource columns = new ColumnsResource("mockToken", ApiClient.shared(), cache) {
+            @Override
+            public String get(QueryRequest request) {
+                return "{\"data\":{\"create_column\":{\"id\":\"priority\"}}}";
+            }
+        };
+        boards.fetchBoardById("10");
+        boards.fetchBoardById("20");
+
+        // Act
+        columns.createColumn("10", "Priority", "status");
+        boards.fetchBoardById("10");
+        boards.fetchBoardById("20");
+
+        // Assert
+        assertEquals(List.of("10", "20", "10"), boards.sent);
+    }
+
+    @Test
+    void testErrorResponse_IsNotCached() throws Exception {
+        // Arrange
+        BoardCache cache = BoardCache.newBuilder().build();
+        List<String> sent = new CopyOnWriteArrayList<>();
+        BoardResource boards = new BoardResource("mockToken", ApiClient.shared(), cache) {
+            @Override
+            public String get(QueryRequest request) {
+                sent.add((String) request.variables().get("boardId"));
+                return "{\"errors\":[{\"message\":\"Rate limit exceeded\"}]}";
+            }
+        };
+
+        // Act & Assert
+        assertThrows(MondayApiException.class, () -> boards.fetchBoardById("10"));
+        assertThrows(MondayApiException.class, () -> boards.fetchBoardById("10"));
+        assertEquals(2, sent.size());
+        assertEquals(0, cache.size());
+    }
+
+    private static String fetch(BoardResource boards) {
+        try {
+            return boards.fetchBoardById("10");
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static final class CountingBoards extends BoardResource {
+
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+
+        private CountingBoards(BoardCache cache) {
+            super("mockToken", ApiClient.shared(), cache);
+        }
+
+        @Override
+        public String get(QueryRequest request) {
+            String boardId = (String) request.variables().get("boardId");
+            sent.add(boardId);
+            return BOARD.replace("\"10\"", "\"" + boardId + "\"");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.resources;
+
+import org.junit.jupiter.api.Test;
+import org.models.Board;
+import org.models.Column;
+import org.models.ColumnValue;
+import org.models.Group;
+import org.models.Item;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BoardExportTest {
+
+    private final BoardResource boards = new BoardResource("mockToken") {
+        @Override
+        public Optional<Board> fetchBoard(String boardId) {
+            return Optional.of(new Board(boardId, "Roadmap", null, null, null, List.of(
+                    new Column("name", "Name", "name", null),
+                    new Column("status", "Status", "status", null),
+                    new Column("notes", "Notes", "text", null))));
+        }
+
+        @Override
+        public Stream<Item> streamItemsByBoardId(String boardId, int pageSize) {
+            Group group = new Group("topics", "Topics");
+            return Stream.of(
+                    new Item("1", "Launch", group, List.of(
+                            new ColumnValue("notes", "Needs \"sign-off\", soon", "text", null),
+                            new ColumnValue("status", "Done", "status", "{\"index\":1}")), List.of()),
+                    new Item("2", "Docs", group, List.of(), List.of()));
+        }
+    };
+
+    @Test
+    void testExportItems_WritesCsvInBoardColumnOrder() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long written = boards.exportItems("10", ExportFormat.CSV, out);
+
+        // Assert
+        assertEquals(2, written);
+        assertEquals("""
+                ID,Name,Group,Status,Notes\r
+                1,Launch,Topics,Done,"Needs ""sign-off"", soon"\r
+                2,Docs,Topics,,\r
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testExportItems_WritesOneJsonObjectPerLineWithTextAndValue() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        boards.exportItems("10", ExportFormat.NDJSON, out);
+
+        // Assert
+        assertEquals("""
+                {"id":"1","name":"Launch","group":"Topics","column_values":{\
+                "status":{"text":"Done","value":"{\\"index\\":1}"},\
+                "notes":{"text":"Needs \\"sign-off\\", soon","value":null}}}
+                {"id":"2","name":"Docs","group":"Topics","column_values":{"status":null,"notes":null}}
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,149 @@
+package org.resources;
+
+import org.junit.jupiter.api.Test;
+import org.query.QueryRequest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkImporterTest {
+
+    @Test
+    void testImportItems_BatchesItemsThenSubitemsUnderReturnedIds() throws Exception {
+        // Arrange
+        FakeItems items = new FakeItems(null);
+        BulkImporter importer = BulkImporter.newBuilder(items).batchSize(2).maxConcurrentRequests(1).build();
+
+        // Act
+        BulkImporter.Result result = importer.importItems("10", Stream.of(
+                spec("a", "Sub a1", "Sub a2"),
+                spec("b"),
+                spec("c", "Sub c1")));
+
+        // Assert
+        assertEquals(3, result.itemsCreated());
+        assertEquals(3, result.subitemsCreated());
+        assertTrue(result.failures().isEmpty());
+        assertEquals(List.of("BatchCreateItems", "BatchCreateSubitems", "BatchCreateItems", "BatchCreateSubitems"),
+                items.sent.stream().map(QueryRequest::operationName).toList());
+        QueryRequest firstItems = items.sent.get(0);
+        assertEquals("10", firstItems.variables().get("boardId"));
+        assertEquals("{\"status\":\"New\"}", firstItems.variables().get("values1"));
+        QueryRequest firstSubitems = items.sent.get(1);
+        assertEquals("1", firstSubitems.variables().get("parent1"));
+        assertEquals("Sub a2", firstSubitems.variables().get("name2"));
+        assertEquals("5", items.sent.get(3).variables().get("parent1"));
+    }
+
+    @Test
+    void testImportItems_ResumesFromCheckpoint() throws Exception {
+        // Arrange
+        Path checkpoint = Files.createTempFile("import", ".checkpoint");
+        FakeItems crashing = new FakeItems("Sub b1");
+        BulkImporter.Result first = BulkImporter.newBuilder(crashing).checkpoint(checkpoint).batchSize(1).build()
+                .importItems("10", Stream.of(spec("a", "Sub a1"), spec("b", "Sub b1")));
+        FakeItems resumed = new FakeItems(null);
+
+        // Act
+        BulkImporter.Result second = BulkImporter.newBuilder(resumed).checkpoint(checkpoint).batchSize(1).build()
+                .importItems("10", Stream.of(spec("a", "Sub a1"), spec("b", "Sub b1"), spec("c")));
+
+        // Assert
+        assertEquals(1, first.failures().size());
+        assertEquals("b", first.failures().get(0).key());
+        assertEquals(0, first.failures().get(0).subitemIndex());
+        assertEquals(1, second.itemsCreated());
+        assertEquals(1, second.subitemsCreated());
+        assertEquals(3, second.skipped());
+        assertEquals(2, resumed.sent.size());
+        assertTrue(resumed.sent.stream().anyMatch(request -> "Sub b1".equals(request.variables().get("name1"))));
+        assertTrue(resumed.sent.stream().anyMatch(request -> "Item c".equals(request.variables().get("name1"))));
+        Files.deleteIfExists(checkpoint);
+    }
+
+    @Test
+    void testImportItems_DropsLineCutShortInCheckpoint() throws Exception {
+        // Arrange
+        Path checkpoint = Files.createTempFile("import", ".checkpoint");
+        Files.writeString(checkpoint, "item\ta\t123456\nitem\tb\t12");
+        FakeItems items = new FakeItems(null);
+
+        // Act
+        BulkImporter.Result result = BulkImporter.newBuilder(items).checkpoint(checkpoint).batchSize(1).build()
+                .importItems("10", Stream.of(spec("a"), spec("b", "Sub b1")));
+
+        // Assert
+        assertEquals(1, result.itemsCreated());
+        assertEquals(1, result.skipped());
+        assertEquals("1", items.sent.get(1).variables().get("parent1"));
+        assertEquals("item\ta\t123456\nitem\tb\t1\nsubitem\tb\t0\t2\n", Files.readString(checkpoint));
+        Files.deleteIfExists(checkpoint);
+    }
+
+    @Test
+    void testImportItems_CheckpointsBatchesInFlightBeforeRejectingDuplicateKey() throws Exception {
+        // Arrange
+        Path checkpoint = Files.createTempFile("import", ".checkpoint");
+        BulkImporter importer = BulkImporter.newBuilder(new FakeItems(null))
+                .checkpoint(checkpoint).batchSize(1).maxConcurrentRequests(4).build();
+
+        // Act
+        assertThrows(IllegalArgumentException.class,
+                () -> importer.importItems("10", Stream.of(spec("a"), spec("b"), spec("a"))));
+
+        // Assert
+        assertEquals("item\ta\t1\nitem\tb\t2\n", Files.readString(checkpoint));
+        Files.deleteIfExists(checkpoint);
+    }
+
+    private static BulkImporter.ItemSpec spec(String key, String... subitems) {
+        List<BulkImporter.SubitemSpec> specs = new ArrayList<>();
+        for (String subitem : subitems) {
+            specs.add(new BulkImporter.SubitemSpec(subitem, Map.of()));
+        }
+        return new BulkImporter.ItemSpec(key, "topics", "Item " + key, Map.of("status", "New"), specs);
+    }
+
+    /**
+     * Answers every creation with the next id, except subitems named {@code failing}.
+     */
+    private static final class FakeItems extends ItemResource {
+
+        private final List<QueryRequest> sent = new CopyOnWriteArrayList<>();
+        private final AtomicInteger ids = new AtomicInteger();
+        private final String failing;
+
+        private FakeItems(String failing) {
+            super("mockToken");
+            this.failing = failing;
+        }
+
+        @Override
+        public CompletableFuture<String> getAsync(QueryRequest request) {
+            sent.add(request);
+            StringBuilder data = new StringBuilder();
+            StringBuilder errors = new StringBuilder();
+            for (int i = 1; request.variables().containsKey("name" + i); i++) {
+                if (request.variables().get("name" + i).equals(failing)) {
+                    data.append(data.isEmpty() ? "" : ",").append("\"c").append(i).append("\":null");
+                    errors.append("{\"message\":\"Board not found\",\"path\":[\"c").append(i).append("\"]}");
+                } else {
+                    data.append(data.isEmpty() ? "" : ",").append("\"c").append(i)
+                            .append("\":{\"id\":\"").append(ids.incrementAndGet()).append("\"}");
+                }
+            }
+            return CompletableFuture.completedFuture("{\"data\":{" + data + "},\"errors\":[" + errors + "]}");
+        }
+    }
+}
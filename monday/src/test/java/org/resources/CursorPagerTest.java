@@ -0,0 +1,69 @@
+package org.resources;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CursorPagerTest {
+
+    @Test
+    void testIteration_PrefetchesOnlyTheNextPage() {
+        // Arrange
+        List<String> requested = new ArrayList<>();
+        CursorPager<String> pager = new CursorPager<>(cursor -> {
+            requested.add(String.valueOf(cursor));
+            if (cursor == null) {
+                return CompletableFuture.completedFuture(new CursorPager.Page<>("c1", List.of("a", "b")));
+            }
+            if (cursor.equals("c1")) {
+                return CompletableFuture.completedFuture(new CursorPager.Page<>("c2", List.of("c")));
+            }
+            return CompletableFuture.completedFuture(new CursorPager.Page<>(null, List.of("d")));
+        });
+
+        // Act & Assert
+        assertEquals(List.of("null"), requested);
+        assertEquals("a", pager.next());
+        assertEquals(List.of("null", "c1"), requested);
+        assertEquals("b", pager.next());
+        assertEquals("c", pager.next());
+        assertEquals(List.of("null", "c1", "c2"), requested);
+        assertEquals("d", pager.next());
+        assertFalse(pager.hasNext());
+        assertEquals(3, requested.size());
+    }
+
+    @Test
+    void testIteration_SkipsEmptyPages() {
+        // Arrange
+        CursorPager<String> pager = new CursorPager<>(cursor -> CompletableFuture.completedFuture(cursor == null
+                ? new CursorPager.Page<>("c1", List.of())
+                : new CursorPager.Page<>(null, List.of("x"))));
+
+        // Act & Assert
+        assertTrue(pager.hasNext());
+        assertEquals("x", pager.next());
+        assertFalse(pager.hasNext());
+    }
+
+    @Test
+    void testIteration_SurfacesPageFailures() {
+        // Arrange
+        CursorPager<String> pager = new CursorPager<>(cursor ->
+                CompletableFuture.failedFuture(new IOException("connection reset")));
+
+        // Act & Assert
+        UncheckedIOException error = assertThrows(UncheckedIOException.class, pager::hasNext);
+        assertEquals("connection reset", error.getCause().getMessage());
+        assertFalse(pager.hasNext());
+    }
+}
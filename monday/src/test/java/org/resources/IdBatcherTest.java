@@ -0,0 +1,124 @@
+package org.resources;
+
+import org.http.ResponseDecoder;
+import org.junit.jupiter.api.Test;
+import org.models.Item;
+import org.models.Update;
+import org.query.QueryRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdBatcherTest {
+
+    @Test
+    void testLoad_MergesIdsWithinWindowIntoOneRequest() {
+        // Arrange
+        List<QueryRequest> sent = new CopyOnWriteArrayList<>();
+        ItemResource items = new ItemResource("mockToken") {
+            @Override
+            public <T> CompletableFuture<T> getAsync(QueryRequest request, ResponseDecoder<T> decoder) {
+                sent.add(request);
+                return decode(decoder, """
+                        {"data":{"items":[{"id":"2","name":"Second"},{"id":"1","name":"First"}]}}""");
+            }
+        };
+        IdBatcher<Optional<Item>> batcher = IdBatcher.newBuilder(items::fetchItemsAsync)
+                .flushInterval(Duration.ofHours(1))
+                .build();
+
+        // Act
+        CompletableFuture<Optional<Item>> first = batcher.load("1");
+        CompletableFuture<Optional<Item>> second = batcher.load("2");
+        CompletableFuture<Optional<Item>> again = batcher.load("1");
+        CompletableFuture<Optional<Item>> missing = batcher.load("3");
+        batcher.flush().join();
+
+        // Assert
+        assertEquals(1, sent.size());
+        assertEquals(List.of("1", "2", "3"), sent.get(0).variables().get("itemIds"));
+        assertEquals(3, sent.get(0).variables().get("limit"));
+        assertEquals("First", first.join().orElseThrow().name());
+        assertEquals("Second", second.join().orElseThrow().name());
+        assertEquals("First", again.join().orElseThrow().name());
+        assertTrue(missing.join().isEmpty());
+        batcher.close();
+    }
+
+    @Test
+    void testLoad_SendsAsSoonAsBatchIsFull() {
+        // Arrange
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+        IdBatcher<String> batcher = IdBatcher.<String>newBuilder(ids -> {
+                    batches.add(ids);
+                    return CompletableFuture.completedFuture(
+                            ids.stream().collect(Collectors.toMap(id -> id, id -> "item " + id)));
+                })
+                .maxBatchSize(2)
+                .flushInterval(Duration.ofHours(1))
+                .build();
+
+        // Act
+        CompletableFuture<String> first = batcher.load("1");
+        CompletableFuture<String> second = batcher.load("2");
+        batcher.load("3");
+
+        // Assert
+        assertEquals(List.of(List.of("1", "2")), batches);
+        assertEquals("item 1", first.join());
+        assertEquals("item 2", second.join());
+        assertEquals(1, batcher.pendingCount());
+        batcher.close();
+        assertEquals(List.of("3"), batches.get(1));
+    }
+
+    @Test
+    void testUpdatesBatcher_SplitsUpdatesPerItem() {
+        // Arrange
+        List<QueryRequest> sent = new CopyOnWriteArrayList<>();
+        UpdateResource updates = new UpdateResource("mockToken") {
+            @Override
+            public <T> CompletableFuture<T> getAsync(QueryRequest request, ResponseDecoder<T> decoder) {
+                sent.add(request);
+                return decode(decoder, """
+                        {"data":{"items":[
+                          {"id":"1","updates":[{"id":"11","body":"a"},{"id":"12","body":"b"}]},
+                          {"id":"2","updates":[]}
+                        ]}}""");
+            }
+        };
+        IdBatcher<List<Update>> batcher = updates.newUpdatesBatcher(5);
+
+        // Act
+        CompletableFuture<List<Update>> first = batcher.load("1");
+        CompletableFuture<List<Update>> second = batcher.load("2");
+        batcher.flush().join();
+
+        // Assert
+        assertEquals(1, sent.size());
+        assertEquals(5, sent.get(0).variables().get("limit"));
+        assertEquals(List.of("11", "12"), first.join().stream().map(Update::id).toList());
+        assertTrue(second.join().isEmpty());
+        batcher.close();
+    }
+
+    private static <T> CompletableFuture<T> decode(final ResponseDecoder<T> decoder, final String body) {
+        try {
+            return CompletableFuture.completedFuture(
+                    decoder.decode(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.resources;
+
+import org.http.MondayApiException;
+import org.junit.jupiter.api.Test;
+import org.query.QueryRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WriteBehindBufferTest {
+
+    private static final String CHANGED = "{\"data\":{\"change_multiple_column_values\":{\"id\":\"1\"}}}";
+
+    @Test
+    void testWrites_ToSameItemMergeIntoOneMutationAndLaterWriteWins() throws Exception {
+        // Arrange
+        List<QueryRequest> sent = new CopyOnWriteArrayList<>();
+        ItemResource items = new ItemResource("mockToken") {
+            @Override
+            public CompletableFuture<String> getAsync(QueryRequest request) {
+                sent.add(request);
+                return CompletableFuture.completedFuture(CHANGED);
+            }
+        };
+        WriteBehindBuffer buffer = WriteBehindBuffer.newBuilder(items).window(Duration.ofHours(1)).build();
+
+        // Act
+        CompletableFuture<String> status = buffer.changeItemValue("10", "1", "status", "Working on it");
+        CompletableFuture<String> text = buffer.changeItemValue("10", "1", "text", "Draft");
+        CompletableFuture<String> again = buffer.changeMultiplesColumnValues("10", "1", "{\"status\":\"Done\"}");
+        CompletableFuture<String> other = buffer.changeItemValue("10", "2", "status", "Stuck");
+        buffer.close();
+
+        // Assert
+        assertEquals(2, sent.size());
+        assertEquals("1", sent.get(0).variables().get("itemId"));
+        assertEquals("{\"status\":\"Done\",\"text\":\"Draft\"}", sent.get(0).variables().get("columnValues"));
+        assertEquals("{\"status\":\"Stuck\"}", sent.get(1).variables().get("columnValues"));
+        assertEquals(CHANGED, status.join());
+        assertEquals(CHANGED, text.join());
+        assertEquals(CHANGED, again.join());
+        assertEquals(CHANGED, other.join());
+        assertEquals(0, buffer.bufferedWrites());
+    }
+
+    @Test
+    void testWrite_BlocksWhileBufferIsFull() throws Exception {
+        // Arrange
+        CompletableFuture<String> response = new CompletableFuture<>();
+        List<QueryRequest> sent = new CopyOnWriteArrayList<>();
+        ItemResource items = new ItemResource("mockToken") {
+            @Override
+            public CompletableFuture<String> getAsync(QueryRequest request) {
+                sent.add(request);
+                return response;
+            }
+        };
+        WriteBehindBuffer buffer = WriteBehindBuffer.newBuilder(items)
+                .window(Duration.ofHours(1))
+                .maxBufferedWrites(2)
+                .build();
+        buffer.changeItemValue("10", "1", "status", "Done");
+        buffer.changeItemValue("10", "2", "status", "Done");
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+
+        // Act
+        Future<CompletableFuture<String>> blocked = writer.submit(() -> buffer.changeItemValue("10", "3", "status", "Done"));
+
+        // Assert
+        assertThrows(TimeoutException.class, () -> blocked.get(200, TimeUnit.MILLISECONDS));
+        assertEquals(2, sent.size());
+        response.complete(CHANGED);
+        CompletableFuture<String> third = blocked.get(10, TimeUnit.SECONDS);
+        assertFalse(third.isDone());
+        buffer.close();
+        assertEquals(CHANGED, third.join());
+        assertEquals(3, sent.size());
+        writer.shutdown();
+    }
+
+    @Test
+    void testWrites_ToItemOnTheWireWaitForItsMutationToBeAnswered() throws Exception {
+        // Arrange
+        List<CompletableFuture<String>> responses = new CopyOnWriteArrayList<>();
+        List<QueryRequest> sent = new CopyOnWriteArrayList<>();
+        ItemResource items = new ItemResource("mockToken") {
+            @Override
+            public CompletableFuture<String> getAsync(QueryRequest request) {
+                sent.add(request);
+                CompletableFuture<String> response = new CompletableFuture<>();
+                responses.add(response);
+                return response;
+            }
+        };
+        WriteBehindBuffer buffer = WriteBehindBuffer.newBuilder(items).window(Duration.ofHours(1)).build();
+
+        // Act
+        CompletableFuture<String> first = buffer.changeItemValue("10", "1", "status", "Working on it");
+        buffer.flush();
+        CompletableFuture<String> second = buffer.changeItemValue("10", "1", "status", "Done");
+        CompletableFuture<String> other = buffer.changeItemValue("10", "2", "status", "Stuck");
+        buffer.flush();
+
+        // Assert
+        assertEquals(2, sent.size());
+        assertEquals("2", sent.get(1).variables().get("itemId"));
+        responses.get(0).complete(CHANGED);
+        assertEquals(CHANGED, first.join());
+        assertEquals(3, sent.size());
+        assertEquals("{\"status\":\"Done\"}", sent.get(2).variables().get("columnValues"));
+        responses.get(1).complete(CHANGED);
+        responses.get(2).complete(CHANGED);
+        assertEquals(CHANGED, second.join());
+        assertEquals(CHANGED, other.join());
+        buffer.close();
+    }
+
+    @Test
+    void testWrite_FailsWithReportedError() throws Exception {
+        // Arrange
+        ItemResource items = new ItemResource("mockToken") {
+            @Override
+            public CompletableFuture<String> getAsync(QueryRequest request) {
+                return CompletableFuture.completedFuture("{\"errors\":[{\"message\":\"Column not found\"}]}");
+            }
+        };
+        WriteBehindBuffer buffer = WriteBehindBuffer.newBuilder(items).build();
+
+        // Act
+        CompletableFuture<String> write = buffer.changeItemValue("10", "1", "missing", "Done");
+        buffer.flush().join();
+
+        // Assert
+        CompletionException error = assertThrows(CompletionException.class, write::join);
+        assertInstanceOf(MondayApiException.class, error.getCause());
+        buffer.close();
+    }
+}